@@ -0,0 +1,86 @@
+package com.athena.api.config;
+
+import com.athena.core.client.AnthropicClaudeClient;
+import com.athena.core.client.CircuitBreaker;
+import com.athena.core.client.LlmResponseCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Micrometer metrics for the Claude API client's overload handling and response cache.
+ *
+ * Gauges:
+ * - athena.claude.concurrency.limit: Current adaptive concurrency limit
+ * - athena.claude.concurrency.in_flight: Calls in flight
+ * - athena.claude.circuit.state: 0 closed, 1 half-open, 2 open
+ * - athena.claude.circuit.consecutive_throttled: Throttled responses since the last success
+ *
+ * Counters:
+ * - athena.claude.throttled: Rate-limited (429) and overloaded (503/529) responses
+ * - athena.claude.circuit.opened: Times the circuit breaker has opened
+ * - athena.llm_cache.hits.memory: Responses served from the in-memory cache
+ * - athena.llm_cache.hits.database: Responses served from the llm_response_cache table
+ * - athena.llm_cache.misses: Lookups that found no cached response (including failed lookups)
+ */
+@Configuration
+public class ClaudeClientMetricsConfig {
+
+    @Bean
+    public MeterBinder claudeClientMetrics(AnthropicClaudeClient claudeClient) {
+        return registry -> {
+            Gauge.builder("athena.claude.concurrency.limit", claudeClient,
+                            client -> client.getConcurrencyLimiter().getLimit())
+                    .description("Adaptive concurrency limit of Claude API calls")
+                    .register(registry);
+            Gauge.builder("athena.claude.concurrency.in_flight", claudeClient,
+                            client -> client.getConcurrencyLimiter().getInFlight())
+                    .description("Claude API calls in flight")
+                    .register(registry);
+            Gauge.builder("athena.claude.circuit.state", claudeClient,
+                            client -> circuitStateValue(client.getCircuitBreaker().getState()))
+                    .description("Claude API circuit breaker state (0 closed, 1 half-open, 2 open)")
+                    .register(registry);
+            Gauge.builder("athena.claude.circuit.consecutive_throttled", claudeClient,
+                            client -> client.getCircuitBreaker().getConsecutiveFailures())
+                    .description("Throttled Claude API responses since the last success")
+                    .register(registry);
+            FunctionCounter.builder("athena.claude.throttled", claudeClient,
+                            AnthropicClaudeClient::getThrottledResponseCount)
+                    .description("Rate-limited and overloaded Claude API responses")
+                    .register(registry);
+            FunctionCounter.builder("athena.claude.circuit.opened", claudeClient,
+                            client -> client.getCircuitBreaker().getOpenedCount())
+                    .description("Times the Claude API circuit breaker has opened")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder llmResponseCacheMetrics(LlmResponseCache responseCache) {
+        return registry -> {
+            FunctionCounter.builder("athena.llm_cache.hits.memory", responseCache,
+                            cache -> cache.getStats().memoryHits())
+                    .description("Claude responses served from the in-memory cache")
+                    .register(registry);
+            FunctionCounter.builder("athena.llm_cache.hits.database", responseCache,
+                            cache -> cache.getStats().databaseHits())
+                    .description("Claude responses served from the database cache")
+                    .register(registry);
+            FunctionCounter.builder("athena.llm_cache.misses", responseCache,
+                            cache -> cache.getStats().misses())
+                    .description("Claude response cache lookups without a cached response")
+                    .register(registry);
+        };
+    }
+
+    static double circuitStateValue(CircuitBreaker.State state) {
+        return switch (state) {
+            case CLOSED -> 0;
+            case HALF_OPEN -> 1;
+            case OPEN -> 2;
+        };
+    }
+}
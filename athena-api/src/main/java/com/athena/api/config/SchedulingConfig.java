@@ -0,0 +1,18 @@
+package com.athena.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration for scheduled tasks (@Scheduled) of the API application.
+ *
+ * The API application scans com.athena.api and com.athena.core only, so athena-tasks'
+ * SchedulingConfig does not apply here.
+ *
+ * Scheduled tasks:
+ * - LLM response cache purge of expired entries (3:30 AM daily, athena.llm-cache.purge-cron)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
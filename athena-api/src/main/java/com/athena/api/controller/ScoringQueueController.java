@@ -0,0 +1,39 @@
+package com.athena.api.controller;
+
+import com.athena.core.dto.ScoringQueueEntryResponseDTO;
+import com.athena.core.dto.ScoringQueueStatusDTO;
+import com.athena.core.service.ScoringQueueService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for the AI scoring queue.
+ * Shows the backlog waiting for Claude scoring, in the order it will be scored.
+ */
+@RestController
+@RequestMapping("/api/scoring-queue")
+@Tag(name = "Scoring Queue", description = "AI scoring backlog endpoints")
+public class ScoringQueueController {
+
+    private final ScoringQueueService scoringQueueService;
+
+    public ScoringQueueController(ScoringQueueService scoringQueueService) {
+        this.scoringQueueService = scoringQueueService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get scoring queue status", description = "Retrieve queue depth, notices due within a week and the estimated drain time")
+    public ResponseEntity<ScoringQueueStatusDTO> getStatus() {
+        return ResponseEntity.ok(scoringQueueService.getStatus());
+    }
+
+    @GetMapping("/next")
+    @Operation(summary = "Get next queued opportunities", description = "Retrieve the highest-priority opportunities waiting for AI scoring")
+    public ResponseEntity<List<ScoringQueueEntryResponseDTO>> findNext(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(scoringQueueService.findNext(limit));
+    }
+}
@@ -1,5 +1,6 @@
 package com.athena.api.controller;
 
+import com.athena.core.dto.ImportManifestEntryResponseDTO;
 import com.athena.core.dto.SyncLogCreateDTO;
 import com.athena.core.dto.SyncLogResponseDTO;
 import com.athena.core.dto.SyncLogUpdateDTO;
@@ -101,4 +102,17 @@ public class SyncLogController {
     public ResponseEntity<List<SyncLogResponseDTO>> findFailedSyncs() {
         return ResponseEntity.ok(syncLogService.findFailedSyncs());
     }
+
+    @GetMapping("/import-manifest")
+    @Operation(summary = "Get import manifest", description = "Retrieve files already processed by incremental imports of a source")
+    public ResponseEntity<List<ImportManifestEntryResponseDTO>> findImportManifest(
+            @RequestParam(defaultValue = "SAM_GOV") String source) {
+        return ResponseEntity.ok(syncLogService.findImportManifest(source));
+    }
+
+    @GetMapping("/{id}/import-manifest")
+    @Operation(summary = "Get files imported by sync run", description = "Retrieve files last imported by a specific sync run")
+    public ResponseEntity<List<ImportManifestEntryResponseDTO>> findImportManifestBySyncLog(@PathVariable UUID id) {
+        return ResponseEntity.ok(syncLogService.findImportManifestBySyncLog(id));
+    }
 }
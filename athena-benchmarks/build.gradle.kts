@@ -0,0 +1,30 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+dependencies {
+    jmh(project(":athena-core"))
+
+    // Types used by the benchmarked code (athena-core declares these as implementation)
+    jmh("org.springframework.boot:spring-boot-starter-data-jpa:3.2.0")
+    jmh("org.springframework.boot:spring-boot-starter-webflux:3.2.0")
+    jmh("com.fasterxml.jackson.core:jackson-databind:2.15.3")
+    jmh("com.fasterxml.jackson.datatype:jackson-datatype-jsr310:2.15.3")
+}
+
+// Dataset sizes, e.g. ./gradlew :athena-benchmarks:jmh -PbenchmarkSizes=1000,100000
+val benchmarkSizes = (findProperty("benchmarkSizes") as String?)
+    ?.split(",")
+    ?.map { it.trim() }
+
+jmh {
+    jmhVersion.set("1.37")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    resultFormat.set("JSON")
+    if (benchmarkSizes != null) {
+        benchmarkParameters.put("size", objects.listProperty(String::class.java).value(benchmarkSizes))
+    }
+    (findProperty("benchmarkIncludes") as String?)?.let { includes.set(listOf(it)) }
+}
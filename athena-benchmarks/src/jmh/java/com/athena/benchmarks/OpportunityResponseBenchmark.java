@@ -0,0 +1,53 @@
+package com.athena.benchmarks;
+
+import com.athena.core.dto.OpportunityResponseDTO;
+import com.athena.core.entity.Opportunity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API response path for opportunity listings.
+ *
+ * - fromEntity: OpportunityResponseDTO.fromEntity over a page of entities
+ * - serialize: JSON serialization of the mapped DTOs, configured like the API's ObjectMapper
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OpportunityResponseBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<Opportunity> opportunities;
+    private List<OpportunityResponseDTO> responses;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        opportunities = SyntheticData.opportunities(size);
+        responses = opportunities.stream().map(OpportunityResponseDTO::fromEntity).toList();
+    }
+
+    @Benchmark
+    public void fromEntity(Blackhole blackhole) {
+        for (Opportunity opportunity : opportunities) {
+            blackhole.consume(OpportunityResponseDTO.fromEntity(opportunity));
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+}
@@ -0,0 +1,55 @@
+package com.athena.benchmarks;
+
+import com.athena.core.dto.SamGovOpportunityDto;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson parsing of SAM.gov opportunity arrays.
+ *
+ * - bindArray: whole-array binding, as done by SamGovDataLoader
+ * - streamArray: element-by-element streaming, as done by SamGovOpportunityItemReader
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SamGovParsingBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        json = SyntheticData.samGovJson(size).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<SamGovOpportunityDto> bindArray() throws IOException {
+        return objectMapper.readValue(json, new TypeReference<List<SamGovOpportunityDto>>() {});
+    }
+
+    @Benchmark
+    public void streamArray(Blackhole blackhole) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            parser.nextToken(); // START_ARRAY
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                blackhole.consume(objectMapper.readValue(parser, SamGovOpportunityDto.class));
+            }
+        }
+    }
+}
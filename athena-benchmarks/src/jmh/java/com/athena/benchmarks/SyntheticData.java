@@ -0,0 +1,215 @@
+package com.athena.benchmarks;
+
+import com.athena.core.entity.Agency;
+import com.athena.core.entity.Opportunity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic synthetic datasets for the benchmarks.
+ *
+ * Records are shaped like SAM.gov opportunity extracts (same field names, realistic value
+ * lengths) and generated from a fixed seed, so runs are comparable across commits.
+ */
+public final class SyntheticData {
+
+    public static final long SEED = 42L;
+
+    private static final String[] DEPARTMENTS = {
+        "Department of Defense",
+        "Department of Health and Human Services",
+        "Department of Homeland Security",
+        "Department of Veterans Affairs",
+        "General Services Administration",
+        "National Aeronautics and Space Administration",
+        "Department of the Interior",
+        "Department of Energy",
+        "Department of Transportation",
+        "Department of Justice"
+    };
+
+    private static final String[] SUB_TIERS = {
+        "Department of the Army", "Department of the Navy", "Defense Logistics Agency",
+        "Centers for Disease Control", "Federal Emergency Management Agency", "Veterans Health Administration"
+    };
+
+    private static final String[] NOTICE_TYPES = {
+        "Presolicitation", "Solicitation", "Combined Synopsis/Solicitation", "Sources Sought", "Award Notice"
+    };
+
+    private static final String[] SET_ASIDES = {"SBA", "8A", "SDVOSBC", "WOSB", "HZC", null};
+
+    private static final String[] WORDS = {
+        "cloud", "migration", "services", "support", "enterprise", "cybersecurity", "network",
+        "modernization", "maintenance", "logistics", "engineering", "analytics", "platform",
+        "infrastructure", "training", "operations", "software", "hardware", "facility", "research"
+    };
+
+    private SyntheticData() {
+    }
+
+    /**
+     * SAM.gov opportunity records as a JSON array.
+     *
+     * @param size number of records
+     * @return JSON array text
+     */
+    public static String samGovJson(int size) {
+        try {
+            return new ObjectMapper().writeValueAsString(samGovRecords(size));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to render synthetic SAM.gov records", e);
+        }
+    }
+
+    /**
+     * SAM.gov opportunity records as generic maps (field names as in the extracts).
+     *
+     * @param size number of records
+     * @return records
+     */
+    public static List<Map<String, Object>> samGovRecords(int size) {
+        Random random = new Random(SEED);
+        LocalDate baseDate = LocalDate.of(2025, 1, 1);
+        List<Map<String, Object>> records = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("noticeId", UUID.nameUUIDFromBytes(("notice-" + i).getBytes()).toString().replace("-", ""));
+            record.put("solicitationNumber", "SOL-" + (2025_00000 + i));
+            record.put("title", sentence(random, 6 + random.nextInt(8)));
+            record.put("description", sentence(random, 150 + random.nextInt(350)));
+            record.put("department", pick(random, DEPARTMENTS));
+            record.put("subTier", pick(random, SUB_TIERS));
+            record.put("office", "Office " + (100 + random.nextInt(900)));
+            record.put("postedDate", baseDate.plusDays(random.nextInt(180)).toString());
+            record.put("responseDeadLine", baseDate.plusDays(180 + random.nextInt(90)).toString());
+            record.put("naicsCode", String.valueOf(541000 + random.nextInt(1000)));
+            record.put("setAside", pick(random, SET_ASIDES));
+            record.put("type", pick(random, NOTICE_TYPES));
+            record.put("classificationCode", "D3" + random.nextInt(10));
+            record.put("active", random.nextInt(10) == 0 ? "No" : "Yes");
+            record.put("archive", "No");
+            record.put("uiLink", "https://sam.gov/opp/" + record.get("noticeId") + "/view");
+            record.put("placeOfPerformance", Map.of(
+                "city", "Arlington",
+                "state", "VA",
+                "country", "USA",
+                "zip", "22202"));
+            record.put("pointOfContact", List.of(Map.of(
+                "type", "primary",
+                "fullName", "Contracting Officer " + i,
+                "email", "co" + i + "@agency.gov",
+                "phone", "555-555-" + String.format("%04d", i % 10000))));
+            records.add(record);
+        }
+        return records;
+    }
+
+    /**
+     * Opportunity entities as loaded from the database (IDs and timestamps set).
+     *
+     * @param size number of entities
+     * @return entities
+     */
+    public static List<Opportunity> opportunities(int size) {
+        Random random = new Random(SEED);
+        Instant now = Instant.parse("2025-06-01T00:00:00Z");
+        List<Agency> agencies = new ArrayList<>();
+        for (String department : DEPARTMENTS) {
+            Agency agency = new Agency();
+            agency.setId(UUID.nameUUIDFromBytes(department.getBytes()));
+            agency.setName(department);
+            agencies.add(agency);
+        }
+
+        List<Opportunity> opportunities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Opportunity opportunity = new Opportunity();
+            opportunity.setId(UUID.nameUUIDFromBytes(("opportunity-" + i).getBytes()));
+            opportunity.setNoticeId("N-" + i);
+            opportunity.setTitle(sentence(random, 6 + random.nextInt(8)));
+            opportunity.setSolicitationNumber("SOL-" + (2025_00000 + i));
+            opportunity.setAgency(agencies.get(random.nextInt(agencies.size())));
+            opportunity.setOfficeName("Office " + (100 + random.nextInt(900)));
+            opportunity.setNoticeType(pick(random, NOTICE_TYPES));
+            opportunity.setNaicsCode(String.valueOf(541000 + random.nextInt(1000)));
+            opportunity.setSetAside(pick(random, SET_ASIDES));
+            opportunity.setPostedDate(LocalDate.of(2025, 1, 1).plusDays(random.nextInt(180)));
+            opportunity.setResponseDeadline(now.plus(random.nextInt(90), ChronoUnit.DAYS));
+            opportunity.setDescription(sentence(random, 150 + random.nextInt(350)));
+            opportunity.setUiLink("https://sam.gov/opp/N-" + i + "/view");
+            opportunity.setPlaceOfPerformanceCity("Arlington");
+            opportunity.setPlaceOfPerformanceState("VA");
+            opportunity.setPlaceOfPerformanceCountry("USA");
+            opportunity.setIsActive(true);
+            opportunity.setCreatedAt(now);
+            opportunity.setUpdatedAt(now);
+            opportunities.add(opportunity);
+        }
+        return opportunities;
+    }
+
+    /**
+     * Claude scoring responses in the JSON format (overall score and three dimensions).
+     *
+     * @param size number of responses
+     * @return responses
+     */
+    public static List<String> scoreResponses(int size) {
+        Random random = new Random(SEED);
+        List<String> responses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            responses.add("{\"overall\": " + dimension(random, 60 + random.nextInt(120))
+                + ", \"relevance\": " + dimension(random, 15 + random.nextInt(20))
+                + ", \"win_probability\": " + dimension(random, 15 + random.nextInt(20))
+                + ", \"strategic_fit\": " + dimension(random, 15 + random.nextInt(20)) + "}");
+        }
+        return responses;
+    }
+
+    /**
+     * Agency names (department and sub-tier names, with whitespace variations).
+     *
+     * @param size number of names
+     * @return names
+     */
+    public static List<String> agencyNames(int size) {
+        Random random = new Random(SEED);
+        List<String> names = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = random.nextBoolean() ? pick(random, DEPARTMENTS) : pick(random, SUB_TIERS);
+            names.add(random.nextInt(4) == 0 ? "  " + name.replace(" ", "  ") + " " : name);
+        }
+        return names;
+    }
+
+    private static String dimension(Random random, int rationaleWords) {
+        return "{\"score\": " + random.nextInt(101) + ", \"rationale\": \"" + sentence(random, rationaleWords) + "\"}";
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder text = new StringBuilder(words * 9);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
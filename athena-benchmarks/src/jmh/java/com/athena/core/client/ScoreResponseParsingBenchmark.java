@@ -0,0 +1,38 @@
+package com.athena.core.client;
+
+import com.athena.benchmarks.SyntheticData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AnthropicClaudeClient.parseScoreResponse over synthetic JSON scoring responses.
+ * Lives in the client package to reach the package-private parser; no request is sent.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScoreResponseParsingBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private AnthropicClaudeClient client;
+    private List<String> responses;
+
+    @Setup
+    public void setUp() {
+        client = new AnthropicClaudeClient("benchmark", "http://localhost", "benchmark", 0, 0, LlmResponseCache.disabled(), new ObjectMapper());
+        responses = SyntheticData.scoreResponses(size);
+    }
+
+    @Benchmark
+    public void parseScoreResponse(Blackhole blackhole) {
+        for (String response : responses) {
+            blackhole.consume(client.parseScoreResponse(response));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.athena.core.loader;
+
+import com.athena.benchmarks.SyntheticData;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agency name handling on the import path: abbreviation generation for new agencies and
+ * name normalization for the AgencyResolver cache key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AgencyAbbreviationBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private List<String> names;
+
+    @Setup
+    public void setUp() {
+        names = SyntheticData.agencyNames(size);
+    }
+
+    @Benchmark
+    public void generateAbbreviation(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(AgencyResolver.generateAbbreviation(name));
+        }
+    }
+
+    @Benchmark
+    public void normalize(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(AgencyResolver.normalize(name));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.athena.core.loader;
+
+import com.athena.benchmarks.SyntheticData;
+import com.athena.core.dto.SamGovOpportunityDto;
+import com.athena.core.entity.Agency;
+import com.athena.core.repository.AgencyRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SamGovDataLoader.convertToEntity over parsed SAM.gov records: field mapping, agency
+ * resolution (warm AgencyResolver cache), content hashing and point of contact mapping.
+ *
+ * The agency repository is an in-memory stand-in preloaded with every synthetic department,
+ * so the measurement contains no database access.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OpportunityMappingBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private SamGovDataLoader dataLoader;
+    private List<SamGovOpportunityDto> dtos;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        dtos = objectMapper.readValue(SyntheticData.samGovJson(size), new TypeReference<List<SamGovOpportunityDto>>() {});
+
+        Map<UUID, Agency> agencies = new HashMap<>();
+        for (SamGovOpportunityDto dto : dtos) {
+            UUID id = UUID.nameUUIDFromBytes(dto.getDepartment().getBytes());
+            agencies.computeIfAbsent(id, key -> {
+                Agency agency = new Agency();
+                agency.setId(key);
+                agency.setName(dto.getDepartment());
+                return agency;
+            });
+        }
+
+        AgencyResolver agencyResolver = new AgencyResolver(inMemoryAgencyRepository(agencies), unusedTransactionManager());
+        // Repositories are only used by loadOpportunitiesFromFile, not by convertToEntity
+        dataLoader = new SamGovDataLoader(null, agencyResolver, null);
+    }
+
+    @Benchmark
+    public void convertToEntity(Blackhole blackhole) {
+        for (SamGovOpportunityDto dto : dtos) {
+            blackhole.consume(dataLoader.convertToEntity(dto));
+        }
+    }
+
+    private static AgencyRepository inMemoryAgencyRepository(Map<UUID, Agency> agencies) {
+        return (AgencyRepository) Proxy.newProxyInstance(
+            AgencyRepository.class.getClassLoader(),
+            new Class<?>[] {AgencyRepository.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findAll" -> List.copyOf(agencies.values());
+                case "getReferenceById" -> agencies.get((UUID) args[0]);
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> "InMemoryAgencyRepository";
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    private static PlatformTransactionManager unusedTransactionManager() {
+        return (PlatformTransactionManager) Proxy.newProxyInstance(
+            PlatformTransactionManager.class.getClassLoader(),
+            new Class<?>[] {PlatformTransactionManager.class},
+            (proxy, method, args) -> {
+                throw new UnsupportedOperationException("All agencies are preloaded");
+            });
+    }
+}
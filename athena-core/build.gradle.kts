@@ -17,6 +17,12 @@ dependencies {
     // JSON processing (for SAM.gov file parsing and API responses)
     implementation("com.fasterxml.jackson.core:jackson-databind:2.15.3")
 
+    // Metrics (Claude API call latency, tokens and cost)
+    implementation("io.micrometer:micrometer-core:1.12.1")
+
+    // Zstandard decompression (for compressed SAM.gov extracts)
+    implementation("com.github.luben:zstd-jni:1.5.5-11")
+
     // PostgreSQL + pgvector
     implementation("org.postgresql:postgresql:42.7.1")
 
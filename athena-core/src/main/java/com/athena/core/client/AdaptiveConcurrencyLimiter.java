@@ -0,0 +1,150 @@
+package com.athena.core.client;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit for calls to an API, adapted to throttling with AIMD.
+ *
+ * The limit starts at the maximum and moves between the minimum and the maximum:
+ * - Additive increase: each successful call raises it by 1/limit, so about one per full
+ *   round of successful calls
+ * - Multiplicative decrease: a throttled call (429 or overloaded) halves it, at most once
+ *   per cooldown, so a burst of rejections from the same round counts once
+ *
+ * Every admitted call must report exactly one outcome (onSuccess, onThrottled, onFailure
+ * or onDropped), which frees its slot.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final Duration DEFAULT_DECREASE_COOLDOWN = Duration.ofSeconds(1);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long decreaseCooldownNanos;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double limit;
+    private int inFlight;
+    private long lastDecreaseNanos;
+    private boolean decreased;
+
+    public AdaptiveConcurrencyLimiter(int minLimit, int maxLimit) {
+        this(minLimit, maxLimit, DEFAULT_DECREASE_COOLDOWN, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int minLimit, int maxLimit, Duration decreaseCooldown, LongSupplier nanoClock) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid concurrency limits: min " + minLimit + ", max " + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.decreaseCooldownNanos = decreaseCooldown.toNanos();
+        this.nanoClock = nanoClock;
+        this.limit = maxLimit;
+    }
+
+    /**
+     * Take a slot if fewer calls than the current limit are in flight.
+     *
+     * @return true if the call may start
+     */
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (inFlight >= (int) limit) {
+                return false;
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The call succeeded: free its slot and raise the limit.
+     */
+    public void onSuccess() {
+        lock.lock();
+        try {
+            release();
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The call was rate limited or rejected as overloaded: free its slot and halve the limit.
+     */
+    public void onThrottled() {
+        lock.lock();
+        try {
+            release();
+            long now = nanoClock.getAsLong();
+            if (!decreased || now - lastDecreaseNanos >= decreaseCooldownNanos) {
+                limit = Math.max(minLimit, limit / 2);
+                lastDecreaseNanos = now;
+                decreased = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The call failed for another reason: free its slot, limit unchanged.
+     */
+    public void onFailure() {
+        lock.lock();
+        try {
+            release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The call was not made or was cancelled: free its slot, limit unchanged.
+     */
+    public void onDropped() {
+        onFailure();
+    }
+
+    /**
+     * Current concurrency limit (calls admitted at once).
+     *
+     * @return limit between the minimum and the maximum
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Calls currently in flight.
+     *
+     * @return in-flight count
+     */
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        if (inFlight > 0) {
+            inFlight--;
+        }
+    }
+}
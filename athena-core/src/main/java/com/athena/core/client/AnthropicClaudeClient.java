@@ -1,21 +1,42 @@
 package com.athena.core.client;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.retry.Retry;
 
+import java.io.IOException;
+import java.net.URI;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
 
 /**
  * HTTP client for Anthropic Claude API.
@@ -24,32 +45,145 @@ import java.util.Map;
  * - AI opportunity scoring (analyze opportunities and assign scores)
  * - Capture strategy generation (create win strategies)
  * - Competitive analysis (analyze competitors)
+ * - Bulk scoring through the Message Batches API (submit, poll, download results)
  *
- * Uses Spring WebClient for reactive HTTP calls with retry logic and error handling.
+ * Uses Spring WebClient for reactive HTTP calls with retry logic and error handling. Each
+ * operation has a blocking form and an ...Async form returning a Mono, which holds no
+ * thread while the call is in flight.
+ *
+ * The client is safe to call from many threads at once (e.g. the concurrent scoring step).
+ * All calls share one TokenBucketRateLimiter, so the combined request and token rate stays
+ * under the account's limits instead of each caller running into 429s:
+ * - Before a call, its tokens are estimated (prompt length / 4 + max_tokens) and taken
+ * - After a call, the estimate is corrected with the usage reported by the API
+ *
+ * Prompt caching: the instructions and the company text (capabilities or strengths), which
+ * are the same for every opportunity, are sent as a system block marked with cache_control.
+ * Calls within 5 minutes of each other read that prefix from the cache, and only the
+ * opportunity-specific user message is billed as fresh input. Cache reads and writes are
+ * reported per call (OpportunityScoreResult.getUsage) and in getUsageTotals. Prefixes
+ * shorter than the model's minimum (1024 tokens for Sonnet) are simply not cached.
+ *
+ * Response caching: interactive calls go through LlmResponseCache first, so a request
+ * identical to an earlier one (e.g. a reposted solicitation) returns the stored response.
+ *
+ * Overload handling:
+ * - 429 (rate limited) and 503/529 (overloaded) are retried after the server's retry-after,
+ *   other 5xx and timeouts with jittered exponential backoff; other 4xx are not retried
+ * - Interactive calls run under an AdaptiveConcurrencyLimiter, which halves the number of
+ *   calls in flight when throttled and grows it back as calls succeed (AIMD)
+ * - A CircuitBreaker opens after consecutive throttled responses; while it is open, calls
+ *   fail fast with ClaudeCircuitOpenException (carrying when to try again) instead of
+ *   adding load, and the scoring job pauses
+ *
+ * Metrics: every call records its duration, token usage, estimated cost, retries and
+ * failures in the application's MeterRegistry, tagged by operation and model (see
+ * ClaudeCallMetrics).
  *
  * Configuration:
  * - anthropic.api.key: API key from application.yml
  * - anthropic.api.base-url: Base URL (default: https://api.anthropic.com)
  * - anthropic.api.model: Model to use (default: claude-3-5-sonnet-20241022)
+ * - anthropic.api.rate-limit.requests-per-minute: Request limit (default: 50, 0 disables)
+ * - anthropic.api.rate-limit.tokens-per-minute: Input plus output token limit (default: 40000, 0 disables)
+ * - anthropic.api.concurrency.min / max: Bounds of the adaptive concurrency limit (default: 1 / 16)
+ * - anthropic.api.circuit-breaker.failure-threshold: Throttled responses in a row that open the circuit (default: 5)
+ * - anthropic.api.circuit-breaker.open-duration: How long the circuit stays open (default: PT1M)
  */
 @Component
 public class AnthropicClaudeClient {
 
     private static final Logger logger = LoggerFactory.getLogger(AnthropicClaudeClient.class);
 
+    private static final int CHARS_PER_TOKEN = 4;
+
+    private static final int MAX_RETRIES = 3;
+    private static final Duration FIRST_BACKOFF = Duration.ofSeconds(2);
+    private static final Duration MAX_RETRY_AFTER = Duration.ofMinutes(1);
+    private static final Duration ATTEMPT_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration SLOT_POLL_INTERVAL = Duration.ofMillis(50);
+
+    /**
+     * Dimensions scored along with the overall score in one call (JSON response), in the
+     * order requested. Stored as opportunity score types of the same name.
+     */
+    public static final List<String> SCORE_DIMENSIONS = List.of("relevance", "win_probability", "strategic_fit");
+
+    private static final Pattern NUMERIC_SCORE = Pattern.compile("\\d+(\\.\\d+)?");
+
+    private static final String SCORING_SYSTEM_PROMPT =
+        "You are an expert federal contract analyst. Your role is to evaluate " +
+        "government contracting opportunities and score them based on fit, win probability, and strategic value.";
+
+    private static final String CAPTURE_STRATEGY_SYSTEM_PROMPT =
+        "You are an expert capture manager specializing in federal government contracts. " +
+        "Your role is to develop winning strategies for government proposals.";
+
+    private static final List<TextBlock> COMPETITOR_ANALYSIS_SYSTEM = List.of(TextBlock.cached(
+        "You are a competitive intelligence analyst specializing in federal government contracting.\n\n" +
+        "Provide analysis of competitor strengths, weaknesses, and our positioning strategy."));
+
     private final WebClient webClient;
     private final String apiKey;
     private final String model;
     private final ObjectMapper objectMapper;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final LlmResponseCache responseCache;
+    private final ClaudeCallMetrics metrics;
+    private final ObjectReader batchResultReader;
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong inputTokens = new AtomicLong();
+    private final AtomicLong outputTokens = new AtomicLong();
+    private final AtomicLong cacheCreationInputTokens = new AtomicLong();
+    private final AtomicLong cacheReadInputTokens = new AtomicLong();
+    private final AtomicLong throttledResponses = new AtomicLong();
 
+    @Autowired
     public AnthropicClaudeClient(
             @Value("${anthropic.api.key}") String apiKey,
             @Value("${anthropic.api.base-url:https://api.anthropic.com}") String baseUrl,
             @Value("${anthropic.api.model:claude-3-5-sonnet-20241022}") String model,
+            @Value("${anthropic.api.rate-limit.requests-per-minute:50}") int requestsPerMinute,
+            @Value("${anthropic.api.rate-limit.tokens-per-minute:40000}") int tokensPerMinute,
+            @Value("${anthropic.api.concurrency.min:1}") int minConcurrency,
+            @Value("${anthropic.api.concurrency.max:16}") int maxConcurrency,
+            @Value("${anthropic.api.circuit-breaker.failure-threshold:5}") int circuitFailureThreshold,
+            @Value("${anthropic.api.circuit-breaker.open-duration:PT1M}") Duration circuitOpenDuration,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            LlmResponseCache responseCache,
+            ObjectMapper objectMapper) {
+        this(apiKey, baseUrl, model, requestsPerMinute, tokensPerMinute, minConcurrency, maxConcurrency,
+            circuitFailureThreshold, circuitOpenDuration,
+            new ClaudeCallMetrics(meterRegistry.getIfAvailable(SimpleMeterRegistry::new)),
+            responseCache, objectMapper);
+    }
+
+    public AnthropicClaudeClient(
+            String apiKey,
+            String baseUrl,
+            String model,
+            int requestsPerMinute,
+            int tokensPerMinute,
+            int minConcurrency,
+            int maxConcurrency,
+            int circuitFailureThreshold,
+            Duration circuitOpenDuration,
+            ClaudeCallMetrics metrics,
+            LlmResponseCache responseCache,
             ObjectMapper objectMapper) {
         this.apiKey = apiKey;
         this.model = model;
         this.objectMapper = objectMapper;
+        this.rateLimiter = new TokenBucketRateLimiter(requestsPerMinute, tokensPerMinute);
+        this.concurrencyLimiter = new AdaptiveConcurrencyLimiter(minConcurrency, maxConcurrency);
+        this.circuitBreaker = new CircuitBreaker(circuitFailureThreshold, circuitOpenDuration);
+        this.responseCache = responseCache;
+        this.metrics = metrics;
+        this.batchResultReader = objectMapper.readerFor(BatchResult.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
 
         this.webClient = WebClient.builder()
             .baseUrl(baseUrl)
@@ -58,74 +192,565 @@ public class AnthropicClaudeClient {
             .defaultHeader("anthropic-version", "2023-06-01")
             .build();
 
-        logger.info("Initialized Anthropic Claude client with model: {}", model);
+        logger.info("Initialized Anthropic Claude client with model: {} (rate limit: {} requests/min, {} tokens/min; concurrency {}-{})",
+            model, requestsPerMinute, tokensPerMinute, minConcurrency, maxConcurrency);
+    }
+
+    /**
+     * Client with the default concurrency and circuit breaker settings, recording metrics
+     * in a private registry.
+     */
+    public AnthropicClaudeClient(
+            String apiKey,
+            String baseUrl,
+            String model,
+            int requestsPerMinute,
+            int tokensPerMinute,
+            LlmResponseCache responseCache,
+            ObjectMapper objectMapper) {
+        this(apiKey, baseUrl, model, requestsPerMinute, tokensPerMinute, 1, 16, 5, Duration.ofMinutes(1),
+            ClaudeCallMetrics.standalone(), responseCache, objectMapper);
     }
 
     /**
      * Send a message to Claude and get a response.
      *
+     * Blocks the calling thread until the response arrives; see sendMessageAsync.
+     *
      * @param systemPrompt System prompt (role/context for the AI)
      * @param userMessage User message (the actual query/task)
      * @param maxTokens Maximum tokens in response (default: 4096)
      * @return Claude's response text
      */
     public String sendMessage(String systemPrompt, String userMessage, Integer maxTokens) {
-        if (maxTokens == null) {
-            maxTokens = 4096;
-        }
+        return blockOn(sendMessageAsync(systemPrompt, userMessage, maxTokens), "call Claude API");
+    }
+
+    /**
+     * Send a message to Claude without blocking.
+     *
+     * Nothing is sent until the Mono is subscribed. Waiting for the rate limiter and for the
+     * response holds no thread, so many calls can be in flight at once. Use toFuture() for a
+     * CompletableFuture. Retries, timeout and error mapping are the same as sendMessage:
+     * - Throttled, overloaded and 5xx responses and timeouts are retried 3 times (after
+     *   retry-after, or with exponential backoff from 2 seconds); other 4xx are not retried
+     * - Each attempt times out after 30 seconds
+     * - Every error is signalled as a ClaudeApiException; ClaudeCircuitOpenException while
+     *   the circuit breaker is open
+     *
+     * @param systemPrompt System prompt (role/context for the AI)
+     * @param userMessage User message (the actual query/task)
+     * @param maxTokens Maximum tokens in response (default: 4096)
+     * @return Claude's response text
+     */
+    public Mono<String> sendMessageAsync(String systemPrompt, String userMessage, Integer maxTokens) {
+        return send("message", List.of(TextBlock.of(systemPrompt)), List.of(TextBlock.of(userMessage)),
+                maxTokens != null ? maxTokens : 4096)
+            .map(AnthropicClaudeClient::responseText);
+    }
+
+    /**
+     * Send a request built from system and user content blocks.
+     *
+     * Blocks carrying cache_control end a cached prefix: the API reuses the prefix up to and
+     * including that block for 5 minutes, billing it as cache reads instead of input tokens.
+     * Token usage, including cache reads and writes, is added to the usage totals.
+     *
+     * When the response cache is enabled, a request identical to an earlier one (same model,
+     * prompts and max tokens) is answered from the cache with zero token usage, without
+     * taking a rate limit permit.
+     *
+     * The duration and outcome of the call are recorded under the operation name.
+     */
+    private Mono<ClaudeResponse> send(String operation, List<TextBlock> system, List<TextBlock> userContent, int maxTokens) {
+        return send(operation, model, system, userContent, maxTokens);
+    }
+
+    /**
+     * Send a request to the given model (see send above).
+     */
+    private Mono<ClaudeResponse> send(
+            String operation,
+            String model,
+            List<TextBlock> system,
+            List<TextBlock> userContent,
+            int maxTokens) {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            AtomicBoolean cacheHit = new AtomicBoolean();
+            Mono<ClaudeResponse> call = call(operation, model, system, userContent, maxTokens);
 
+            Mono<ClaudeResponse> response;
+            if (!responseCache.isEnabled()) {
+                response = call;
+            } else {
+                String cacheKey = LlmResponseCache.key(model, joinText(system), joinText(userContent), maxTokens);
+                response = Mono.fromCallable(() -> responseCache.get(cacheKey))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(cached -> {
+                        if (cached.isPresent()) {
+                            logger.debug("Claude response served from cache ({})", cacheKey);
+                            cacheHit.set(true);
+                            return Mono.just(cachedResponse(cached.get(), model));
+                        }
+                        return call.flatMap(result -> Mono.fromRunnable(() -> storeInCache(cacheKey, model, result))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .thenReturn(result));
+                    });
+            }
+
+            return response
+                .doOnSuccess(result -> metrics.recordCall(operation, model,
+                    Duration.ofNanos(System.nanoTime() - startNanos), null, cacheHit.get()))
+                .doOnError(e -> metrics.recordCall(operation, model,
+                    Duration.ofNanos(System.nanoTime() - startNanos), e, false));
+        });
+    }
+
+    private Mono<ClaudeResponse> call(
+            String operation,
+            String model,
+            List<TextBlock> system,
+            List<TextBlock> userContent,
+            int maxTokens) {
         ClaudeRequest request = new ClaudeRequest();
         request.setModel(model);
         request.setMaxTokens(maxTokens);
-        request.setSystem(systemPrompt);
+        request.setSystem(system);
         request.setMessages(List.of(
-            new Message("user", userMessage)
+            new Message("user", userContent)
         ));
 
-        logger.debug("Sending message to Claude API (model: {}, max_tokens: {})", model, maxTokens);
+        int estimatedTokens = estimateTokens(system, userContent, maxTokens);
 
-        try {
-            ClaudeResponse response = webClient.post()
-                .uri("/v1/messages")
-                .bodyValue(request)
-                .retrieve()
-                .onStatus(
-                    HttpStatusCode::is4xxClientError,
-                    clientResponse -> {
-                        logger.error("Client error from Claude API: {}", clientResponse.statusCode());
-                        return Mono.error(new ClaudeApiException("Client error: " + clientResponse.statusCode()));
-                    }
-                )
-                .onStatus(
-                    HttpStatusCode::is5xxServerError,
-                    clientResponse -> {
-                        logger.error("Server error from Claude API: {}", clientResponse.statusCode());
-                        return Mono.error(new ClaudeApiException("Server error: " + clientResponse.statusCode()));
-                    }
-                )
+        return acquirePermit(estimatedTokens)
+            .doOnSuccess(ignored -> logger.debug("Sending message to Claude API (model: {}, max_tokens: {})", model, maxTokens))
+            .then(attempt(request)
+                .retryWhen(retrySpec(operation, model)))
+            .switchIfEmpty(Mono.error(() -> new ClaudeApiException("Empty response from Claude API")))
+            .map(response -> {
+                Usage usage = response.getUsage();
+                if (usage != null) {
+                    rateLimiter.adjust(estimatedTokens, usedTokens(usage));
+                    recordUsage(usage);
+                    metrics.recordUsage(operation, model, usage, 1.0);
+                    logger.debug("Received response from Claude API ({} input, {} cache read, {} cache write, {} output tokens; {} estimated)",
+                        usage.getInputTokens(), usage.getCacheReadInputTokens(), usage.getCacheCreationInputTokens(),
+                        usage.getOutputTokens(), estimatedTokens);
+                }
+
+                if (response.getContent() == null || response.getContent().isEmpty()) {
+                    throw new ClaudeApiException("Empty response from Claude API");
+                }
+                return response;
+            })
+            .onErrorMap(e -> !(e instanceof ClaudeApiException),
+                e -> new ClaudeApiException("Failed to call Claude API: " + e.getMessage(), e));
+    }
+
+    /**
+     * One API call: wait for a concurrency slot, check the circuit breaker, then post the request.
+     *
+     * The outcome is reported to both, so throttled responses lower the concurrency limit
+     * and can open the circuit.
+     */
+    private Mono<ClaudeResponse> attempt(ClaudeRequest request) {
+        return acquireSlot().then(Mono.defer(() -> {
+            long openNanos = circuitBreaker.tryAcquire();
+            if (openNanos > 0) {
+                concurrencyLimiter.onDropped();
+                return Mono.<ClaudeResponse>error(new ClaudeCircuitOpenException(Duration.ofNanos(openNanos)));
+            }
+            return retrieve(webClient.post()
+                    .uri("/v1/messages")
+                    .bodyValue(request))
                 .bodyToMono(ClaudeResponse.class)
-                .retryWhen(Retry.backoff(3, Duration.ofSeconds(2))
-                    .filter(throwable -> throwable instanceof ClaudeApiException)
-                    .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) ->
-                        new ClaudeApiException("Max retries exceeded"))
-                )
-                .timeout(Duration.ofSeconds(30))
-                .block();
-
-            if (response != null && response.getContent() != null && !response.getContent().isEmpty()) {
-                String responseText = response.getContent().get(0).getText();
-                logger.debug("Received response from Claude API ({} tokens used)", response.getUsage().getInputTokens() + response.getUsage().getOutputTokens());
-                return responseText;
-            } else {
-                throw new ClaudeApiException("Empty response from Claude API");
+                .timeout(ATTEMPT_TIMEOUT)
+                .doOnSuccess(response -> {
+                    concurrencyLimiter.onSuccess();
+                    circuitBreaker.onSuccess();
+                })
+                .doOnError(this::onAttemptFailed)
+                .doOnCancel(() -> {
+                    concurrencyLimiter.onDropped();
+                    circuitBreaker.onDropped();
+                });
+        }));
+    }
+
+    private void onAttemptFailed(Throwable failure) {
+        if (failure instanceof ClaudeOverloadedException overloaded) {
+            concurrencyLimiter.onThrottled();
+            circuitBreaker.onThrottled(overloaded.getRetryAfter());
+        } else {
+            concurrencyLimiter.onFailure();
+            circuitBreaker.onFailure();
+        }
+    }
+
+    /**
+     * Complete once the concurrency limiter has a free slot, checking again every 50 ms.
+     */
+    private Mono<Void> acquireSlot() {
+        return Mono.defer(() -> concurrencyLimiter.tryAcquire()
+            ? Mono.<Void>empty()
+            : Mono.delay(SLOT_POLL_INTERVAL).then(acquireSlot()));
+    }
+
+    private void storeInCache(String cacheKey, String model, ClaudeResponse response) {
+        // A response cut off at max_tokens is not worth repeating
+        if ("max_tokens".equals(response.getStopReason())) {
+            return;
+        }
+        Usage usage = response.getUsage();
+        responseCache.put(cacheKey, model, responseText(response),
+            usage != null ? usage.getInputTokens() : null,
+            usage != null ? usage.getOutputTokens() : null);
+    }
+
+    private static ClaudeResponse cachedResponse(LlmResponseCache.CachedResponse cached, String model) {
+        ContentBlock text = new ContentBlock();
+        text.setType("text");
+        text.setText(cached.responseText());
+
+        Usage usage = new Usage();
+        usage.setInputTokens(0);
+        usage.setOutputTokens(0);
+        usage.setCacheCreationInputTokens(0);
+        usage.setCacheReadInputTokens(0);
+
+        ClaudeResponse response = new ClaudeResponse();
+        response.setType("message");
+        response.setRole("assistant");
+        response.setModel(model);
+        response.setContent(List.of(text));
+        response.setStopReason("end_turn");
+        response.setUsage(usage);
+        return response;
+    }
+
+    private static String joinText(List<TextBlock> blocks) {
+        StringBuilder text = new StringBuilder();
+        for (TextBlock block : blocks) {
+            if (text.length() > 0) {
+                text.append('\n');
+            }
+            text.append(block.getText());
+        }
+        return text.toString();
+    }
+
+    private static String responseText(ClaudeResponse response) {
+        return response.getContent().get(0).getText();
+    }
+
+    private void recordUsage(Usage usage) {
+        requestCount.incrementAndGet();
+        inputTokens.addAndGet(tokens(usage.getInputTokens()));
+        outputTokens.addAndGet(tokens(usage.getOutputTokens()));
+        cacheCreationInputTokens.addAndGet(tokens(usage.getCacheCreationInputTokens()));
+        cacheReadInputTokens.addAndGet(tokens(usage.getCacheReadInputTokens()));
+    }
+
+    /**
+     * Token usage of all interactive calls since startup.
+     *
+     * @return Usage totals
+     */
+    public UsageTotals getUsageTotals() {
+        return new UsageTotals(
+            requestCount.get(),
+            inputTokens.get(),
+            outputTokens.get(),
+            cacheCreationInputTokens.get(),
+            cacheReadInputTokens.get());
+    }
+
+    /**
+     * Model used when a call does not name one (anthropic.api.model).
+     *
+     * @return Model name
+     */
+    public String getModel() {
+        return model;
+    }
+
+    /**
+     * Adaptive concurrency limit of interactive calls (current limit and calls in flight).
+     *
+     * @return Concurrency limiter
+     */
+    public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * Circuit breaker of interactive calls.
+     *
+     * @return Circuit breaker
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Rate-limited (429) and overloaded (503/529) responses since startup.
+     *
+     * @return Throttled response count
+     */
+    public long getThrottledResponseCount() {
+        return throttledResponses.get();
+    }
+
+    /**
+     * Submit a message batch to the Message Batches API.
+     *
+     * Batches are processed asynchronously (usually within an hour, at most 24 hours), at a
+     * lower price per token and outside the interactive rate limits, so they do not go
+     * through the rate limiter. Poll getMessageBatch until processing_status is "ended".
+     *
+     * @param requests Batch requests, each with a custom_id unique within the batch
+     * @return The created batch (processing_status "in_progress")
+     */
+    public MessageBatch createMessageBatch(List<BatchRequest> requests) {
+        logger.info("Submitting message batch with {} requests", requests.size());
+        return blockOn(retrieve(webClient.post()
+                .uri("/v1/messages/batches")
+                .bodyValue(Map.of("requests", requests)))
+                .bodyToMono(MessageBatch.class)
+                .retryWhen(retrySpec("createBatch", model))
+                .timeout(Duration.ofSeconds(60)),
+            "create message batch");
+    }
+
+    /**
+     * Get the processing status of a message batch.
+     *
+     * @param batchId Message batch ID
+     * @return The batch, with results_url set once it has ended
+     */
+    public MessageBatch getMessageBatch(String batchId) {
+        return blockOn(retrieve(webClient.get()
+                .uri("/v1/messages/batches/{batchId}", batchId))
+                .bodyToMono(MessageBatch.class)
+                .retryWhen(retrySpec("getBatch", model))
+                .timeout(Duration.ofSeconds(30)),
+            "get message batch " + batchId);
+    }
+
+    /**
+     * Download the results of an ended message batch.
+     *
+     * The results file is JSON Lines (one result per request, in any order); it is decoded
+     * line by line rather than buffered as one document.
+     *
+     * @param batch An ended batch
+     * @return One result per request of the batch
+     */
+    public List<BatchResult> getMessageBatchResults(MessageBatch batch) {
+        if (batch.getResultsUrl() == null) {
+            throw new ClaudeApiException("Message batch " + batch.getId() + " has no results yet");
+        }
+        return blockOn(retrieve(webClient.get()
+                .uri(URI.create(batch.getResultsUrl())))
+                .bodyToFlux(String.class)
+                .filter(line -> !line.isBlank())
+                .map(this::parseBatchResult)
+                .collectList()
+                .retryWhen(retrySpec("batchResults", model))
+                .timeout(Duration.ofMinutes(5)),
+            "get results of message batch " + batch.getId());
+    }
+
+    /**
+     * Build the batch request that scores an opportunity (same prompt as scoreOpportunity).
+     *
+     * @param customId ID to match the result to the opportunity
+     * @param opportunityTitle Opportunity title
+     * @param opportunityDescription Full description
+     * @param companyCapabilities Company's capabilities/experience
+     * @return Batch request
+     */
+    public BatchRequest scoringBatchRequest(
+            String customId,
+            String opportunityTitle,
+            String opportunityDescription,
+            String companyCapabilities) {
+        ClaudeRequest params = new ClaudeRequest();
+        params.setModel(model);
+        params.setMaxTokens(2048);
+        params.setSystem(scoringSystem(companyCapabilities));
+        params.setMessages(List.of(
+            new Message("user", scoringMessage(opportunityTitle, opportunityDescription))
+        ));
+        return new BatchRequest(customId, params);
+    }
+
+    /**
+     * Parse the score of a succeeded scoring batch result.
+     *
+     * @param result Batch result of a scoringBatchRequest
+     * @return Score and rationale
+     */
+    public OpportunityScoreResult parseBatchScore(BatchResult result) {
+        if (!result.isSucceeded()) {
+            throw new ClaudeApiException("Batch request " + result.getCustomId() + " did not succeed: " + result.getResult().getType());
+        }
+        ClaudeResponse message = result.getResult().getMessage();
+        if (message == null || message.getContent() == null || message.getContent().isEmpty()) {
+            throw new ClaudeApiException("Empty response for batch request " + result.getCustomId());
+        }
+        metrics.recordUsage("batchScore", message.getModel() != null ? message.getModel() : model,
+            message.getUsage(), ModelPricing.BATCH_DISCOUNT);
+        return parseScoreResponse(responseText(message))
+            .withUsage(message.getUsage())
+            .withModel(message.getModel() != null ? message.getModel() : model);
+    }
+
+    private BatchResult parseBatchResult(String line) {
+        try {
+            return batchResultReader.readValue(line);
+        } catch (IOException e) {
+            throw new IllegalStateException("Malformed message batch result: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Retrieve a response, mapping 4xx/5xx statuses to ClaudeApiException.
+     */
+    private WebClient.ResponseSpec retrieve(WebClient.RequestHeadersSpec<?> request) {
+        return request.retrieve()
+            .onStatus(HttpStatusCode::isError, clientResponse -> Mono.error(toException(clientResponse)));
+    }
+
+    /**
+     * Map an error status to an exception:
+     * - 429 (rate limited), 503 and 529 (overloaded): ClaudeOverloadedException with the retry-after
+     * - 408 and other 5xx: retryable ClaudeApiException
+     * - Other 4xx (invalid request, authentication, not found): ClaudeApiException, not retried
+     */
+    private ClaudeApiException toException(ClientResponse clientResponse) {
+        HttpStatusCode status = clientResponse.statusCode();
+        int code = status.value();
+        if (code == 429 || code == 503 || code == 529) {
+            throttledResponses.incrementAndGet();
+            Duration retryAfter = parseRetryAfter(clientResponse.headers().asHttpHeaders().getFirst("retry-after"));
+            logger.warn("Claude API {} ({}), retry after {}", code == 429 ? "rate limited" : "overloaded", status, retryAfter);
+            return new ClaudeOverloadedException(code, retryAfter);
+        }
+        if (status.is5xxServerError()) {
+            logger.error("Server error from Claude API: {}", status);
+            return new ClaudeApiException("Server error: " + status, true);
+        }
+        logger.error("Client error from Claude API: {}", status);
+        return new ClaudeApiException("Client error: " + status, code == 408);
+    }
+
+    /**
+     * Parse a retry-after header given in seconds; null if absent or not a number.
+     */
+    static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Retry retryable failures up to 3 times.
+     *
+     * A throttled or overloaded response waits for its retry-after (at most a minute); other
+     * failures back off exponentially from 2 seconds with jitter, so concurrent callers do
+     * not retry in lockstep. Each retry is counted under the operation and model.
+     */
+    private Retry retrySpec(String operation, String model) {
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable failure = signal.failure();
+            long retries = signal.totalRetries();
+            if (!isRetryable(failure)) {
+                return Mono.<Long>error(failure);
             }
+            if (retries >= MAX_RETRIES) {
+                return Mono.<Long>error(new ClaudeApiException("Max retries exceeded", failure));
+            }
+            metrics.recordRetry(operation, model);
+            return Mono.delay(retryDelay(failure, retries));
+        }));
+    }
 
+    static boolean isRetryable(Throwable failure) {
+        if (failure instanceof ClaudeApiException apiException) {
+            return apiException.isRetryable();
+        }
+        return failure instanceof TimeoutException || failure instanceof WebClientRequestException;
+    }
+
+    static Duration retryDelay(Throwable failure, long retries) {
+        if (failure instanceof ClaudeOverloadedException overloaded && overloaded.getRetryAfter() != null) {
+            Duration retryAfter = overloaded.getRetryAfter();
+            return retryAfter.compareTo(MAX_RETRY_AFTER) > 0 ? MAX_RETRY_AFTER : retryAfter;
+        }
+        long backoffMillis = FIRST_BACKOFF.toMillis() << Math.min(retries, 10);
+        return Duration.ofMillis(backoffMillis / 2 + ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1));
+    }
+
+    private static <T> T blockOn(Mono<T> call, String description) {
+        try {
+            return call.block();
+        } catch (ClaudeCircuitOpenException e) {
+            // Expected while the API is overloaded; the caller decides whether to wait
+            throw e;
         } catch (Exception e) {
-            logger.error("Error calling Claude API", e);
-            throw new ClaudeApiException("Failed to call Claude API: " + e.getMessage(), e);
+            logger.error("Error calling Claude API ({})", description, e);
+            throw new ClaudeApiException("Failed to " + description + ": " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Complete once the rate limiter admits the request, delaying (not blocking) while it is full.
+     */
+    private Mono<Void> acquirePermit(int estimatedTokens) {
+        return Mono.defer(() -> {
+            long waitNanos = rateLimiter.tryAcquire(estimatedTokens);
+            if (waitNanos == 0) {
+                return Mono.<Void>empty();
+            }
+            return Mono.delay(Duration.ofNanos(waitNanos)).then(acquirePermit(estimatedTokens));
+        });
+    }
+
+    /**
+     * Estimate the tokens a request will use: prompt characters / 4 plus the full response budget.
+     */
+    static int estimateTokens(List<TextBlock> system, List<TextBlock> userContent, int maxTokens) {
+        long chars = 0;
+        for (TextBlock block : system) {
+            chars += block.getText() != null ? block.getText().length() : 0;
+        }
+        for (TextBlock block : userContent) {
+            chars += block.getText() != null ? block.getText().length() : 0;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, chars / CHARS_PER_TOKEN + maxTokens);
+    }
+
+    /**
+     * Tokens counted against the rate limit: uncached input, cache writes and output
+     * (cache reads do not count towards the input token limit).
+     */
+    static int usedTokens(Usage usage) {
+        return (int) Math.min(Integer.MAX_VALUE, tokens(usage.getInputTokens())
+            + tokens(usage.getCacheCreationInputTokens())
+            + tokens(usage.getOutputTokens()));
+    }
+
+    private static long tokens(Integer count) {
+        return count != null ? count : 0L;
+    }
+
     /**
      * Score an opportunity using Claude AI.
      *
@@ -138,25 +763,107 @@ public class AnthropicClaudeClient {
             String opportunityTitle,
             String opportunityDescription,
             String companyCapabilities) {
+        return blockOn(scoreOpportunityAsync(opportunityTitle, opportunityDescription, companyCapabilities),
+            "call Claude API");
+    }
+
+    /**
+     * Score an opportunity with a given model (e.g. a cheaper model for triage).
+     *
+     * @param opportunityTitle Opportunity title
+     * @param opportunityDescription Full description
+     * @param companyCapabilities Company's capabilities/experience
+     * @param model Model to use, or null for the configured model
+     * @return AI-generated score and rationale
+     */
+    public OpportunityScoreResult scoreOpportunity(
+            String opportunityTitle,
+            String opportunityDescription,
+            String companyCapabilities,
+            String model) {
+        return blockOn(scoreOpportunityAsync(opportunityTitle, opportunityDescription, companyCapabilities, model),
+            "call Claude API");
+    }
+
+    /**
+     * Score an opportunity using Claude AI without blocking.
+     *
+     * @param opportunityTitle Opportunity title
+     * @param opportunityDescription Full description
+     * @param companyCapabilities Company's capabilities/experience
+     * @return AI-generated score and rationale, with the token usage of the call
+     */
+    public Mono<OpportunityScoreResult> scoreOpportunityAsync(
+            String opportunityTitle,
+            String opportunityDescription,
+            String companyCapabilities) {
+        return scoreOpportunityAsync(opportunityTitle, opportunityDescription, companyCapabilities, null);
+    }
 
-        String systemPrompt = "You are an expert federal contract analyst. Your role is to evaluate " +
-            "government contracting opportunities and score them based on fit, win probability, and strategic value.";
+    /**
+     * Score an opportunity with a given model without blocking.
+     *
+     * @param opportunityTitle Opportunity title
+     * @param opportunityDescription Full description
+     * @param companyCapabilities Company's capabilities/experience
+     * @param model Model to use, or null for the configured model
+     * @return AI-generated score and rationale, with the token usage and model of the call
+     */
+    public Mono<OpportunityScoreResult> scoreOpportunityAsync(
+            String opportunityTitle,
+            String opportunityDescription,
+            String companyCapabilities,
+            String model) {
+        String scoringModel = model != null ? model : this.model;
+        List<TextBlock> system = scoringSystem(companyCapabilities);
+        List<TextBlock> userContent = scoringMessage(opportunityTitle, opportunityDescription);
+        return send("score", scoringModel, system, userContent, 2048)
+            .flatMap(response -> {
+                try {
+                    return Mono.just(parseScoreResponse(responseText(response))
+                        .withUsage(response.getUsage())
+                        .withModel(response.getModel() != null ? response.getModel() : scoringModel));
+                } catch (ClaudeApiException e) {
+                    // Do not serve the unusable response again when the opportunity is retried
+                    return Mono.fromRunnable(() -> responseCache.evict(
+                            LlmResponseCache.key(scoringModel, joinText(system), joinText(userContent), 2048)))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .then(Mono.error(e));
+                }
+            });
+    }
 
-        String userMessage = String.format(
-            "Analyze this federal contracting opportunity and provide a score (0-100) with rationale.\n\n" +
+    /**
+     * Scoring instructions and company capabilities: the same for every opportunity of a
+     * scoring run, so they form the cached prefix.
+     */
+    private static List<TextBlock> scoringSystem(String companyCapabilities) {
+        return List.of(TextBlock.cached(
+            SCORING_SYSTEM_PROMPT + "\n\n" +
+            "Our Capabilities: " + companyCapabilities + "\n\n" +
+            "Score each opportunity from 0 to 100 on these dimensions:\n" +
+            "- relevance: How closely the requirement matches our capabilities\n" +
+            "- win_probability: Our chance of winning, given eligibility, competition and incumbency\n" +
+            "- strategic_fit: How well the work fits our growth areas and target agencies\n" +
+            "- overall: Whether we should pursue it, weighing the three\n" +
+            "Also give your confidence (0-100) in the assessment, lower when the description " +
+            "leaves key facts (scope, eligibility, incumbent) unclear.\n\n" +
+            "Respond with only a JSON object in this exact format:\n" +
+            "{\"overall\": {\"score\": [0-100], \"rationale\": \"[Your analysis]\"}, " +
+            "\"relevance\": {\"score\": [0-100], \"rationale\": \"[One sentence]\"}, " +
+            "\"win_probability\": {\"score\": [0-100], \"rationale\": \"[One sentence]\"}, " +
+            "\"strategic_fit\": {\"score\": [0-100], \"rationale\": \"[One sentence]\"}, " +
+            "\"confidence\": [0-100]}"));
+    }
+
+    private static List<TextBlock> scoringMessage(String opportunityTitle, String opportunityDescription) {
+        return List.of(TextBlock.of(String.format(
+            "Analyze this federal contracting opportunity and score it on each dimension.\n\n" +
             "Opportunity Title: %s\n\n" +
-            "Description: %s\n\n" +
-            "Our Capabilities: %s\n\n" +
-            "Provide your response in this exact format:\n" +
-            "SCORE: [0-100]\n" +
-            "RATIONALE: [Your analysis]",
+            "Description: %s",
             opportunityTitle,
-            opportunityDescription,
-            companyCapabilities
-        );
-
-        String response = sendMessage(systemPrompt, userMessage, 2048);
-        return parseScoreResponse(response);
+            opportunityDescription
+        )));
     }
 
     /**
@@ -171,23 +878,43 @@ public class AnthropicClaudeClient {
             String opportunityTitle,
             String opportunityDescription,
             String companyStrengths) {
+        return blockOn(generateCaptureStrategyAsync(opportunityTitle, opportunityDescription, companyStrengths),
+            "call Claude API");
+    }
+
+    /**
+     * Generate a capture strategy for an opportunity without blocking.
+     *
+     * @param opportunityTitle Opportunity title
+     * @param opportunityDescription Full description
+     * @param companyStrengths Company strengths/differentiators
+     * @return AI-generated capture strategy
+     */
+    public Mono<String> generateCaptureStrategyAsync(
+            String opportunityTitle,
+            String opportunityDescription,
+            String companyStrengths) {
+        return send("captureStrategy", captureStrategySystem(companyStrengths),
+                captureStrategyMessage(opportunityTitle, opportunityDescription), 4096)
+            .map(AnthropicClaudeClient::responseText);
+    }
 
-        String systemPrompt = "You are an expert capture manager specializing in federal government contracts. " +
-            "Your role is to develop winning strategies for government proposals.";
+    private static List<TextBlock> captureStrategySystem(String companyStrengths) {
+        return List.of(TextBlock.cached(
+            CAPTURE_STRATEGY_SYSTEM_PROMPT + "\n\n" +
+            "Our Strengths: " + companyStrengths + "\n\n" +
+            "Provide a comprehensive capture strategy covering: win themes, discriminators, " +
+            "teaming approach, and risk mitigation."));
+    }
 
-        String userMessage = String.format(
+    private static List<TextBlock> captureStrategyMessage(String opportunityTitle, String opportunityDescription) {
+        return List.of(TextBlock.of(String.format(
             "Create a detailed capture strategy for this federal contracting opportunity.\n\n" +
             "Opportunity: %s\n\n" +
-            "Description: %s\n\n" +
-            "Our Strengths: %s\n\n" +
-            "Provide a comprehensive capture strategy covering: win themes, discriminators, " +
-            "teaming approach, and risk mitigation.",
+            "Description: %s",
             opportunityTitle,
-            opportunityDescription,
-            companyStrengths
-        );
-
-        return sendMessage(systemPrompt, userMessage, 4096);
+            opportunityDescription
+        )));
     }
 
     /**
@@ -198,45 +925,128 @@ public class AnthropicClaudeClient {
      * @return AI-generated competitive analysis
      */
     public String analyzeCompetitors(String opportunityTitle, String competitorInfo) {
-        String systemPrompt = "You are a competitive intelligence analyst specializing in federal government contracting.";
+        return blockOn(analyzeCompetitorsAsync(opportunityTitle, competitorInfo), "call Claude API");
+    }
 
-        String userMessage = String.format(
+    /**
+     * Analyze competitors for an opportunity without blocking.
+     *
+     * @param opportunityTitle Opportunity title
+     * @param competitorInfo Information about known competitors
+     * @return AI-generated competitive analysis
+     */
+    public Mono<String> analyzeCompetitorsAsync(String opportunityTitle, String competitorInfo) {
+        return send("competitors", COMPETITOR_ANALYSIS_SYSTEM, competitorAnalysisMessage(opportunityTitle, competitorInfo), 3072)
+            .map(AnthropicClaudeClient::responseText);
+    }
+
+    private static List<TextBlock> competitorAnalysisMessage(String opportunityTitle, String competitorInfo) {
+        return List.of(TextBlock.of(String.format(
             "Analyze the competitive landscape for this opportunity.\n\n" +
             "Opportunity: %s\n\n" +
-            "Known Competitors: %s\n\n" +
-            "Provide analysis of competitor strengths, weaknesses, and our positioning strategy.",
+            "Known Competitors: %s",
             opportunityTitle,
             competitorInfo
-        );
-
-        return sendMessage(systemPrompt, userMessage, 3072);
+        )));
     }
 
     /**
      * Parse score response from Claude.
-     * Expected format: "SCORE: 85\nRATIONALE: ..."
+     *
+     * Expected format: a JSON object with the overall score and SCORE_DIMENSIONS, each as
+     * {"score": 0-100, "rationale": "..."}, and the model's confidence (0-100, optional);
+     * text around the object (e.g. a code fence) is
+     * ignored. Scores are clamped to 0-100, missing dimensions are left out, and without an
+     * overall score the dimensions' average is used. Responses in the earlier line format
+     * ("SCORE: 85\nRATIONALE: ...", e.g. from batches submitted before the JSON format)
+     * are still read.
+     *
+     * @throws ClaudeApiException if the response has no score in either format, so the
+     *         opportunity stays unscored instead of being saved with a score of 0
      */
-    private OpportunityScoreResult parseScoreResponse(String response) {
-        try {
-            String[] lines = response.split("\n", 2);
-            int score = 0;
-            String rationale = response;
-
-            for (String line : response.split("\n")) {
-                if (line.startsWith("SCORE:")) {
-                    String scoreStr = line.substring("SCORE:".length()).trim();
-                    score = Integer.parseInt(scoreStr);
-                } else if (line.startsWith("RATIONALE:")) {
-                    rationale = line.substring("RATIONALE:".length()).trim();
+    OpportunityScoreResult parseScoreResponse(String response) {
+        if (response != null) {
+            int start = response.indexOf('{');
+            int end = response.lastIndexOf('}');
+            if (start >= 0 && end > start) {
+                try {
+                    OpportunityScoreResult result = parseJsonScore(objectMapper.readTree(response.substring(start, end + 1)));
+                    if (result != null) {
+                        return result;
+                    }
+                } catch (JsonProcessingException e) {
+                    logger.debug("Score response is not valid JSON, trying the line format: {}", e.getOriginalMessage());
                 }
             }
+        }
+        return parseLineScoreResponse(response);
+    }
 
-            return new OpportunityScoreResult(score, rationale);
+    private static OpportunityScoreResult parseJsonScore(JsonNode root) {
+        Map<String, DimensionScore> dimensions = new LinkedHashMap<>();
+        for (String dimension : SCORE_DIMENSIONS) {
+            DimensionScore score = dimensionScore(root.get(dimension));
+            if (score != null) {
+                dimensions.put(dimension, score);
+            }
+        }
 
-        } catch (Exception e) {
-            logger.warn("Failed to parse score response, using defaults", e);
-            return new OpportunityScoreResult(0, response);
+        DimensionScore overall = dimensionScore(root.get("overall"));
+        if (overall == null) {
+            if (dimensions.isEmpty()) {
+                return null;
+            }
+            int average = (int) Math.round(dimensions.values().stream()
+                .mapToInt(DimensionScore::score)
+                .average()
+                .orElse(0));
+            overall = new DimensionScore(average, dimensions.values().iterator().next().rationale());
         }
+        DimensionScore confidence = dimensionScore(root.get("confidence"));
+        return new OpportunityScoreResult(overall.score(), overall.rationale(), dimensions,
+            confidence != null ? confidence.score() : null, null, null);
+    }
+
+    private static DimensionScore dimensionScore(JsonNode node) {
+        if (node == null) {
+            return null;
+        }
+        JsonNode score = node.isObject() ? node.get("score") : node;
+        if (score == null || !(score.isNumber() || score.isTextual() && NUMERIC_SCORE.matcher(score.asText().trim()).matches())) {
+            return null;
+        }
+        int value = (int) Math.round(score.asDouble());
+        String rationale = node.isObject() && node.hasNonNull("rationale") ? node.get("rationale").asText() : null;
+        return new DimensionScore(Math.max(0, Math.min(100, value)), rationale);
+    }
+
+    private OpportunityScoreResult parseLineScoreResponse(String response) {
+        if (response == null) {
+            throw new ClaudeApiException("Score response is empty");
+        }
+        Integer score = null;
+        String rationale = response;
+
+        for (String line : response.split("\n")) {
+            if (line.startsWith("SCORE:")) {
+                String scoreStr = line.substring("SCORE:".length()).trim();
+                if (NUMERIC_SCORE.matcher(scoreStr).matches()) {
+                    score = Math.max(0, Math.min(100, (int) Math.round(Double.parseDouble(scoreStr))));
+                }
+            } else if (line.startsWith("RATIONALE:")) {
+                rationale = line.substring("RATIONALE:".length()).trim();
+            }
+        }
+
+        if (score == null) {
+            throw new ClaudeApiException("Score response is neither valid scoring JSON nor the line format: "
+                + abbreviate(response));
+        }
+        return new OpportunityScoreResult(score, rationale);
+    }
+
+    private static String abbreviate(String text) {
+        return text.length() > 200 ? text.substring(0, 200) + "..." : text;
     }
 
     // DTOs for Claude API
@@ -245,33 +1055,74 @@ public class AnthropicClaudeClient {
         private String model;
         @JsonProperty("max_tokens")
         private Integer maxTokens;
-        private String system;
+        private List<TextBlock> system;
         private List<Message> messages;
 
         public String getModel() { return model; }
         public void setModel(String model) { this.model = model; }
         public Integer getMaxTokens() { return maxTokens; }
         public void setMaxTokens(Integer maxTokens) { this.maxTokens = maxTokens; }
-        public String getSystem() { return system; }
-        public void setSystem(String system) { this.system = system; }
+        public List<TextBlock> getSystem() { return system; }
+        public void setSystem(List<TextBlock> system) { this.system = system; }
         public List<Message> getMessages() { return messages; }
         public void setMessages(List<Message> messages) { this.messages = messages; }
     }
 
     public static class Message {
         private String role;
-        private String content;
+        private List<TextBlock> content;
 
         public Message() {}
         public Message(String role, String content) {
+            this(role, List.of(TextBlock.of(content)));
+        }
+        public Message(String role, List<TextBlock> content) {
             this.role = role;
             this.content = content;
         }
 
         public String getRole() { return role; }
         public void setRole(String role) { this.role = role; }
-        public String getContent() { return content; }
-        public void setContent(String content) { this.content = content; }
+        public List<TextBlock> getContent() { return content; }
+        public void setContent(List<TextBlock> content) { this.content = content; }
+    }
+
+    public static class TextBlock {
+        private String type = "text";
+        private String text;
+        @JsonProperty("cache_control")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private CacheControl cacheControl;
+
+        public TextBlock() {}
+        public TextBlock(String text, CacheControl cacheControl) {
+            this.text = text;
+            this.cacheControl = cacheControl;
+        }
+
+        /** Plain text block. */
+        public static TextBlock of(String text) { return new TextBlock(text, null); }
+        /** Text block that ends a cached prompt prefix. */
+        public static TextBlock cached(String text) { return new TextBlock(text, CacheControl.ephemeral()); }
+
+        public String getType() { return type; }
+        public void setType(String type) { this.type = type; }
+        public String getText() { return text; }
+        public void setText(String text) { this.text = text; }
+        public CacheControl getCacheControl() { return cacheControl; }
+        public void setCacheControl(CacheControl cacheControl) { this.cacheControl = cacheControl; }
+    }
+
+    public static class CacheControl {
+        private String type;
+
+        public CacheControl() {}
+        public CacheControl(String type) { this.type = type; }
+
+        public static CacheControl ephemeral() { return new CacheControl("ephemeral"); }
+
+        public String getType() { return type; }
+        public void setType(String type) { this.type = type; }
     }
 
     public static class ClaudeResponse {
@@ -315,33 +1166,241 @@ public class AnthropicClaudeClient {
         private Integer inputTokens;
         @JsonProperty("output_tokens")
         private Integer outputTokens;
+        @JsonProperty("cache_creation_input_tokens")
+        private Integer cacheCreationInputTokens;
+        @JsonProperty("cache_read_input_tokens")
+        private Integer cacheReadInputTokens;
 
         public Integer getInputTokens() { return inputTokens; }
         public void setInputTokens(Integer inputTokens) { this.inputTokens = inputTokens; }
         public Integer getOutputTokens() { return outputTokens; }
         public void setOutputTokens(Integer outputTokens) { this.outputTokens = outputTokens; }
+        public Integer getCacheCreationInputTokens() { return cacheCreationInputTokens; }
+        public void setCacheCreationInputTokens(Integer cacheCreationInputTokens) { this.cacheCreationInputTokens = cacheCreationInputTokens; }
+        public Integer getCacheReadInputTokens() { return cacheReadInputTokens; }
+        public void setCacheReadInputTokens(Integer cacheReadInputTokens) { this.cacheReadInputTokens = cacheReadInputTokens; }
+    }
+
+    /**
+     * Token usage of all interactive calls since startup.
+     */
+    public record UsageTotals(
+        long requests,
+        long inputTokens,
+        long outputTokens,
+        long cacheCreationInputTokens,
+        long cacheReadInputTokens) {
+    }
+
+    public static class BatchRequest {
+        @JsonProperty("custom_id")
+        private String customId;
+        private ClaudeRequest params;
+
+        public BatchRequest() {}
+        public BatchRequest(String customId, ClaudeRequest params) {
+            this.customId = customId;
+            this.params = params;
+        }
+
+        public String getCustomId() { return customId; }
+        public void setCustomId(String customId) { this.customId = customId; }
+        public ClaudeRequest getParams() { return params; }
+        public void setParams(ClaudeRequest params) { this.params = params; }
+    }
+
+    public static class MessageBatch {
+        private String id;
+        private String type;
+        @JsonProperty("processing_status")
+        private String processingStatus;
+        @JsonProperty("request_counts")
+        private RequestCounts requestCounts;
+        @JsonProperty("created_at")
+        private String createdAt;
+        @JsonProperty("ended_at")
+        private String endedAt;
+        @JsonProperty("results_url")
+        private String resultsUrl;
+
+        public boolean isEnded() { return "ended".equals(processingStatus); }
+
+        public String getId() { return id; }
+        public void setId(String id) { this.id = id; }
+        public String getType() { return type; }
+        public void setType(String type) { this.type = type; }
+        public String getProcessingStatus() { return processingStatus; }
+        public void setProcessingStatus(String processingStatus) { this.processingStatus = processingStatus; }
+        public RequestCounts getRequestCounts() { return requestCounts; }
+        public void setRequestCounts(RequestCounts requestCounts) { this.requestCounts = requestCounts; }
+        public String getCreatedAt() { return createdAt; }
+        public void setCreatedAt(String createdAt) { this.createdAt = createdAt; }
+        public String getEndedAt() { return endedAt; }
+        public void setEndedAt(String endedAt) { this.endedAt = endedAt; }
+        public String getResultsUrl() { return resultsUrl; }
+        public void setResultsUrl(String resultsUrl) { this.resultsUrl = resultsUrl; }
+    }
+
+    public static class RequestCounts {
+        private int processing;
+        private int succeeded;
+        private int errored;
+        private int canceled;
+        private int expired;
+
+        public int getProcessing() { return processing; }
+        public void setProcessing(int processing) { this.processing = processing; }
+        public int getSucceeded() { return succeeded; }
+        public void setSucceeded(int succeeded) { this.succeeded = succeeded; }
+        public int getErrored() { return errored; }
+        public void setErrored(int errored) { this.errored = errored; }
+        public int getCanceled() { return canceled; }
+        public void setCanceled(int canceled) { this.canceled = canceled; }
+        public int getExpired() { return expired; }
+        public void setExpired(int expired) { this.expired = expired; }
+    }
+
+    public static class BatchResult {
+        @JsonProperty("custom_id")
+        private String customId;
+        private BatchResultBody result;
+
+        public boolean isSucceeded() { return result != null && "succeeded".equals(result.getType()); }
+
+        public String getCustomId() { return customId; }
+        public void setCustomId(String customId) { this.customId = customId; }
+        public BatchResultBody getResult() { return result; }
+        public void setResult(BatchResultBody result) { this.result = result; }
+    }
+
+    public static class BatchResultBody {
+        private String type;
+        private ClaudeResponse message;
+        private Map<String, Object> error;
+
+        public String getType() { return type; }
+        public void setType(String type) { this.type = type; }
+        public ClaudeResponse getMessage() { return message; }
+        public void setMessage(ClaudeResponse message) { this.message = message; }
+        public Map<String, Object> getError() { return error; }
+        public void setError(Map<String, Object> error) { this.error = error; }
     }
 
     public static class OpportunityScoreResult {
         private final int score;
         private final String rationale;
+        private final Map<String, DimensionScore> dimensions;
+        private final Integer confidence;
+        private final Usage usage;
+        private final String model;
 
         public OpportunityScoreResult(int score, String rationale) {
+            this(score, rationale, null);
+        }
+
+        public OpportunityScoreResult(int score, String rationale, Usage usage) {
+            this(score, rationale, Map.of(), usage);
+        }
+
+        public OpportunityScoreResult(int score, String rationale, Map<String, DimensionScore> dimensions, Usage usage) {
+            this(score, rationale, dimensions, null, usage, null);
+        }
+
+        public OpportunityScoreResult(
+                int score,
+                String rationale,
+                Map<String, DimensionScore> dimensions,
+                Integer confidence,
+                Usage usage,
+                String model) {
             this.score = score;
             this.rationale = rationale;
+            this.dimensions = Collections.unmodifiableMap(new LinkedHashMap<>(dimensions));
+            this.confidence = confidence;
+            this.usage = usage;
+            this.model = model;
+        }
+
+        public OpportunityScoreResult withUsage(Usage usage) {
+            return new OpportunityScoreResult(score, rationale, dimensions, confidence, usage, model);
+        }
+
+        public OpportunityScoreResult withModel(String model) {
+            return new OpportunityScoreResult(score, rationale, dimensions, confidence, usage, model);
         }
 
         public int getScore() { return score; }
         public String getRationale() { return rationale; }
+        /** Scores per dimension (see SCORE_DIMENSIONS), in order; empty for a single-score response. */
+        public Map<String, DimensionScore> getDimensions() { return dimensions; }
+        /** The model's confidence in the assessment (0-100), or null if not given. */
+        public Integer getConfidence() { return confidence; }
+        /** Token usage of the call that produced the score, or null if unknown. */
+        public Usage getUsage() { return usage; }
+        /** Model that produced the score, or null if unknown. */
+        public String getModel() { return model; }
     }
 
+    /**
+     * Score of one dimension of an opportunity.
+     *
+     * @param score Score (0-100)
+     * @param rationale Short rationale, or null if none was given
+     */
+    public record DimensionScore(int score, String rationale) {}
+
     public static class ClaudeApiException extends RuntimeException {
+        private final boolean retryable;
+
         public ClaudeApiException(String message) {
+            this(message, false);
+        }
+
+        public ClaudeApiException(String message, boolean retryable) {
             super(message);
+            this.retryable = retryable;
         }
 
         public ClaudeApiException(String message, Throwable cause) {
             super(message, cause);
+            this.retryable = false;
         }
+
+        /** Whether the same request may succeed if sent again. */
+        public boolean isRetryable() { return retryable; }
+    }
+
+    /**
+     * The API rejected a call as rate limited (429) or overloaded (503, 529).
+     */
+    public static class ClaudeOverloadedException extends ClaudeApiException {
+        private final int statusCode;
+        private final Duration retryAfter;
+
+        public ClaudeOverloadedException(int statusCode, Duration retryAfter) {
+            super((statusCode == 429 ? "Rate limited: " : "Overloaded: ") + statusCode, true);
+            this.statusCode = statusCode;
+            this.retryAfter = retryAfter;
+        }
+
+        public int getStatusCode() { return statusCode; }
+        public boolean isRateLimited() { return statusCode == 429; }
+        /** Server's retry-after, or null if not given. */
+        public Duration getRetryAfter() { return retryAfter; }
+    }
+
+    /**
+     * The call was not made because the circuit breaker is open.
+     */
+    public static class ClaudeCircuitOpenException extends ClaudeApiException {
+        private final Duration retryAfter;
+
+        public ClaudeCircuitOpenException(Duration retryAfter) {
+            super("Claude API circuit open, retry in " + retryAfter.toSeconds() + "s");
+            this.retryAfter = retryAfter;
+        }
+
+        /** Time until the circuit lets a call through. */
+        public Duration getRetryAfter() { return retryAfter; }
     }
 }
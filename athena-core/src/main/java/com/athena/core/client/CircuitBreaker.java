@@ -0,0 +1,170 @@
+package com.athena.core.client;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker for an API that signals overload (429, 503, 529).
+ *
+ * States:
+ * - CLOSED: calls go through; failureThreshold consecutive throttled calls open the circuit
+ * - OPEN: calls are refused for the open duration (or the server's retry-after, if longer)
+ * - HALF_OPEN: one trial call goes through; success closes the circuit, another throttled
+ *   response opens it again
+ *
+ * Other failures (e.g. a 400) neither count towards opening nor close the circuit. Each
+ * admitted call must report one outcome (onSuccess, onThrottled, onFailure or onDropped).
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    // While the trial call is in flight, other callers check back after this long
+    private static final long TRIAL_WAIT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openUntilNanos;
+    private boolean trialInFlight;
+    private long openedCount;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Ask to make a call.
+     *
+     * @return 0 if the call may go ahead, otherwise the nanoseconds until the circuit allows a call
+     */
+    public long tryAcquire() {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            if (state == State.OPEN) {
+                if (now - openUntilNanos < 0) {
+                    return openUntilNanos - now;
+                }
+                state = State.HALF_OPEN;
+            }
+            if (state == State.HALF_OPEN) {
+                if (trialInFlight) {
+                    return TRIAL_WAIT_NANOS;
+                }
+                trialInFlight = true;
+            }
+            return 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The call succeeded: close the circuit.
+     */
+    public void onSuccess() {
+        lock.lock();
+        try {
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            trialInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The call was rate limited or rejected as overloaded.
+     *
+     * @param retryAfter Server's retry-after, or null
+     */
+    public void onThrottled(Duration retryAfter) {
+        lock.lock();
+        try {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || (failureThreshold > 0 && consecutiveFailures >= failureThreshold)) {
+                long pause = retryAfter != null ? Math.max(openNanos, retryAfter.toNanos()) : openNanos;
+                if (state != State.OPEN) {
+                    openedCount++;
+                }
+                state = State.OPEN;
+                openUntilNanos = nanoClock.getAsLong() + pause;
+            }
+            trialInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The call failed for another reason, or was not made: state unchanged.
+     */
+    public void onFailure() {
+        lock.lock();
+        try {
+            trialInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The call was cancelled: state unchanged.
+     */
+    public void onDropped() {
+        onFailure();
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            if (state == State.OPEN && nanoClock.getAsLong() - openUntilNanos >= 0) {
+                return State.HALF_OPEN;
+            }
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Throttled responses since the last success.
+     *
+     * @return consecutive throttled responses
+     */
+    public int getConsecutiveFailures() {
+        lock.lock();
+        try {
+            return consecutiveFailures;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Times the circuit has opened since startup.
+     *
+     * @return open count
+     */
+    public long getOpenedCount() {
+        lock.lock();
+        try {
+            return openedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
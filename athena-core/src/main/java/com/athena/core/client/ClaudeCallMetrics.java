@@ -0,0 +1,162 @@
+package com.athena.core.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Micrometer meters for Claude API calls, tagged by operation and model.
+ *
+ * Meters:
+ * - athena.claude.call (timer, with histogram): Duration of a call, including rate limit
+ *   waits and retries; tag outcome = success, cached (response cache hit) or error
+ * - athena.claude.tokens (counter): Tokens used; tag type = input, output, cache_creation
+ *   or cache_read
+ * - athena.claude.cost (counter, USD): Estimated cost at list prices (ModelPricing)
+ * - athena.claude.retries (counter): Retried attempts
+ * - athena.claude.failures (counter): Failed calls; tag reason = rate_limited, overloaded,
+ *   circuit_open, timeout, connection, server_error, api_error or error
+ *
+ * Operations: message, score, captureStrategy, competitors, batchScore (tokens and cost of
+ * Message Batches results, at the batch discount) and the batch endpoints (createBatch,
+ * getBatch, batchResults).
+ */
+public class ClaudeCallMetrics {
+
+    private final MeterRegistry registry;
+
+    public ClaudeCallMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Metrics recorded in a private registry (for tests and tools without a metrics backend).
+     *
+     * @return metrics not exported anywhere
+     */
+    public static ClaudeCallMetrics standalone() {
+        return new ClaudeCallMetrics(new SimpleMeterRegistry());
+    }
+
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Record a completed call.
+     *
+     * @param operation Operation name
+     * @param model Model name
+     * @param duration Call duration
+     * @param failure Error of the call, or null if it succeeded
+     * @param cached Whether the response came from the response cache
+     */
+    public void recordCall(String operation, String model, Duration duration, Throwable failure, boolean cached) {
+        String outcome = failure != null ? "error" : cached ? "cached" : "success";
+        Timer.builder("athena.claude.call")
+                .description("Duration of Claude API calls, including rate limit waits and retries")
+                .tag("operation", operation)
+                .tag("model", model)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(duration);
+        if (failure != null) {
+            Counter.builder("athena.claude.failures")
+                    .description("Failed Claude API calls")
+                    .tag("operation", operation)
+                    .tag("model", model)
+                    .tag("reason", failureReason(failure))
+                    .register(registry)
+                    .increment();
+        }
+    }
+
+    /**
+     * Record the token usage and estimated cost of a call.
+     *
+     * @param operation Operation name
+     * @param model Model name
+     * @param usage Usage reported by the API (ignored if null)
+     * @param priceFactor Multiplier on list prices (1.0, or ModelPricing.BATCH_DISCOUNT)
+     */
+    public void recordUsage(String operation, String model, AnthropicClaudeClient.Usage usage, double priceFactor) {
+        if (usage == null) {
+            return;
+        }
+        countTokens(operation, model, "input", usage.getInputTokens());
+        countTokens(operation, model, "output", usage.getOutputTokens());
+        countTokens(operation, model, "cache_creation", usage.getCacheCreationInputTokens());
+        countTokens(operation, model, "cache_read", usage.getCacheReadInputTokens());
+        Counter.builder("athena.claude.cost")
+                .description("Estimated cost of Claude API calls at list prices")
+                .baseUnit("usd")
+                .tag("operation", operation)
+                .tag("model", model)
+                .register(registry)
+                .increment(ModelPricing.forModel(model).cost(usage) * priceFactor);
+    }
+
+    /**
+     * Record a retried attempt.
+     *
+     * @param operation Operation name
+     * @param model Model name
+     */
+    public void recordRetry(String operation, String model) {
+        Counter.builder("athena.claude.retries")
+                .description("Retried Claude API attempts")
+                .tag("operation", operation)
+                .tag("model", model)
+                .register(registry)
+                .increment();
+    }
+
+    private void countTokens(String operation, String model, String type, Integer tokens) {
+        if (tokens == null || tokens == 0) {
+            return;
+        }
+        Counter.builder("athena.claude.tokens")
+                .description("Tokens used by Claude API calls")
+                .baseUnit("tokens")
+                .tag("operation", operation)
+                .tag("model", model)
+                .tag("type", type)
+                .register(registry)
+                .increment(tokens);
+    }
+
+    /**
+     * Classify a failure, looking through the causes (e.g. of "Max retries exceeded").
+     */
+    static String failureReason(Throwable failure) {
+        String reason = "error";
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof AnthropicClaudeClient.ClaudeCircuitOpenException) {
+                return "circuit_open";
+            }
+            if (t instanceof AnthropicClaudeClient.ClaudeOverloadedException overloaded) {
+                return overloaded.isRateLimited() ? "rate_limited" : "overloaded";
+            }
+            if (t instanceof TimeoutException) {
+                return "timeout";
+            }
+            if (t instanceof WebClientRequestException) {
+                return "connection";
+            }
+            if (t instanceof AnthropicClaudeClient.ClaudeApiException apiException) {
+                // The innermost API error is the most specific
+                reason = apiException.isRetryable() ? "server_error" : "api_error";
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return reason;
+    }
+}
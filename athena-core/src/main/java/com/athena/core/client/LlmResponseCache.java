@@ -0,0 +1,240 @@
+package com.athena.core.client;
+
+import com.athena.core.entity.LlmResponseCacheEntry;
+import com.athena.core.repository.LlmResponseCacheRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Content-addressed cache of Claude API responses.
+ *
+ * Requests are keyed by a SHA-256 of (model, system prompt, user message, max tokens), so a
+ * reposted solicitation or an amendment with unchanged text is answered without a new call
+ * (and without using tokens). Two tiers:
+ * - Memory: bounded LRU of the most recently used entries, per instance
+ * - Database: llm_response_cache, shared by all instances and kept across restarts
+ *
+ * Entries expire after the TTL; expired rows are purged daily. Hits of each tier and misses
+ * are counted (getStats, exported as the athena.llm_cache.* Micrometer counters). Cache
+ * failures never fail a call: a failed lookup counts as a miss and a failed write is logged.
+ *
+ * Configuration:
+ * - athena.llm-cache.enabled: Enable the cache (default: true)
+ * - athena.llm-cache.ttl: Time to live of an entry (default: P30D)
+ * - athena.llm-cache.max-memory-entries: Size of the memory tier (default: 10000)
+ * - athena.llm-cache.purge-cron: Schedule of the expired entry purge (default: 3:30 AM daily;
+ *   needs @EnableScheduling, which the API application's SchedulingConfig provides)
+ */
+@Component
+public class LlmResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(LlmResponseCache.class);
+
+    private final LlmResponseCacheRepository repository;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Map<String, CachedResponse> memory;
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong databaseHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public LlmResponseCache(
+            LlmResponseCacheRepository repository,
+            @Value("${athena.llm-cache.enabled:true}") boolean enabled,
+            @Value("${athena.llm-cache.ttl:P30D}") Duration ttl,
+            @Value("${athena.llm-cache.max-memory-entries:10000}") int maxMemoryEntries) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxMemoryEntries;
+            }
+        };
+    }
+
+    /**
+     * A cache that never hits and stores nothing.
+     *
+     * @return disabled cache
+     */
+    public static LlmResponseCache disabled() {
+        return new LlmResponseCache(null, false, Duration.ZERO, 0);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Compute the cache key of a request.
+     *
+     * @param model Model name
+     * @param systemPrompt System prompt text
+     * @param userMessage User message text
+     * @param maxTokens Maximum tokens in the response
+     * @return SHA-256 of the request content (64 hex characters)
+     */
+    public static String key(String model, String systemPrompt, String userMessage, int maxTokens) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            // Length-prefix every part so different splits of the same text do not collide
+            for (String part : new String[] {model, systemPrompt, userMessage, Integer.toString(maxTokens)}) {
+                byte[] bytes = (part != null ? part : "").getBytes(StandardCharsets.UTF_8);
+                digest.update((bytes.length + ":").getBytes(StandardCharsets.UTF_8));
+                digest.update(bytes);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Look up a response, memory tier first.
+     *
+     * Blocking (the database tier is JDBC); reactive callers run it on a bounded-elastic scheduler.
+     *
+     * @param key Cache key from key()
+     * @return The cached response if present and not expired
+     */
+    public Optional<CachedResponse> get(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Instant now = Instant.now();
+        CachedResponse cached;
+        synchronized (memory) {
+            cached = memory.get(key);
+        }
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            memoryHits.incrementAndGet();
+            return Optional.of(cached);
+        }
+
+        try {
+            Optional<CachedResponse> stored = repository.findByCacheKeyAndExpiresAtAfter(key, now)
+                .map(entry -> new CachedResponse(entry.getResponseText(), entry.getInputTokens(),
+                    entry.getOutputTokens(), entry.getExpiresAt()));
+            if (stored.isPresent()) {
+                databaseHits.incrementAndGet();
+                synchronized (memory) {
+                    memory.put(key, stored.get());
+                }
+                return stored;
+            }
+        } catch (Exception e) {
+            logger.warn("LLM response cache lookup failed, calling the API: {}", e.getMessage());
+        }
+
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    /**
+     * Store a response in both tiers.
+     *
+     * @param key Cache key from key()
+     * @param model Model that produced the response
+     * @param responseText Response text
+     * @param inputTokens Input tokens of the call (may be null)
+     * @param outputTokens Output tokens of the call (may be null)
+     */
+    public void put(String key, String model, String responseText, Integer inputTokens, Integer outputTokens) {
+        if (!enabled) {
+            return;
+        }
+
+        Instant expiresAt = Instant.now().plus(ttl);
+        synchronized (memory) {
+            memory.put(key, new CachedResponse(responseText, inputTokens, outputTokens, expiresAt));
+        }
+
+        try {
+            LlmResponseCacheEntry entry = new LlmResponseCacheEntry(key, model, responseText, expiresAt);
+            entry.setInputTokens(inputTokens);
+            entry.setOutputTokens(outputTokens);
+            repository.save(entry);
+        } catch (Exception e) {
+            logger.warn("Failed to store LLM response in the cache: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Remove a response from both tiers, e.g. one that turned out to be unusable.
+     *
+     * @param key Cache key from key()
+     */
+    public void evict(String key) {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (memory) {
+            memory.remove(key);
+        }
+
+        try {
+            repository.deleteById(key);
+        } catch (Exception e) {
+            logger.warn("Failed to evict LLM response from the cache: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Delete expired database entries. Runs daily at 3:30 AM.
+     */
+    @Scheduled(cron = "${athena.llm-cache.purge-cron:0 30 3 * * *}")
+    public void purgeExpired() {
+        if (!enabled) {
+            return;
+        }
+        int deleted = repository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            logger.info("Purged {} expired LLM response cache entries", deleted);
+        }
+    }
+
+    /**
+     * Hit and miss counts since startup.
+     *
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        return new CacheStats(memoryHits.get(), databaseHits.get(), misses.get());
+    }
+
+    /**
+     * A cached response with the token usage of the call that produced it.
+     */
+    public record CachedResponse(String responseText, Integer inputTokens, Integer outputTokens, Instant expiresAt) {
+    }
+
+    /**
+     * Cache hit and miss counts.
+     */
+    public record CacheStats(long memoryHits, long databaseHits, long misses) {
+
+        public double hitRate() {
+            long lookups = memoryHits + databaseHits + misses;
+            return lookups == 0 ? 0.0 : (double) (memoryHits + databaseHits) / lookups;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.athena.core.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Claude list prices in USD per million tokens, for cost estimates.
+ *
+ * Cache writes (5-minute TTL) cost 1.25x the input price and cache reads 0.1x. Message
+ * Batches requests are billed at half price (see BATCH_DISCOUNT). Unknown models are
+ * priced as Sonnet.
+ *
+ * @param inputPerMillion Price of a million input tokens
+ * @param outputPerMillion Price of a million output tokens
+ */
+public record ModelPricing(double inputPerMillion, double outputPerMillion) {
+
+    public static final double BATCH_DISCOUNT = 0.5;
+
+    private static final double CACHE_WRITE_MULTIPLIER = 1.25;
+    private static final double CACHE_READ_MULTIPLIER = 0.1;
+
+    private static final ModelPricing SONNET = new ModelPricing(3.00, 15.00);
+
+    // Longest matching model name prefix wins
+    private static final Map<String, ModelPricing> BY_MODEL_PREFIX = new LinkedHashMap<>();
+
+    static {
+        BY_MODEL_PREFIX.put("claude-3-haiku", new ModelPricing(0.25, 1.25));
+        BY_MODEL_PREFIX.put("claude-3-5-haiku", new ModelPricing(0.80, 4.00));
+        BY_MODEL_PREFIX.put("claude-haiku", new ModelPricing(1.00, 5.00));
+        BY_MODEL_PREFIX.put("claude-3-5-sonnet", SONNET);
+        BY_MODEL_PREFIX.put("claude-3-7-sonnet", SONNET);
+        BY_MODEL_PREFIX.put("claude-sonnet", SONNET);
+        BY_MODEL_PREFIX.put("claude-3-opus", new ModelPricing(15.00, 75.00));
+        BY_MODEL_PREFIX.put("claude-opus", new ModelPricing(15.00, 75.00));
+    }
+
+    /**
+     * List price of a model.
+     *
+     * @param model Model name (e.g. claude-3-5-sonnet-20241022)
+     * @return Pricing of the model family, Sonnet pricing if unknown
+     */
+    public static ModelPricing forModel(String model) {
+        ModelPricing pricing = SONNET;
+        int matched = 0;
+        if (model != null) {
+            for (Map.Entry<String, ModelPricing> entry : BY_MODEL_PREFIX.entrySet()) {
+                if (model.startsWith(entry.getKey()) && entry.getKey().length() > matched) {
+                    pricing = entry.getValue();
+                    matched = entry.getKey().length();
+                }
+            }
+        }
+        return pricing;
+    }
+
+    /**
+     * Estimated cost of a call's token usage.
+     *
+     * @param usage Usage reported by the API (null counts as zero)
+     * @return Cost in USD
+     */
+    public double cost(AnthropicClaudeClient.Usage usage) {
+        if (usage == null) {
+            return 0.0;
+        }
+        double input = tokens(usage.getInputTokens()) * inputPerMillion
+                + tokens(usage.getCacheCreationInputTokens()) * inputPerMillion * CACHE_WRITE_MULTIPLIER
+                + tokens(usage.getCacheReadInputTokens()) * inputPerMillion * CACHE_READ_MULTIPLIER;
+        double output = tokens(usage.getOutputTokens()) * outputPerMillion;
+        return (input + output) / 1_000_000;
+    }
+
+    private static long tokens(Integer count) {
+        return count != null ? count : 0;
+    }
+}
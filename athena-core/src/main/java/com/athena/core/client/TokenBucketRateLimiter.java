@@ -0,0 +1,138 @@
+package com.athena.core.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Requests-per-minute and tokens-per-minute limiter shared by all callers of an API client.
+ *
+ * Two token buckets refill continuously at their per-minute rate and hold at most one
+ * minute of capacity:
+ * - A request takes one slot from the request bucket and its estimated token count from
+ *   the token bucket, waiting until both have enough capacity
+ * - Once the actual usage is known, adjust() refunds or charges the difference, so
+ *   overestimates do not waste quota and underestimates are paid back
+ *
+ * A request larger than a full minute of tokens is admitted once the bucket is full and
+ * leaves it in debt. A limit of 0 disables that bucket. Waiting happens outside the lock,
+ * so callers on virtual threads do not pin their carrier.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final double NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final int requestsPerMinute;
+    private final int tokensPerMinute;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double availableRequests;
+    private double availableTokens;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(int requestsPerMinute, int tokensPerMinute) {
+        this(requestsPerMinute, tokensPerMinute, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int requestsPerMinute, int tokensPerMinute, LongSupplier nanoClock) {
+        this.requestsPerMinute = requestsPerMinute;
+        this.tokensPerMinute = tokensPerMinute;
+        this.nanoClock = nanoClock;
+        this.availableRequests = requestsPerMinute;
+        this.availableTokens = tokensPerMinute;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * A limiter that never waits.
+     *
+     * @return unlimited limiter
+     */
+    public static TokenBucketRateLimiter unlimited() {
+        return new TokenBucketRateLimiter(0, 0);
+    }
+
+    /**
+     * Wait until a request with the given estimated token count fits both limits, then take it.
+     *
+     * @param estimatedTokens estimated input plus output tokens of the request
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire(int estimatedTokens) throws InterruptedException {
+        long waitNanos;
+        while ((waitNanos = tryAcquire(estimatedTokens)) > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Take capacity for a request if both buckets have it.
+     *
+     * Non-blocking form of acquire, for reactive callers that wait on a timer instead.
+     *
+     * @param estimatedTokens estimated input plus output tokens of the request
+     * @return 0 if the request was admitted, otherwise the nanoseconds to wait before retrying
+     */
+    long tryAcquire(int estimatedTokens) {
+        lock.lock();
+        try {
+            refill();
+            double requiredTokens = Math.min(estimatedTokens, tokensPerMinute);
+            long requestWait = requestsPerMinute > 0 ? nanosUntil(availableRequests, 1, requestsPerMinute) : 0;
+            long tokenWait = tokensPerMinute > 0 ? nanosUntil(availableTokens, requiredTokens, tokensPerMinute) : 0;
+            long waitNanos = Math.max(requestWait, tokenWait);
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+
+            if (requestsPerMinute > 0) {
+                availableRequests -= 1;
+            }
+            if (tokensPerMinute > 0) {
+                availableTokens -= estimatedTokens;
+            }
+            return 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Correct the token bucket once the actual usage of a request is known.
+     *
+     * @param estimatedTokens tokens taken by acquire
+     * @param actualTokens tokens reported by the API
+     */
+    public void adjust(int estimatedTokens, int actualTokens) {
+        if (tokensPerMinute <= 0 || estimatedTokens == actualTokens) {
+            return;
+        }
+        lock.lock();
+        try {
+            refill();
+            availableTokens = Math.min(tokensPerMinute, availableTokens + estimatedTokens - actualTokens);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        double elapsedMinutes = (now - lastRefillNanos) / NANOS_PER_MINUTE;
+        lastRefillNanos = now;
+        if (requestsPerMinute > 0) {
+            availableRequests = Math.min(requestsPerMinute, availableRequests + elapsedMinutes * requestsPerMinute);
+        }
+        if (tokensPerMinute > 0) {
+            availableTokens = Math.min(tokensPerMinute, availableTokens + elapsedMinutes * tokensPerMinute);
+        }
+    }
+
+    private static long nanosUntil(double available, double required, int perMinute) {
+        if (available >= required) {
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((required - available) * NANOS_PER_MINUTE / perMinute));
+    }
+}
@@ -0,0 +1,38 @@
+package com.athena.core.dto;
+
+import com.athena.core.entity.ImportManifestEntry;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DTO for import manifest entry response.
+ */
+public record ImportManifestEntryResponseDTO(
+    UUID id,
+    String source,
+    String filePath,
+    Long fileSize,
+    Instant lastModified,
+    String checksum,
+    Integer recordsImported,
+    Instant lastImportedAt,
+    UUID syncLogId
+) {
+    /**
+     * Create an ImportManifestEntryResponseDTO from an ImportManifestEntry entity.
+     */
+    public static ImportManifestEntryResponseDTO fromEntity(ImportManifestEntry entry) {
+        return new ImportManifestEntryResponseDTO(
+            entry.getId(),
+            entry.getSource(),
+            entry.getFilePath(),
+            entry.getFileSize(),
+            entry.getLastModified(),
+            entry.getChecksum(),
+            entry.getRecordsImported(),
+            entry.getLastImportedAt(),
+            entry.getSyncLog() != null ? entry.getSyncLog().getId() : null
+        );
+    }
+}
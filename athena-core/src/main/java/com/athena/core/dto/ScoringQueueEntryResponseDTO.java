@@ -0,0 +1,35 @@
+package com.athena.core.dto;
+
+import com.athena.core.entity.ScoringQueueEntry;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DTO for scoring queue entry response.
+ */
+public record ScoringQueueEntryResponseDTO(
+    UUID opportunityId,
+    BigDecimal priority,
+    Instant responseDeadline,
+    BigDecimal heuristicScore,
+    String noticeType,
+    Instant enqueuedAt,
+    Instant prioritizedAt
+) {
+    /**
+     * Create a ScoringQueueEntryResponseDTO from a ScoringQueueEntry entity.
+     */
+    public static ScoringQueueEntryResponseDTO fromEntity(ScoringQueueEntry entry) {
+        return new ScoringQueueEntryResponseDTO(
+            entry.getOpportunityId(),
+            entry.getPriority(),
+            entry.getResponseDeadline(),
+            entry.getHeuristicScore(),
+            entry.getNoticeType(),
+            entry.getEnqueuedAt(),
+            entry.getPrioritizedAt()
+        );
+    }
+}
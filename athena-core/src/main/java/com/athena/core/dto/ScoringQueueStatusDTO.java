@@ -0,0 +1,21 @@
+package com.athena.core.dto;
+
+import java.time.Instant;
+
+/**
+ * DTO for the state of the AI scoring queue.
+ *
+ * throughputSource is "measured" (AI scores saved in the last hour) or "rate_limit" (the
+ * configured Claude requests per minute, when nothing was scored recently). The drain
+ * estimate is null when neither gives a rate.
+ */
+public record ScoringQueueStatusDTO(
+    long depth,
+    long dueWithinWeek,
+    Instant oldestEnqueuedAt,
+    double throughputPerHour,
+    String throughputSource,
+    Long estimatedDrainSeconds,
+    Instant estimatedDrainedAt
+) {
+}
@@ -0,0 +1,206 @@
+package com.athena.core.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * ImportManifestEntry entity recording a source file that an import has fully processed.
+ * Lets incremental imports skip files whose size, modification time and checksum are unchanged.
+ */
+@Entity
+@Table(name = "import_manifest", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_import_manifest_source_path", columnNames = {"source", "file_path"})
+}, indexes = {
+    @Index(name = "idx_import_manifest_sync_log", columnList = "sync_log_id")
+})
+public class ImportManifestEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @NotBlank(message = "Source is required")
+    @Size(max = 100)
+    @Column(nullable = false, length = 100)
+    private String source;
+
+    @NotBlank(message = "File path is required")
+    @Column(name = "file_path", nullable = false, columnDefinition = "TEXT")
+    private String filePath;
+
+    @NotNull
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @NotNull
+    @Column(name = "last_modified", nullable = false)
+    private Instant lastModified;
+
+    @NotBlank
+    @Size(max = 64)
+    @Column(nullable = false, length = 64)
+    private String checksum;
+
+    @Column(name = "records_imported")
+    private Integer recordsImported;
+
+    @NotNull
+    @Column(name = "last_imported_at", nullable = false)
+    private Instant lastImportedAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "sync_log_id")
+    private SyncLog syncLog;
+
+    @NotNull
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @NotNull
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        Instant now = Instant.now();
+        createdAt = now;
+        updatedAt = now;
+        if (lastImportedAt == null) {
+            lastImportedAt = now;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = Instant.now();
+    }
+
+    // Constructors
+    public ImportManifestEntry() {
+    }
+
+    public ImportManifestEntry(String source, String filePath) {
+        this.source = source;
+        this.filePath = filePath;
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public Long getFileSize() {
+        return fileSize;
+    }
+
+    public void setFileSize(Long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    public void setLastModified(Instant lastModified) {
+        this.lastModified = lastModified;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public void setChecksum(String checksum) {
+        this.checksum = checksum;
+    }
+
+    public Integer getRecordsImported() {
+        return recordsImported;
+    }
+
+    public void setRecordsImported(Integer recordsImported) {
+        this.recordsImported = recordsImported;
+    }
+
+    public Instant getLastImportedAt() {
+        return lastImportedAt;
+    }
+
+    public void setLastImportedAt(Instant lastImportedAt) {
+        this.lastImportedAt = lastImportedAt;
+    }
+
+    public SyncLog getSyncLog() {
+        return syncLog;
+    }
+
+    public void setSyncLog(SyncLog syncLog) {
+        this.syncLog = syncLog;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ImportManifestEntry)) return false;
+        ImportManifestEntry that = (ImportManifestEntry) o;
+        return id != null && id.equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ImportManifestEntry{" +
+                "id=" + id +
+                ", source='" + source + '\'' +
+                ", filePath='" + filePath + '\'' +
+                ", fileSize=" + fileSize +
+                ", checksum='" + checksum + '\'' +
+                ", recordsImported=" + recordsImported +
+                ", lastImportedAt=" + lastImportedAt +
+                '}';
+    }
+}
@@ -0,0 +1,163 @@
+package com.athena.core.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+
+/**
+ * LlmResponseCacheEntry entity holding a cached Claude API response.
+ * Keyed by a SHA-256 of the request content, so identical requests share one entry.
+ */
+@Entity
+@Table(name = "llm_response_cache", indexes = {
+    @Index(name = "idx_llm_response_cache_expires_at", columnList = "expires_at")
+})
+public class LlmResponseCacheEntry {
+
+    @Id
+    @Size(max = 64)
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+
+    @NotBlank
+    @Size(max = 100)
+    @Column(nullable = false, length = 100)
+    private String model;
+
+    @NotNull
+    @Column(name = "response_text", nullable = false, columnDefinition = "TEXT")
+    private String responseText;
+
+    @Column(name = "input_tokens")
+    private Integer inputTokens;
+
+    @Column(name = "output_tokens")
+    private Integer outputTokens;
+
+    @NotNull
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @NotNull
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @NotNull
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        Instant now = Instant.now();
+        createdAt = now;
+        updatedAt = now;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = Instant.now();
+    }
+
+    // Constructors
+    public LlmResponseCacheEntry() {
+    }
+
+    public LlmResponseCacheEntry(String cacheKey, String model, String responseText, Instant expiresAt) {
+        this.cacheKey = cacheKey;
+        this.model = model;
+        this.responseText = responseText;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters and Setters
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
+    public void setCacheKey(String cacheKey) {
+        this.cacheKey = cacheKey;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public void setModel(String model) {
+        this.model = model;
+    }
+
+    public String getResponseText() {
+        return responseText;
+    }
+
+    public void setResponseText(String responseText) {
+        this.responseText = responseText;
+    }
+
+    public Integer getInputTokens() {
+        return inputTokens;
+    }
+
+    public void setInputTokens(Integer inputTokens) {
+        this.inputTokens = inputTokens;
+    }
+
+    public Integer getOutputTokens() {
+        return outputTokens;
+    }
+
+    public void setOutputTokens(Integer outputTokens) {
+        this.outputTokens = outputTokens;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LlmResponseCacheEntry)) return false;
+        LlmResponseCacheEntry that = (LlmResponseCacheEntry) o;
+        return cacheKey != null && cacheKey.equals(that.getCacheKey());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "LlmResponseCacheEntry{" +
+                "cacheKey='" + cacheKey + '\'' +
+                ", model='" + model + '\'' +
+                ", inputTokens=" + inputTokens +
+                ", outputTokens=" + outputTokens +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
@@ -7,6 +7,7 @@ import jakarta.validation.constraints.Size;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -117,6 +118,14 @@ public class Opportunity {
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
 
+    @Size(max = 64)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // Points of contact parsed by the SAM.gov import, written to contacts with the opportunity
+    @Transient
+    private List<Contact> importedContacts = List.of();
+
     @NotNull
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
@@ -346,6 +355,22 @@ public class Opportunity {
         this.isActive = isActive;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public List<Contact> getImportedContacts() {
+        return importedContacts;
+    }
+
+    public void setImportedContacts(List<Contact> importedContacts) {
+        this.importedContacts = importedContacts != null ? importedContacts : List.of();
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,242 @@
+package com.athena.core.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * ScoringBatch entity recording a message batch submitted to the Claude Message Batches API.
+ * Holds the provider's batch ID and the opportunities it scores until its results are written.
+ */
+@Entity
+@Table(name = "scoring_batches", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_scoring_batches_provider_batch_id", columnNames = {"provider_batch_id"})
+}, indexes = {
+    @Index(name = "idx_scoring_batches_status", columnList = "status")
+})
+public class ScoringBatch {
+
+    public static final String STATUS_IN_PROGRESS = "IN_PROGRESS";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @NotBlank(message = "Provider batch ID is required")
+    @Size(max = 100)
+    @Column(name = "provider_batch_id", nullable = false, length = 100)
+    private String providerBatchId;
+
+    @NotBlank(message = "Score type is required")
+    @Size(max = 50)
+    @Column(name = "score_type", nullable = false, length = 50)
+    private String scoreType;
+
+    @NotBlank
+    @Size(max = 20)
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @NotNull
+    @Column(name = "request_count", nullable = false)
+    private Integer requestCount;
+
+    @Column(name = "succeeded_count")
+    private Integer succeededCount;
+
+    @Column(name = "errored_count")
+    private Integer erroredCount;
+
+    @NotNull
+    @Column(name = "submitted_at", nullable = false)
+    private Instant submittedAt;
+
+    @Column(name = "ended_at")
+    private Instant endedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    @ElementCollection
+    @CollectionTable(name = "scoring_batch_opportunities", joinColumns = @JoinColumn(name = "scoring_batch_id"))
+    @Column(name = "opportunity_id", nullable = false)
+    private Set<UUID> opportunityIds = new HashSet<>();
+
+    @NotNull
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @NotNull
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        Instant now = Instant.now();
+        createdAt = now;
+        updatedAt = now;
+        if (submittedAt == null) {
+            submittedAt = now;
+        }
+        if (status == null) {
+            status = STATUS_IN_PROGRESS;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = Instant.now();
+    }
+
+    // Constructors
+    public ScoringBatch() {
+    }
+
+    public ScoringBatch(String providerBatchId, String scoreType, Set<UUID> opportunityIds) {
+        this.providerBatchId = providerBatchId;
+        this.scoreType = scoreType;
+        this.opportunityIds = new HashSet<>(opportunityIds);
+        this.requestCount = opportunityIds.size();
+        this.status = STATUS_IN_PROGRESS;
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getProviderBatchId() {
+        return providerBatchId;
+    }
+
+    public void setProviderBatchId(String providerBatchId) {
+        this.providerBatchId = providerBatchId;
+    }
+
+    public String getScoreType() {
+        return scoreType;
+    }
+
+    public void setScoreType(String scoreType) {
+        this.scoreType = scoreType;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Integer getRequestCount() {
+        return requestCount;
+    }
+
+    public void setRequestCount(Integer requestCount) {
+        this.requestCount = requestCount;
+    }
+
+    public Integer getSucceededCount() {
+        return succeededCount;
+    }
+
+    public void setSucceededCount(Integer succeededCount) {
+        this.succeededCount = succeededCount;
+    }
+
+    public Integer getErroredCount() {
+        return erroredCount;
+    }
+
+    public void setErroredCount(Integer erroredCount) {
+        this.erroredCount = erroredCount;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(Instant submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public Instant getEndedAt() {
+        return endedAt;
+    }
+
+    public void setEndedAt(Instant endedAt) {
+        this.endedAt = endedAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public Set<UUID> getOpportunityIds() {
+        return opportunityIds;
+    }
+
+    public void setOpportunityIds(Set<UUID> opportunityIds) {
+        this.opportunityIds = opportunityIds;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ScoringBatch)) return false;
+        ScoringBatch that = (ScoringBatch) o;
+        return id != null && id.equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ScoringBatch{" +
+                "id=" + id +
+                ", providerBatchId='" + providerBatchId + '\'' +
+                ", scoreType='" + scoreType + '\'' +
+                ", status='" + status + '\'' +
+                ", requestCount=" + requestCount +
+                ", succeededCount=" + succeededCount +
+                ", erroredCount=" + erroredCount +
+                ", submittedAt=" + submittedAt +
+                '}';
+    }
+}
@@ -0,0 +1,148 @@
+package com.athena.core.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * ScoringQueueEntry entity for an opportunity waiting for AI scoring.
+ * Written by the scoring job's prioritization step (see ScoringQueueRepository.upsert) and
+ * removed once the opportunity is scored.
+ */
+@Entity
+@Table(name = "scoring_queue", indexes = {
+    @Index(name = "idx_scoring_queue_priority", columnList = "priority DESC, opportunity_id DESC"),
+    @Index(name = "idx_scoring_queue_response_deadline", columnList = "response_deadline")
+})
+public class ScoringQueueEntry {
+
+    @Id
+    @Column(name = "opportunity_id")
+    private UUID opportunityId;
+
+    @NotNull
+    @Column(nullable = false, precision = 5, scale = 2)
+    private BigDecimal priority;
+
+    @Column(name = "response_deadline")
+    private Instant responseDeadline;
+
+    @Column(name = "heuristic_score", precision = 5, scale = 2)
+    private BigDecimal heuristicScore;
+
+    @Size(max = 50)
+    @Column(name = "notice_type", length = 50)
+    private String noticeType;
+
+    @NotNull
+    @Column(name = "enqueued_at", nullable = false, updatable = false)
+    private Instant enqueuedAt;
+
+    @NotNull
+    @Column(name = "prioritized_at", nullable = false)
+    private Instant prioritizedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        Instant now = Instant.now();
+        if (enqueuedAt == null) {
+            enqueuedAt = now;
+        }
+        if (prioritizedAt == null) {
+            prioritizedAt = now;
+        }
+    }
+
+    // Constructors
+    public ScoringQueueEntry() {
+    }
+
+    public ScoringQueueEntry(UUID opportunityId, BigDecimal priority) {
+        this.opportunityId = opportunityId;
+        this.priority = priority;
+    }
+
+    // Getters and Setters
+    public UUID getOpportunityId() {
+        return opportunityId;
+    }
+
+    public void setOpportunityId(UUID opportunityId) {
+        this.opportunityId = opportunityId;
+    }
+
+    public BigDecimal getPriority() {
+        return priority;
+    }
+
+    public void setPriority(BigDecimal priority) {
+        this.priority = priority;
+    }
+
+    public Instant getResponseDeadline() {
+        return responseDeadline;
+    }
+
+    public void setResponseDeadline(Instant responseDeadline) {
+        this.responseDeadline = responseDeadline;
+    }
+
+    public BigDecimal getHeuristicScore() {
+        return heuristicScore;
+    }
+
+    public void setHeuristicScore(BigDecimal heuristicScore) {
+        this.heuristicScore = heuristicScore;
+    }
+
+    public String getNoticeType() {
+        return noticeType;
+    }
+
+    public void setNoticeType(String noticeType) {
+        this.noticeType = noticeType;
+    }
+
+    public Instant getEnqueuedAt() {
+        return enqueuedAt;
+    }
+
+    public void setEnqueuedAt(Instant enqueuedAt) {
+        this.enqueuedAt = enqueuedAt;
+    }
+
+    public Instant getPrioritizedAt() {
+        return prioritizedAt;
+    }
+
+    public void setPrioritizedAt(Instant prioritizedAt) {
+        this.prioritizedAt = prioritizedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ScoringQueueEntry)) return false;
+        ScoringQueueEntry that = (ScoringQueueEntry) o;
+        return opportunityId != null && opportunityId.equals(that.getOpportunityId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ScoringQueueEntry{" +
+                "opportunityId=" + opportunityId +
+                ", priority=" + priority +
+                ", responseDeadline=" + responseDeadline +
+                ", noticeType='" + noticeType + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,183 @@
+package com.athena.core.loader;
+
+import com.athena.core.entity.Agency;
+import com.athena.core.repository.AgencyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory agency resolution for the SAM.gov import path.
+ *
+ * Replaces the per-record LIKE '%name%' scan with a normalized-name to agency ID map:
+ * - Preloaded from the agencies table on first use, so lookups during a bulk load are
+ *   a single hash lookup
+ * - Names are matched exactly after normalization (trimmed, whitespace collapsed,
+ *   case-insensitive); "Department of Defense" no longer matches
+ *   "Department of Defense Education Activity"
+ * - Safe for concurrent callers: a missing agency is created at most once per key,
+ *   other callers for the same key wait for that creation
+ *
+ * New agencies are saved in their own transaction so the cached ID stays valid even
+ * if the chunk or file transaction that triggered the creation rolls back. Creation
+ * runs outside the cache map's locks (a per-key future in pendingCreations), so a slow
+ * insert only holds up callers resolving the same name.
+ */
+@Component
+public class AgencyResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(AgencyResolver.class);
+
+    private final AgencyRepository agencyRepository;
+    private final TransactionTemplate requiresNewTransaction;
+
+    private final Map<String, UUID> agencyIds = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<UUID>> pendingCreations = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public AgencyResolver(AgencyRepository agencyRepository, PlatformTransactionManager transactionManager) {
+        this.agencyRepository = agencyRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Resolve the agency for a department name, creating it if it does not exist.
+     *
+     * @param departmentName the department name from the SAM.gov record
+     * @param subTier the sub-tier, stored as the tier of a newly created agency
+     * @return a lazy reference to the agency, or null if the name is blank
+     */
+    public Agency resolve(String departmentName, String subTier) {
+        String key = normalize(departmentName);
+        if (key == null) {
+            return null;
+        }
+        ensureLoaded();
+
+        UUID cachedId = agencyIds.get(key);
+        if (cachedId != null) {
+            return agencyRepository.getReferenceById(cachedId);
+        }
+
+        CompletableFuture<UUID> creation = new CompletableFuture<>();
+        CompletableFuture<UUID> pending = pendingCreations.putIfAbsent(key, creation);
+        if (pending != null) {
+            return agencyRepository.getReferenceById(awaitCreation(pending));
+        }
+        try {
+            // Created by a caller that finished before this one registered its creation
+            cachedId = agencyIds.get(key);
+            if (cachedId != null) {
+                creation.complete(cachedId);
+                return agencyRepository.getReferenceById(cachedId);
+            }
+            Agency agency = findOrCreate(key, departmentName.trim().replaceAll("\\s+", " "), subTier);
+            agencyIds.putIfAbsent(key, agency.getId());
+            creation.complete(agency.getId());
+            return agencyRepository.getReferenceById(agency.getId());
+        } catch (RuntimeException e) {
+            creation.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingCreations.remove(key, creation);
+        }
+    }
+
+    /**
+     * Normalize an agency name for matching: trimmed, internal whitespace collapsed, lower case.
+     *
+     * @param name the agency name
+     * @return the normalized key, or null if the name is null or blank
+     */
+    static String normalize(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            List<Agency> agencies = agencyRepository.findAll();
+            for (Agency agency : agencies) {
+                String key = normalize(agency.getName());
+                if (key != null && agency.getId() != null) {
+                    agencyIds.putIfAbsent(key, agency.getId());
+                }
+            }
+            loaded = true;
+            logger.info("Loaded {} agencies into resolver cache ({} distinct names)", agencies.size(), agencyIds.size());
+        }
+    }
+
+    private static UUID awaitCreation(CompletableFuture<UUID> creation) {
+        try {
+            return creation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Look the agency up once more before creating it, in case it was added outside the
+     * import since the cache was loaded. The lookup matches on the normalized name, like
+     * the cache.
+     */
+    private Agency findOrCreate(String key, String departmentName, String subTier) {
+        return requiresNewTransaction.execute(status -> agencyRepository.findFirstByNormalizedName(key)
+                .orElseGet(() -> {
+                    Agency agency = new Agency();
+                    agency.setName(departmentName);
+                    agency.setAbbreviation(generateAbbreviation(departmentName));
+                    agency.setDepartment(departmentName);
+                    agency.setTier(subTier);
+                    agency.setIsActive(true);
+
+                    logger.debug("Creating agency: {}", departmentName);
+                    return agencyRepository.save(agency);
+                }));
+    }
+
+    /**
+     * Generate simple abbreviation from agency name.
+     * Takes first letter of each word, max 10 characters.
+     */
+    static String generateAbbreviation(String name) {
+        if (name == null || name.isEmpty()) {
+            return "";
+        }
+
+        String[] words = name.split("\\s+");
+        StringBuilder abbrev = new StringBuilder();
+
+        for (String word : words) {
+            if (!word.isEmpty()) {
+                abbrev.append(word.charAt(0));
+            }
+        }
+
+        String result = abbrev.toString().toUpperCase();
+        return result.length() > 10 ? result.substring(0, 10) : result;
+    }
+}
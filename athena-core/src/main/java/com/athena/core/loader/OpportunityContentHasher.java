@@ -0,0 +1,51 @@
+package com.athena.core.loader;
+
+import com.athena.core.dto.SamGovOpportunityDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Stable content hash for SAM.gov opportunity records.
+ *
+ * The record is serialized to canonical JSON (properties sorted alphabetically, dates as
+ * ISO strings) and hashed with SHA-256, so the same notice content always produces the
+ * same 64-character hex hash regardless of field order in the source file. Stored on
+ * Opportunity.contentHash and compared on re-import to detect amended notices.
+ */
+public final class OpportunityContentHasher {
+
+    private static final ObjectMapper CANONICAL_MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private OpportunityContentHasher() {
+    }
+
+    /**
+     * Compute the content hash of a SAM.gov record.
+     *
+     * @param dto the SAM.gov record
+     * @return lower-case hex SHA-256 of the canonical JSON form
+     */
+    public static String hash(SamGovOpportunityDto dto) {
+        try {
+            byte[] canonical = CANONICAL_MAPPER.writeValueAsBytes(dto);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(canonical));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize opportunity " + dto.getNoticeId(), e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.athena.core.loader;
+
+import com.athena.core.dto.SamGovOpportunityDto.PointOfContactDto;
+import com.athena.core.entity.Contact;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Maps SAM.gov points of contact to Contact entities for the contact directory.
+ *
+ * Contacts are identified by email (lower-cased), so points of contact without a valid
+ * email are not imported. Values are trimmed and truncated to the contacts column sizes.
+ */
+public final class PointOfContactMapper {
+
+    private PointOfContactMapper() {
+    }
+
+    /**
+     * Map the points of contact of one notice, keeping the first contact per email.
+     *
+     * @param pointsOfContact points of contact from SamGovOpportunityDto (may be null)
+     * @return contacts keyed by normalized email, in notice order (not linked to an opportunity)
+     */
+    public static Map<String, Contact> toContacts(List<PointOfContactDto> pointsOfContact) {
+        Map<String, Contact> contacts = new LinkedHashMap<>();
+        if (pointsOfContact == null) {
+            return contacts;
+        }
+        for (PointOfContactDto poc : pointsOfContact) {
+            Contact contact = toContact(poc);
+            if (contact != null) {
+                contacts.putIfAbsent(contact.getEmail(), contact);
+            }
+        }
+        return contacts;
+    }
+
+    /**
+     * Map a single point of contact.
+     *
+     * @param poc the point of contact
+     * @return the contact, or null if the point of contact has no valid email
+     */
+    public static Contact toContact(PointOfContactDto poc) {
+        String email = normalizeEmail(poc != null ? poc.getEmail() : null);
+        if (email == null) {
+            return null;
+        }
+
+        Contact contact = new Contact(email);
+        String fullName = trimToNull(poc.getFullName());
+        if (fullName != null) {
+            int space = fullName.indexOf(' ');
+            contact.setFullName(truncate(fullName, 255));
+            contact.setFirstName(truncate(space > 0 ? fullName.substring(0, space) : fullName, 100));
+            contact.setLastName(space > 0 ? truncate(fullName.substring(space + 1).trim(), 100) : null);
+        }
+        contact.setPhone(truncate(trimToNull(poc.getPhone()), 20));
+        contact.setTitle(truncate(trimToNull(poc.getTitle()), 200));
+
+        String type = trimToNull(poc.getType());
+        contact.setContactType(type != null ? truncate(type.toLowerCase(Locale.ROOT), 50) : null);
+        contact.setIsPrimary("primary".equalsIgnoreCase(type));
+        return contact;
+    }
+
+    /**
+     * Normalize an email for deduplication.
+     *
+     * @param email raw email
+     * @return trimmed lower-case email, or null if blank, too long or not an address
+     */
+    public static String normalizeEmail(String email) {
+        String trimmed = trimToNull(email);
+        if (trimmed == null || trimmed.length() > 255) {
+            return null;
+        }
+        int at = trimmed.indexOf('@');
+        if (at <= 0 || at == trimmed.length() - 1 || trimmed.chars().anyMatch(Character::isWhitespace)) {
+            return null;
+        }
+        return trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
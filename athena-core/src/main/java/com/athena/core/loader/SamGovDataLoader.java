@@ -3,6 +3,7 @@ package com.athena.core.loader;
 import com.athena.core.dto.SamGovOpportunityDto;
 import com.athena.core.entity.*;
 import com.athena.core.repository.*;
+import com.athena.core.repository.OpportunityRepository.NoticeContentHash;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -13,8 +14,15 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * File-based data loader for SAM.gov cached JSON files.
@@ -25,6 +33,7 @@ import java.util.Optional;
  *
  * Supports:
  * - Opportunity data (notices from SAM.gov)
+ * - Points of contact (written to contacts, linked to the opportunity, deduplicated by email)
  * - Award data (contract awards)
  * - Vendor data (contractor information)
  */
@@ -33,15 +42,23 @@ public class SamGovDataLoader {
 
     private static final Logger logger = LoggerFactory.getLogger(SamGovDataLoader.class);
 
+    /**
+     * Number of records checked for changes with a single notice_id = ANY(?) query.
+     */
+    private static final int DUPLICATE_CHECK_BATCH_SIZE = 500;
+
     private final ObjectMapper objectMapper;
     private final OpportunityRepository opportunityRepository;
-    private final AgencyRepository agencyRepository;
+    private final AgencyResolver agencyResolver;
+    private final ContactRepository contactRepository;
 
     public SamGovDataLoader(
             OpportunityRepository opportunityRepository,
-            AgencyRepository agencyRepository) {
+            AgencyResolver agencyResolver,
+            ContactRepository contactRepository) {
         this.opportunityRepository = opportunityRepository;
-        this.agencyRepository = agencyRepository;
+        this.agencyResolver = agencyResolver;
+        this.contactRepository = contactRepository;
 
         // Configure Jackson ObjectMapper with Java 8 date/time support
         this.objectMapper = new ObjectMapper();
@@ -51,10 +68,16 @@ public class SamGovDataLoader {
     /**
      * Load opportunities from a JSON file.
      *
-     * Expected JSON format: Array of opportunity objects matching SamGovOpportunityDto structure
+     * Expected JSON format: Array of opportunity objects matching SamGovOpportunityDto structure.
+     * Compressed extracts (.json.gz, .json.zst, .zip) are decompressed while parsing.
+     *
+     * Like the batch import (OpportunityDuplicateFilter), each record's content hash is
+     * compared with the stored one: new notices are inserted, amended notices (hash differs,
+     * or a row imported before hashing) are updated in place, and unchanged notices or
+     * notice IDs repeated in the file are skipped.
      *
-     * @param jsonFilePath Path to the JSON file containing opportunities
-     * @return Number of opportunities loaded
+     * @param jsonFilePath Path to the JSON file (or compressed extract) containing opportunities
+     * @return Number of opportunities inserted or updated
      * @throws IOException if file reading or JSON parsing fails
      */
     @Transactional
@@ -66,41 +89,152 @@ public class SamGovDataLoader {
             throw new IOException("File not found: " + jsonFilePath);
         }
 
-        // Parse JSON file into DTOs
-        List<SamGovOpportunityDto> dtos = objectMapper.readValue(
-            jsonFile,
-            new TypeReference<List<SamGovOpportunityDto>>() {}
-        );
+        // Parse JSON file into DTOs, streaming through the decompressor for archives
+        List<SamGovOpportunityDto> dtos;
+        try (InputStream in = SamGovInputFiles.open(jsonFile.toPath())) {
+            dtos = objectMapper.readValue(in, new TypeReference<List<SamGovOpportunityDto>>() {});
+        }
 
         logger.info("Parsed {} opportunities from JSON", dtos.size());
 
         int loadedCount = 0;
+        int updatedCount = 0;
         int skippedCount = 0;
-
-        for (SamGovOpportunityDto dto : dtos) {
-            try {
-                // Check if opportunity already exists (by notice ID)
-                String noticeId = dto.getNoticeId() != null ? dto.getNoticeId() : dto.getSolicitationNumber();
-
-                if (noticeId != null && opportunityRepository.existsByNoticeId(noticeId)) {
-                    logger.debug("Opportunity already exists: {}", noticeId);
+        int contactCount = 0;
+        Set<String> loadedNoticeIds = new HashSet<>();
+        Set<String> loadedEmails = new HashSet<>();
+
+        for (int start = 0; start < dtos.size(); start += DUPLICATE_CHECK_BATCH_SIZE) {
+            List<SamGovOpportunityDto> batch = dtos.subList(start, Math.min(start + DUPLICATE_CHECK_BATCH_SIZE, dtos.size()));
+
+            // Load the stored content hash of the whole batch with a single query, then the
+            // stored entities of its amended notices with another
+            Map<String, String> storedHashes = findStoredHashes(batch, loadedNoticeIds);
+            Map<String, Opportunity> amendedOpportunities = findAmendedOpportunities(batch, storedHashes);
+            List<Opportunity> savedOpportunities = new ArrayList<>();
+
+            for (SamGovOpportunityDto dto : batch) {
+                try {
+                    String noticeId = dto.getNoticeId() != null ? dto.getNoticeId() : dto.getSolicitationNumber();
+
+                    // Notice ID already loaded earlier in this file
+                    if (noticeId != null && loadedNoticeIds.contains(noticeId)) {
+                        logger.debug("Opportunity repeated in file: {}", noticeId);
+                        skippedCount++;
+                        continue;
+                    }
+
+                    Opportunity opportunity;
+                    if (noticeId != null && storedHashes.containsKey(noticeId)) {
+                        if (Objects.equals(storedHashes.get(noticeId), OpportunityContentHasher.hash(dto))) {
+                            logger.debug("Opportunity unchanged: {}", noticeId);
+                            skippedCount++;
+                            continue;
+                        }
+                        // Amended notice: update the stored entity in place
+                        logger.debug("Updating amended opportunity: {}", noticeId);
+                        opportunity = applyToEntity(dto, amendedOpportunities.getOrDefault(noticeId, new Opportunity()));
+                        updatedCount++;
+                    } else {
+                        opportunity = convertToEntity(dto);
+                        loadedCount++;
+                    }
+
+                    opportunityRepository.save(opportunity);
+                    savedOpportunities.add(opportunity);
+                    loadedNoticeIds.add(opportunity.getNoticeId());
+
+                } catch (Exception e) {
+                    logger.error("Failed to load opportunity: {}", dto.getSolicitationNumber(), e);
                     skippedCount++;
-                    continue;
                 }
+            }
+
+            // Points of contact of the batch, inserted together
+            contactCount += saveContacts(savedOpportunities, loadedEmails);
+        }
+
+        logger.info("Loaded {} opportunities, updated {} and {} contacts, skipped {} (unchanged, duplicates or errors)",
+            loadedCount, updatedCount, contactCount, skippedCount);
+        return loadedCount + updatedCount;
+    }
+
+    /**
+     * Find the stored content hash of the notice IDs of a batch that already exist in the
+     * database (null hash for rows imported before hashing).
+     * Notice IDs loaded earlier in the same run are already known and are not re-queried.
+     */
+    private Map<String, String> findStoredHashes(List<SamGovOpportunityDto> batch, Set<String> loadedNoticeIds) {
+        String[] noticeIds = batch.stream()
+            .map(dto -> dto.getNoticeId() != null ? dto.getNoticeId() : dto.getSolicitationNumber())
+            .filter(Objects::nonNull)
+            .filter(noticeId -> !loadedNoticeIds.contains(noticeId))
+            .distinct()
+            .toArray(String[]::new);
+
+        if (noticeIds.length == 0) {
+            return Map.of();
+        }
+        Map<String, String> storedHashes = new HashMap<>();
+        for (NoticeContentHash stored : opportunityRepository.findContentHashes(noticeIds)) {
+            storedHashes.put(stored.getNoticeId(), stored.getContentHash());
+        }
+        return storedHashes;
+    }
+
+    /**
+     * Load the stored entities of the notices of a batch whose content hash differs from
+     * the stored one, keyed by notice ID.
+     */
+    private Map<String, Opportunity> findAmendedOpportunities(List<SamGovOpportunityDto> batch,
+            Map<String, String> storedHashes) {
+        Set<String> amendedNoticeIds = new HashSet<>();
+        for (SamGovOpportunityDto dto : batch) {
+            String noticeId = dto.getNoticeId() != null ? dto.getNoticeId() : dto.getSolicitationNumber();
+            if (noticeId != null && storedHashes.containsKey(noticeId)
+                    && !Objects.equals(storedHashes.get(noticeId), OpportunityContentHasher.hash(dto))) {
+                amendedNoticeIds.add(noticeId);
+            }
+        }
+        if (amendedNoticeIds.isEmpty()) {
+            return Map.of();
+        }
 
-                // Convert DTO to entity and save
-                Opportunity opportunity = convertToEntity(dto);
-                opportunityRepository.save(opportunity);
-                loadedCount++;
+        Map<String, Opportunity> amendedOpportunities = new HashMap<>();
+        for (Opportunity stored : opportunityRepository.findAllByNoticeIdIn(amendedNoticeIds)) {
+            amendedOpportunities.put(stored.getNoticeId(), stored);
+        }
+        return amendedOpportunities;
+    }
 
-            } catch (Exception e) {
-                logger.error("Failed to load opportunity: {}", dto.getSolicitationNumber(), e);
-                skippedCount++;
+    /**
+     * Save the points of contact of a batch of saved opportunities with one saveAll.
+     * Emails already in the contact directory or loaded earlier in this run are skipped.
+     *
+     * @return number of contacts saved
+     */
+    private int saveContacts(List<Opportunity> opportunities, Set<String> loadedEmails) {
+        List<Contact> contacts = new ArrayList<>();
+        for (Opportunity opportunity : opportunities) {
+            for (Contact contact : opportunity.getImportedContacts()) {
+                if (loadedEmails.add(contact.getEmail())) {
+                    contact.setOpportunity(opportunity);
+                    contacts.add(contact);
+                }
             }
         }
+        if (contacts.isEmpty()) {
+            return 0;
+        }
+
+        String[] emails = contacts.stream().map(Contact::getEmail).toArray(String[]::new);
+        Set<String> existingEmails = new HashSet<>(contactRepository.findExistingEmails(emails));
+        contacts.removeIf(contact -> existingEmails.contains(contact.getEmail()));
 
-        logger.info("Loaded {} opportunities, skipped {} (duplicates or errors)", loadedCount, skippedCount);
-        return loadedCount;
+        if (!contacts.isEmpty()) {
+            contactRepository.saveAll(contacts);
+        }
+        return contacts.size();
     }
 
     /**
@@ -110,9 +244,15 @@ public class SamGovDataLoader {
      * Note: Opportunity entity stores NAICS, SetAside, NoticeType as simple string fields,
      * not as relationships in the current schema.
      */
-    private Opportunity convertToEntity(SamGovOpportunityDto dto) {
-        Opportunity opportunity = new Opportunity();
+    Opportunity convertToEntity(SamGovOpportunityDto dto) {
+        return applyToEntity(dto, new Opportunity());
+    }
 
+    /**
+     * Copy SamGovOpportunityDto fields onto a new or stored Opportunity entity. Fields the
+     * record leaves out are cleared, so an amended notice does not keep stale values.
+     */
+    private Opportunity applyToEntity(SamGovOpportunityDto dto, Opportunity opportunity) {
         // Required fields
         opportunity.setNoticeId(dto.getNoticeId() != null ? dto.getNoticeId() : dto.getSolicitationNumber());
         opportunity.setTitle(dto.getTitle());
@@ -124,10 +264,9 @@ public class SamGovDataLoader {
         opportunity.setPostedDate(dto.getPostedDate());
 
         // Response deadline - DTO has LocalDate, entity expects Instant
-        if (dto.getResponseDeadline() != null) {
-            opportunity.setResponseDeadline(dto.getResponseDeadline().atStartOfDay()
-                .atZone(java.time.ZoneId.of("UTC")).toInstant());
-        }
+        opportunity.setResponseDeadline(dto.getResponseDeadline() != null
+            ? dto.getResponseDeadline().atStartOfDay().atZone(java.time.ZoneId.of("UTC")).toInstant()
+            : null);
 
         // Place of performance
         if (dto.getPlaceOfPerformance() != null) {
@@ -138,18 +277,19 @@ public class SamGovDataLoader {
                 pop.getCountry() != null ? pop.getCountry() : "US"
             );
             opportunity.setPlaceOfPerformanceZip(pop.getZip());
+        } else {
+            // Cleared on update when the amended notice has none
+            opportunity.setPlaceOfPerformanceCity(null);
+            opportunity.setPlaceOfPerformanceState(null);
+            opportunity.setPlaceOfPerformanceCountry(null);
+            opportunity.setPlaceOfPerformanceZip(null);
         }
 
-        // Related entities - Agency
-        if (dto.getDepartment() != null) {
-            Agency agency = findOrCreateAgency(dto.getDepartment(), dto.getSubTier());
-            opportunity.setAgency(agency);
-        }
+        // Related entities - Agency (null when the record has no department)
+        opportunity.setAgency(agencyResolver.resolve(dto.getDepartment(), dto.getSubTier()));
 
         // Office name
-        if (dto.getOffice() != null) {
-            opportunity.setOfficeName(dto.getOffice());
-        }
+        opportunity.setOfficeName(dto.getOffice());
 
         // Simple string fields (not relationships in current schema)
         opportunity.setNaicsCode(dto.getNaicsCode());
@@ -157,9 +297,7 @@ public class SamGovDataLoader {
         opportunity.setClassificationCode(dto.getClassificationCode());
 
         // Archive metadata
-        if ("Yes".equalsIgnoreCase(dto.getArchive())) {
-            opportunity.setArchiveType("archived");
-        }
+        opportunity.setArchiveType("Yes".equalsIgnoreCase(dto.getArchive()) ? "archived" : null);
 
         // Links
         opportunity.setUiLink(dto.getUiLink());
@@ -168,48 +306,12 @@ public class SamGovDataLoader {
         // Active status
         opportunity.setIsActive("Yes".equalsIgnoreCase(dto.getActive()));
 
-        return opportunity;
-    }
-
-    private Agency findOrCreateAgency(String departmentName, String subTier) {
-        // Try to find by name using case-insensitive search
-        List<Agency> matches = agencyRepository.findByNameContainingIgnoreCase(departmentName);
-
-        if (!matches.isEmpty()) {
-            // Return first match
-            return matches.get(0);
-        }
-
-        // Create new agency
-        Agency agency = new Agency();
-        agency.setName(departmentName);
-        agency.setAbbreviation(generateAbbreviation(departmentName));
-        agency.setDepartment(departmentName);
-        agency.setTier(subTier);
-        agency.setIsActive(true);
-
-        return agencyRepository.save(agency);
-    }
-
-    /**
-     * Generate simple abbreviation from agency name.
-     * Takes first letter of each word, max 10 characters.
-     */
-    private String generateAbbreviation(String name) {
-        if (name == null || name.isEmpty()) {
-            return "";
-        }
+        // Content hash for change detection on re-import
+        opportunity.setContentHash(OpportunityContentHasher.hash(dto));
 
-        String[] words = name.split("\\s+");
-        StringBuilder abbrev = new StringBuilder();
+        // Points of contact, saved after the opportunity
+        opportunity.setImportedContacts(List.copyOf(PointOfContactMapper.toContacts(dto.getPointOfContact()).values()));
 
-        for (String word : words) {
-            if (!word.isEmpty()) {
-                abbrev.append(word.charAt(0));
-            }
-        }
-
-        String result = abbrev.toString().toUpperCase();
-        return result.length() > 10 ? result.substring(0, 10) : result;
+        return opportunity;
     }
 }
@@ -0,0 +1,119 @@
+package com.athena.core.loader;
+
+import com.github.luben.zstd.ZstdInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Opens SAM.gov extract files for streaming, decompressing archives on the fly.
+ *
+ * Supported inputs:
+ * - *.json: read through a memory-mapped FileChannel when larger than
+ *   MEMORY_MAP_THRESHOLD, otherwise through a buffered stream
+ * - *.json.gz: gzip (including multi-member files)
+ * - *.json.zst / *.json.zstd: Zstandard
+ * - *.zip: the JSON entry of the archive (SAM.gov extracts hold a single entry)
+ *
+ * Archives are never expanded to disk; the caller parses the decompressed stream directly.
+ */
+public final class SamGovInputFiles {
+
+    private static final Logger logger = LoggerFactory.getLogger(SamGovInputFiles.class);
+
+    /**
+     * Uncompressed files at least this large are memory-mapped instead of read through a buffer.
+     */
+    public static final long MEMORY_MAP_THRESHOLD = 64L * 1024 * 1024;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final List<String> SUPPORTED_EXTENSIONS =
+        List.of(".json", ".json.gz", ".json.zst", ".json.zstd", ".zip");
+
+    private SamGovInputFiles() {
+    }
+
+    /**
+     * Check whether a file is a SAM.gov extract this class can open.
+     *
+     * @param file the candidate file
+     * @return true for plain, gzip, zstd or zip JSON extracts
+     */
+    public static boolean isSupported(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return SUPPORTED_EXTENSIONS.stream().anyMatch(name::endsWith);
+    }
+
+    /**
+     * Open a SAM.gov extract as a stream of uncompressed JSON.
+     *
+     * @param file the extract to open
+     * @return stream of the JSON content; closing it releases the file
+     * @throws IOException if the file cannot be opened or is not a valid archive
+     */
+    public static InputStream open(Path file) throws IOException {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+
+        if (name.endsWith(".gz")) {
+            return new GZIPInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        }
+        if (name.endsWith(".zst") || name.endsWith(".zstd")) {
+            return new BufferedInputStream(new ZstdInputStream(Files.newInputStream(file)), BUFFER_SIZE);
+        }
+        if (name.endsWith(".zip")) {
+            return openZipEntry(file);
+        }
+        if (Files.size(file) >= MEMORY_MAP_THRESHOLD) {
+            return new MappedFileInputStream(file);
+        }
+        return new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+    }
+
+    /**
+     * Open the JSON entry of a zip archive. The returned stream closes the archive too.
+     */
+    private static InputStream openZipEntry(Path file) throws IOException {
+        ZipFile zipFile = new ZipFile(file.toFile());
+        try {
+            List<? extends ZipEntry> entries = zipFile.stream()
+                .filter(entry -> !entry.isDirectory())
+                .filter(entry -> entry.getName().toLowerCase(Locale.ROOT).endsWith(".json"))
+                .toList();
+
+            if (entries.isEmpty()) {
+                throw new IOException("No JSON entry in zip archive: " + file);
+            }
+            if (entries.size() > 1) {
+                logger.warn("Zip archive {} holds {} JSON entries, reading only {}",
+                    file, entries.size(), entries.get(0).getName());
+            }
+
+            InputStream entryStream = new BufferedInputStream(zipFile.getInputStream(entries.get(0)), BUFFER_SIZE);
+            return new FilterInputStream(entryStream) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        zipFile.close();
+                    }
+                }
+            };
+        } catch (IOException | RuntimeException e) {
+            zipFile.close();
+            throw e;
+        }
+    }
+}
@@ -34,6 +34,18 @@ public interface AgencyRepository extends JpaRepository<Agency, UUID> {
     @Query("SELECT a FROM Agency a WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<Agency> findByNameContainingIgnoreCase(@Param("name") String name);
 
+    /**
+     * Find the first agency whose name matches after normalization (trimmed, internal
+     * whitespace collapsed, lower case).
+     *
+     * @param normalizedName the normalized agency name
+     * @return Optional containing the agency if found
+     */
+    @Query(value = "SELECT * FROM agencies a " +
+                   "WHERE lower(btrim(regexp_replace(a.name, '\\s+', ' ', 'g'))) = :normalizedName " +
+                   "LIMIT 1", nativeQuery = true)
+    Optional<Agency> findFirstByNormalizedName(@Param("normalizedName") String normalizedName);
+
     /**
      * Find all active agencies.
      *
@@ -2,6 +2,8 @@ package com.athena.core.repository;
 
 import com.athena.core.entity.Contact;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -78,4 +80,14 @@ public interface ContactRepository extends JpaRepository<Contact, UUID> {
      * @return List of contacts with matching type
      */
     List<Contact> findByContactType(String contactType);
+
+    /**
+     * Find which of the given emails already belong to a contact (case-insensitive).
+     * Resolves the points of contact of a whole import batch with one query.
+     *
+     * @param emails lower-case emails to check
+     * @return the subset of emails that already exist, lower-cased
+     */
+    @Query(value = "SELECT DISTINCT lower(c.email) FROM contacts c WHERE lower(c.email) = ANY(:emails)", nativeQuery = true)
+    List<String> findExistingEmails(@Param("emails") String[] emails);
 }
@@ -0,0 +1,42 @@
+package com.athena.core.repository;
+
+import com.athena.core.entity.ImportManifestEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for ImportManifestEntry entity operations.
+ * Tracks source files already processed by incremental imports.
+ */
+@Repository
+public interface ImportManifestEntryRepository extends JpaRepository<ImportManifestEntry, UUID> {
+
+    /**
+     * Find the manifest entry of a file.
+     *
+     * @param source the import source (e.g. SAM_GOV)
+     * @param filePath the absolute file path
+     * @return Optional containing the entry if the file was imported before
+     */
+    Optional<ImportManifestEntry> findBySourceAndFilePath(String source, String filePath);
+
+    /**
+     * Find all manifest entries of an import source.
+     *
+     * @param source the import source
+     * @return List of entries ordered by file path
+     */
+    List<ImportManifestEntry> findBySourceOrderByFilePathAsc(String source);
+
+    /**
+     * Find the files last imported by a sync run.
+     *
+     * @param syncLogId the sync log UUID of the run
+     * @return List of entries ordered by file path
+     */
+    List<ImportManifestEntry> findBySyncLogIdOrderByFilePathAsc(UUID syncLogId);
+}
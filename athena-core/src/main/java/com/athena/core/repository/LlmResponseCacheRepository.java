@@ -0,0 +1,40 @@
+package com.athena.core.repository;
+
+import com.athena.core.entity.LlmResponseCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Repository for LlmResponseCacheEntry entity operations.
+ * Database tier of the Claude response cache.
+ */
+@Repository
+public interface LlmResponseCacheRepository extends JpaRepository<LlmResponseCacheEntry, String> {
+
+    /**
+     * Find an unexpired cache entry.
+     *
+     * @param cacheKey the request hash
+     * @param now the current time
+     * @return Optional containing the entry if present and not expired
+     */
+    Optional<LlmResponseCacheEntry> findByCacheKeyAndExpiresAtAfter(String cacheKey, Instant now);
+
+    /**
+     * Delete expired cache entries.
+     *
+     * @param now the current time
+     * @return number of entries deleted
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM LlmResponseCacheEntry e WHERE e.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
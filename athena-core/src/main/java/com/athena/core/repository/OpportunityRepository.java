@@ -6,8 +6,10 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -27,6 +29,15 @@ public interface OpportunityRepository extends JpaRepository<Opportunity, UUID>
      */
     Optional<Opportunity> findByNoticeId(String noticeId);
 
+    /**
+     * Find the opportunities with any of the given notice IDs.
+     * Loads the stored notices of an import chunk that are being amended with one query.
+     *
+     * @param noticeIds the SAM.gov notice IDs
+     * @return the stored opportunities (notice IDs that do not exist are left out)
+     */
+    List<Opportunity> findAllByNoticeIdIn(Collection<String> noticeIds);
+
     /**
      * Find active opportunities.
      *
@@ -104,6 +115,83 @@ public interface OpportunityRepository extends JpaRepository<Opportunity, UUID>
      */
     boolean existsByNoticeId(String noticeId);
 
+    /**
+     * Find the stored content hash of each of the given notice IDs that already exists.
+     * Used by the import to skip unchanged notices and update amended ones.
+     *
+     * @param noticeIds the notice IDs to check
+     * @return notice ID and content hash (null for rows imported before hashing) of existing notices
+     */
+    @Query(value = "SELECT o.notice_id AS noticeId, o.content_hash AS contentHash FROM opportunities o WHERE o.notice_id = ANY(:noticeIds)", nativeQuery = true)
+    List<NoticeContentHash> findContentHashes(@Param("noticeIds") String[] noticeIds);
+
+    /**
+     * Find the next page of active opportunities that have no score of the given type.
+     *
+     * Uses a NOT EXISTS anti-join against opportunity_scores and keyset pagination on
+     * (posted_date DESC, id DESC), so each page costs the same regardless of how many
+     * opportunities are already scored. Opportunities without a posted date sort last
+     * (as 0001-01-01). Opportunities waiting in an unfinished scoring batch (Message Batches
+     * API) are excluded, so they are neither submitted twice nor scored interactively meanwhile.
+     *
+     * @param scoreType the score type that must be absent (e.g. AI)
+     * @param postedDate posted date of the last row of the previous page
+     * @param id ID of the last row of the previous page
+     * @param limit page size
+     * @return up to limit opportunities after the given key, newest first
+     */
+    @Query(value = "SELECT o.* FROM opportunities o " +
+           "WHERE o.is_active = true " +
+           "AND NOT EXISTS (SELECT 1 FROM opportunity_scores s " +
+           "WHERE s.opportunity_id = o.id AND s.score_type = :scoreType) " +
+           "AND NOT EXISTS (SELECT 1 FROM scoring_batch_opportunities bo " +
+           "JOIN scoring_batches b ON b.id = bo.scoring_batch_id " +
+           "WHERE bo.opportunity_id = o.id AND b.score_type = :scoreType AND b.status = 'IN_PROGRESS') " +
+           "AND (COALESCE(o.posted_date, DATE '0001-01-01'), o.id) < (:postedDate, :id) " +
+           "ORDER BY COALESCE(o.posted_date, DATE '0001-01-01') DESC, o.id DESC " +
+           "LIMIT :limit", nativeQuery = true)
+    List<Opportunity> findUnscoredPage(
+            @Param("scoreType") String scoreType,
+            @Param("postedDate") LocalDate postedDate,
+            @Param("id") UUID id,
+            @Param("limit") int limit);
+
+    /**
+     * Find the next page of active opportunities that have no score of the given type but
+     * passed a screening score (two-stage scoring).
+     *
+     * Same as findUnscoredPage, restricted to opportunities with a score of gateScoreType
+     * (e.g. HEURISTIC) of at least minGateScore. Lowering the threshold lets previously
+     * screened-out opportunities through on the next run.
+     *
+     * @param scoreType the score type that must be absent (e.g. AI)
+     * @param gateScoreType the screening score type (e.g. HEURISTIC)
+     * @param minGateScore minimum screening score
+     * @param postedDate posted date of the last row of the previous page
+     * @param id ID of the last row of the previous page
+     * @param limit page size
+     * @return up to limit opportunities after the given key, newest first
+     */
+    @Query(value = "SELECT o.* FROM opportunities o " +
+           "WHERE o.is_active = true " +
+           "AND EXISTS (SELECT 1 FROM opportunity_scores g " +
+           "WHERE g.opportunity_id = o.id AND g.score_type = :gateScoreType AND g.score_value >= :minGateScore) " +
+           "AND NOT EXISTS (SELECT 1 FROM opportunity_scores s " +
+           "WHERE s.opportunity_id = o.id AND s.score_type = :scoreType) " +
+           "AND NOT EXISTS (SELECT 1 FROM scoring_batch_opportunities bo " +
+           "JOIN scoring_batches b ON b.id = bo.scoring_batch_id " +
+           "WHERE bo.opportunity_id = o.id AND b.score_type = :scoreType AND b.status = 'IN_PROGRESS') " +
+           "AND (COALESCE(o.posted_date, DATE '0001-01-01'), o.id) < (:postedDate, :id) " +
+           "ORDER BY COALESCE(o.posted_date, DATE '0001-01-01') DESC, o.id DESC " +
+           "LIMIT :limit", nativeQuery = true)
+    List<Opportunity> findUnscoredPageWithMinimumScore(
+            @Param("scoreType") String scoreType,
+            @Param("gateScoreType") String gateScoreType,
+            @Param("minGateScore") BigDecimal minGateScore,
+            @Param("postedDate") LocalDate postedDate,
+            @Param("id") UUID id,
+            @Param("limit") int limit);
+
     /**
      * Count opportunities created between start and end time.
      *
@@ -112,4 +200,13 @@ public interface OpportunityRepository extends JpaRepository<Opportunity, UUID>
      * @return count of opportunities
      */
     long countByCreatedAtBetween(Instant startTime, Instant endTime);
+
+    /**
+     * Projection of a notice ID and its stored content hash.
+     */
+    interface NoticeContentHash {
+        String getNoticeId();
+
+        String getContentHash();
+    }
 }
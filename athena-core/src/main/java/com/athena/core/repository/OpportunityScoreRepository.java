@@ -8,6 +8,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -74,6 +75,16 @@ public interface OpportunityScoreRepository extends JpaRepository<OpportunitySco
      */
     boolean existsByOpportunityIdAndScoreType(UUID opportunityId, String scoreType);
 
+    /**
+     * Find which of the given opportunities already have a score of a specific type.
+     *
+     * @param scoreType the score type
+     * @param opportunityIds the opportunity IDs to check
+     * @return IDs of the opportunities that have a score of that type
+     */
+    @Query("SELECT s.opportunityId FROM OpportunityScore s WHERE s.scoreType = :scoreType AND s.opportunityId IN :opportunityIds")
+    List<UUID> findScoredOpportunityIds(@Param("scoreType") String scoreType, @Param("opportunityIds") Collection<UUID> opportunityIds);
+
     /**
      * Find scores greater than or equal to threshold created after a specific time.
      *
@@ -92,6 +103,15 @@ public interface OpportunityScoreRepository extends JpaRepository<OpportunitySco
      */
     long countByCreatedAtBetween(Instant startTime, Instant endTime);
 
+    /**
+     * Count scores of a type created after a time (e.g. the recent AI scoring rate).
+     *
+     * @param scoreType the score type (e.g. AI)
+     * @param startTime start timestamp
+     * @return count of scores
+     */
+    long countByScoreTypeAndCreatedAtAfter(String scoreType, Instant startTime);
+
     /**
      * Count scores greater than or equal to threshold created between start and end time.
      *
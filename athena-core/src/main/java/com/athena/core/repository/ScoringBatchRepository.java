@@ -0,0 +1,33 @@
+package com.athena.core.repository;
+
+import com.athena.core.entity.ScoringBatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for ScoringBatch entity operations.
+ * Tracks message batches submitted for bulk opportunity scoring.
+ */
+@Repository
+public interface ScoringBatchRepository extends JpaRepository<ScoringBatch, UUID> {
+
+    /**
+     * Find batches in a status, oldest submission first.
+     *
+     * @param status the batch status (e.g. IN_PROGRESS)
+     * @return List of batches ordered by submission time
+     */
+    List<ScoringBatch> findByStatusOrderBySubmittedAtAsc(String status);
+
+    /**
+     * Find a batch by the provider's batch ID.
+     *
+     * @param providerBatchId the message batch ID returned by the API
+     * @return Optional containing the batch if found
+     */
+    Optional<ScoringBatch> findByProviderBatchId(String providerBatchId);
+}
@@ -0,0 +1,104 @@
+package com.athena.core.repository;
+
+import com.athena.core.entity.ScoringQueueEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for ScoringQueueEntry entity operations.
+ * The AI scoring backlog, drained highest priority first.
+ */
+@Repository
+public interface ScoringQueueRepository extends JpaRepository<ScoringQueueEntry, UUID> {
+
+    /**
+     * Add an opportunity to the queue, or update its priority if already queued.
+     * One statement per opportunity; the original enqueued_at is kept on update.
+     *
+     * @param opportunityId the opportunity UUID
+     * @param priority priority (0-100)
+     * @param responseDeadline response deadline of the opportunity
+     * @param heuristicScore heuristic pre-score, or null
+     * @param noticeType notice type of the opportunity
+     * @param now the current time (enqueued_at of new entries, prioritized_at of all)
+     * @return number of rows inserted or updated
+     */
+    @Modifying
+    @Query(value = "INSERT INTO scoring_queue " +
+           "(opportunity_id, priority, response_deadline, heuristic_score, notice_type, enqueued_at, prioritized_at) " +
+           "VALUES (:opportunityId, :priority, :responseDeadline, :heuristicScore, :noticeType, :now, :now) " +
+           "ON CONFLICT (opportunity_id) DO UPDATE SET priority = EXCLUDED.priority, " +
+           "response_deadline = EXCLUDED.response_deadline, heuristic_score = EXCLUDED.heuristic_score, " +
+           "notice_type = EXCLUDED.notice_type, prioritized_at = EXCLUDED.prioritized_at", nativeQuery = true)
+    int upsert(
+            @Param("opportunityId") UUID opportunityId,
+            @Param("priority") BigDecimal priority,
+            @Param("responseDeadline") Instant responseDeadline,
+            @Param("heuristicScore") BigDecimal heuristicScore,
+            @Param("noticeType") String noticeType,
+            @Param("now") Instant now);
+
+    /**
+     * Find the next page of queued active opportunities that still have no score of the
+     * given type (e.g. scored meanwhile by the import event worker).
+     *
+     * Keyset pagination on (priority DESC, opportunity_id DESC), like
+     * OpportunityRepository.findUnscoredPage.
+     *
+     * @param scoreType the score type that must be absent (e.g. AI)
+     * @param priority priority of the last entry of the previous page
+     * @param id opportunity ID of the last entry of the previous page
+     * @param limit page size
+     * @return up to limit entries after the given key, highest priority first
+     */
+    @Query(value = "SELECT q.* FROM scoring_queue q " +
+           "JOIN opportunities o ON o.id = q.opportunity_id " +
+           "WHERE o.is_active = true " +
+           "AND NOT EXISTS (SELECT 1 FROM opportunity_scores s " +
+           "WHERE s.opportunity_id = q.opportunity_id AND s.score_type = :scoreType) " +
+           "AND (q.priority, q.opportunity_id) < (:priority, :id) " +
+           "ORDER BY q.priority DESC, q.opportunity_id DESC " +
+           "LIMIT :limit", nativeQuery = true)
+    List<ScoringQueueEntry> findUnscoredPage(
+            @Param("scoreType") String scoreType,
+            @Param("priority") BigDecimal priority,
+            @Param("id") UUID id,
+            @Param("limit") int limit);
+
+    /**
+     * Count queued opportunities due before a time.
+     *
+     * @param deadline the cutoff time
+     * @return count of entries with an earlier response deadline
+     */
+    long countByResponseDeadlineBefore(Instant deadline);
+
+    /**
+     * Find the entry waiting longest.
+     *
+     * @return Optional containing the oldest entry if the queue is not empty
+     */
+    Optional<ScoringQueueEntry> findFirstByOrderByEnqueuedAtAsc();
+
+    /**
+     * Delete entries not prioritized since a time: opportunities that left the backlog
+     * (scored, deactivated or below the heuristic threshold).
+     *
+     * @param before start of the latest prioritization
+     * @return number of entries deleted
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ScoringQueueEntry e WHERE e.prioritizedAt < :before")
+    int deletePrioritizedBefore(@Param("before") Instant before);
+}
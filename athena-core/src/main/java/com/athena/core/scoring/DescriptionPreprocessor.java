@@ -0,0 +1,277 @@
+package com.athena.core.scoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cleans up opportunity descriptions before they are sent to Claude.
+ *
+ * SAM.gov descriptions often hold HTML, boilerplate FAR/DFARS clause text and the same
+ * amendment history repeated in every amendment. Steps:
+ * 1. Markup: script/style blocks and tags are removed (block tags become line breaks) and
+ *    HTML entities decoded
+ * 2. Boilerplate: clause citation lines (e.g. "52.212-4 Contract Terms and Conditions"),
+ *    standard solicitation paragraphs and repeated paragraphs are dropped
+ * 3. Whitespace: runs of spaces collapse to one, paragraphs are separated by one blank line
+ * 4. Budget: text over athena.scoring.description.max-tokens is cut at the last paragraph
+ *    or sentence end within the budget, keeping the start (scope and requirements come first)
+ *
+ * Tokens are estimated locally at 4 characters per token, as the Claude client does for
+ * rate limiting.
+ *
+ * Metrics:
+ * - athena.scoring.description.tokens (summary): Estimated tokens sent per description
+ * - athena.scoring.description.tokens_saved (counter): Estimated tokens removed
+ * - athena.scoring.description.truncated (counter): Descriptions cut to the budget
+ *
+ * Configuration:
+ * - athena.scoring.description.max-tokens: Token budget of a description (default: 1500;
+ *   0 for no limit)
+ */
+@Component
+public class DescriptionPreprocessor {
+
+    static final int CHARS_PER_TOKEN = 4;
+    static final String TRUNCATION_MARKER = "[Description truncated]";
+
+    private static final Pattern SCRIPT_OR_STYLE = Pattern.compile(
+            "(?is)<(script|style)\\b[^>]*>.*?</\\1\\s*>");
+    private static final Pattern COMMENT = Pattern.compile("(?s)<!--.*?-->");
+    private static final Pattern BLOCK_TAG = Pattern.compile(
+            "(?i)<\\s*(br|/?p|/?div|/?li|/?ul|/?ol|/?tr|/?table|/?h[1-6])\\b[^>]*>");
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern NUMERIC_ENTITY = Pattern.compile("&#(x[0-9a-fA-F]+|[0-9]+);");
+    private static final Pattern HORIZONTAL_SPACE = Pattern.compile("[ \\t\\x0B\\f\\u00A0]+");
+    private static final Pattern PARAGRAPH_BREAK = Pattern.compile("\\n\\s*\\n");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+
+    // A clause citation, optionally with its title and date: "52.212-4 Contract Terms ... (NOV 2023)"
+    private static final Pattern CLAUSE_LINE = Pattern.compile(
+            "(?i)^\\s*(?:[-*\\u2022]\\s*)?(?:(?:FAR|DFARS|clause)\\s*)?(?:52|252)\\.\\d{3}-\\d{1,4}\\b.{0,200}$");
+
+    // Standard solicitation paragraphs that carry no information about the requirement
+    private static final List<Pattern> BOILERPLATE_PARAGRAPHS = List.of(
+            Pattern.compile("(?i)^this is a combined synopsis/solicitation for commercial (items|products)"),
+            Pattern.compile("(?i)^the following (far|dfars)? ?(provisions|clauses)( and (provisions|clauses))? (apply|are incorporated)"),
+            Pattern.compile("(?i)^(the )?(provisions|clauses) (is|are) incorporated by reference"),
+            Pattern.compile("(?i)^full text of (far|dfars) (provisions|clauses)"),
+            Pattern.compile("(?i)^this (notice|announcement) does not obligate the government"),
+            Pattern.compile("(?i)^no (telephone|phone) (calls|inquiries) will be accepted"));
+
+    private final int maxTokens;
+    private final DistributionSummary sentTokens;
+    private final Counter savedTokens;
+    private final Counter truncated;
+
+    @Autowired
+    public DescriptionPreprocessor(
+            @Value("${athena.scoring.description.max-tokens:1500}") int maxTokens,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this(maxTokens, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    public DescriptionPreprocessor(int maxTokens, MeterRegistry registry) {
+        this.maxTokens = maxTokens;
+        this.sentTokens = DistributionSummary.builder("athena.scoring.description.tokens")
+                .description("Estimated tokens of opportunity descriptions sent to Claude")
+                .baseUnit("tokens")
+                .register(registry);
+        this.savedTokens = Counter.builder("athena.scoring.description.tokens_saved")
+                .description("Estimated description tokens removed before Claude calls")
+                .baseUnit("tokens")
+                .register(registry);
+        this.truncated = Counter.builder("athena.scoring.description.truncated")
+                .description("Opportunity descriptions cut to the token budget")
+                .register(registry);
+    }
+
+    /**
+     * Preprocessor with the given budget that records metrics in a private registry.
+     *
+     * @param maxTokens Token budget (0 for no limit)
+     */
+    public DescriptionPreprocessor(int maxTokens) {
+        this(maxTokens, new SimpleMeterRegistry());
+    }
+
+    /**
+     * Clean up a description and trim it to the token budget.
+     *
+     * @param description Raw description (may be null)
+     * @return Cleaned text (empty if nothing is left) with token estimates
+     */
+    public PreparedDescription prepare(String description) {
+        if (description == null || description.isBlank()) {
+            return new PreparedDescription("", 0, 0);
+        }
+
+        String text = collapseWhitespace(removeBoilerplate(collapseWhitespace(stripMarkup(description))));
+        boolean cut = maxTokens > 0 && estimateTokens(text) > maxTokens;
+        if (cut) {
+            text = truncate(text, maxTokens);
+        }
+
+        PreparedDescription prepared = new PreparedDescription(text, estimateTokens(description), estimateTokens(text));
+        sentTokens.record(prepared.tokens());
+        savedTokens.increment(prepared.tokensSaved());
+        if (cut) {
+            truncated.increment();
+        }
+        return prepared;
+    }
+
+    /**
+     * Estimated tokens of a text.
+     *
+     * @param text Text (may be null)
+     * @return Characters / 4, rounded up
+     */
+    public static int estimateTokens(String text) {
+        return text == null ? 0 : (text.length() + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN;
+    }
+
+    static String stripMarkup(String html) {
+        String text = SCRIPT_OR_STYLE.matcher(html).replaceAll(" ");
+        text = COMMENT.matcher(text).replaceAll(" ");
+        text = BLOCK_TAG.matcher(text).replaceAll("\n");
+        text = TAG.matcher(text).replaceAll(" ");
+        return decodeEntities(text);
+    }
+
+    static String decodeEntities(String text) {
+        if (text.indexOf('&') < 0) {
+            return text;
+        }
+        Matcher matcher = NUMERIC_ENTITY.matcher(text);
+        StringBuilder decoded = new StringBuilder(text.length());
+        while (matcher.find()) {
+            String code = matcher.group(1);
+            int codePoint;
+            try {
+                codePoint = code.startsWith("x") ? Integer.parseInt(code.substring(1), 16) : Integer.parseInt(code);
+            } catch (NumberFormatException e) {
+                codePoint = -1;
+            }
+            String replacement = Character.isValidCodePoint(codePoint)
+                    ? new String(Character.toChars(codePoint))
+                    : matcher.group();
+            matcher.appendReplacement(decoded, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(decoded);
+        return decoded.toString()
+                .replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&apos;", "'")
+                .replace("&ndash;", "-")
+                .replace("&mdash;", "-")
+                .replace("&amp;", "&");
+    }
+
+    static String removeBoilerplate(String text) {
+        List<String> kept = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String paragraph : PARAGRAPH_BREAK.split(text)) {
+            StringBuilder lines = new StringBuilder();
+            for (String line : paragraph.split("\n")) {
+                if (!CLAUSE_LINE.matcher(line).matches()) {
+                    lines.append(line).append('\n');
+                }
+            }
+            String cleaned = lines.toString().strip();
+            if (cleaned.isEmpty() || isBoilerplate(cleaned)) {
+                continue;
+            }
+            // Amendments often repeat earlier text verbatim: keep its first occurrence
+            String normalized = NON_ALPHANUMERIC.matcher(cleaned.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+            if (seen.add(normalized)) {
+                kept.add(cleaned);
+            }
+        }
+        return String.join("\n\n", kept);
+    }
+
+    private static boolean isBoilerplate(String paragraph) {
+        for (Pattern pattern : BOILERPLATE_PARAGRAPHS) {
+            if (pattern.matcher(paragraph).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String collapseWhitespace(String text) {
+        StringBuilder collapsed = new StringBuilder(text.length());
+        boolean blankLine = false;
+        for (String line : text.replace("\r", "").split("\n")) {
+            String trimmed = HORIZONTAL_SPACE.matcher(line).replaceAll(" ").strip();
+            if (trimmed.isEmpty()) {
+                blankLine = collapsed.length() > 0;
+                continue;
+            }
+            if (collapsed.length() > 0) {
+                collapsed.append(blankLine ? "\n\n" : "\n");
+            }
+            collapsed.append(trimmed);
+            blankLine = false;
+        }
+        return collapsed.toString();
+    }
+
+    /**
+     * Cut text to a token budget (including the truncation marker) at the last paragraph
+     * or sentence end, or word break, in the second half of the allowed length.
+     */
+    static String truncate(String text, int maxTokens) {
+        int maxChars = maxTokens * CHARS_PER_TOKEN - TRUNCATION_MARKER.length() - 2;
+        if (maxChars <= 0) {
+            return TRUNCATION_MARKER;
+        }
+        String head = text.substring(0, Math.min(maxChars, text.length()));
+        int minCut = head.length() / 2;
+        int cut = head.lastIndexOf("\n\n");
+        if (cut < minCut) {
+            cut = Math.max(head.lastIndexOf(". "), head.lastIndexOf(".\n"));
+            cut = cut >= minCut ? cut + 1 : -1;
+        }
+        if (cut < minCut) {
+            cut = head.lastIndexOf(' ');
+        }
+        if (cut < minCut) {
+            cut = head.length();
+        }
+        return head.substring(0, cut).strip() + "\n\n" + TRUNCATION_MARKER;
+    }
+
+    /**
+     * Description ready for a prompt.
+     *
+     * @param text Cleaned text
+     * @param originalTokens Estimated tokens of the raw description
+     * @param tokens Estimated tokens of the cleaned text
+     */
+    public record PreparedDescription(String text, int originalTokens, int tokens) {
+
+        /**
+         * @return Estimated tokens removed (never negative)
+         */
+        public int tokensSaved() {
+            return Math.max(0, originalTokens - tokens);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.athena.core.scoring;
+
+import java.util.Map;
+
+/**
+ * Result of a HeuristicScorer.
+ *
+ * @param score Score from 0 to 100
+ * @param factors Points awarded per factor, in evaluation order
+ * @param disqualification Why the opportunity cannot be bid (score 0), or null
+ */
+public record HeuristicScore(int score, Map<String, Integer> factors, String disqualification) {
+
+    public boolean isDisqualified() {
+        return disqualification != null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.athena.core.scoring;
+
+import com.athena.core.entity.Opportunity;
+
+/**
+ * First, local stage of two-stage opportunity scoring.
+ *
+ * Scores an opportunity from its structured fields without calling an external service, so
+ * it can run over the whole corpus. Only opportunities at or above the configured threshold
+ * (athena.scoring.heuristic.threshold) go on to the LLM stage.
+ */
+public interface HeuristicScorer {
+
+    /**
+     * Score an opportunity.
+     *
+     * @param opportunity the opportunity to score
+     * @return score from 0 to 100 with the points of each factor
+     */
+    HeuristicScore score(Opportunity opportunity);
+}
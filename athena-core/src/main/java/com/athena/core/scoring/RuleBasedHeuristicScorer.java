@@ -0,0 +1,198 @@
+package com.athena.core.scoring;
+
+import com.athena.core.entity.Opportunity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Rule-based HeuristicScorer using the company profile.
+ *
+ * Points per factor (100 in total):
+ * - NAICS (30): exact match with a company NAICS code 30, same industry group (first
+ *   4 digits) 15, missing 10, none configured 15
+ * - Set-aside (15): unrestricted or eligible 15, none configured 8; any other set-aside
+ *   disqualifies
+ * - Notice type (15): solicitation 15, presolicitation or sources sought 10, other 5;
+ *   award notices and justifications disqualify
+ * - Deadline (15): 7-60 days away 15, over 60 days 10, 3-7 days 8, unknown 8, under
+ *   3 days 3; a passed deadline disqualifies
+ * - Keywords (25): distinct capability keywords in the title and description, full
+ *   points at 4 hits
+ *
+ * A disqualified opportunity scores 0. Runs in microseconds: no I/O, one pass over the text.
+ *
+ * Configuration:
+ * - athena.scoring.heuristic.naics-codes: Company NAICS codes (comma-separated)
+ * - athena.scoring.heuristic.set-asides: Set-asides the company is eligible for, matched
+ *   case-insensitively against the code or description (comma-separated)
+ * - athena.scoring.heuristic.keywords: Capability keywords (default: words of
+ *   athena.scoring.company-capabilities)
+ */
+@Component
+public class RuleBasedHeuristicScorer implements HeuristicScorer {
+
+    static final int NAICS_POINTS = 30;
+    static final int SET_ASIDE_POINTS = 15;
+    static final int NOTICE_TYPE_POINTS = 15;
+    static final int DEADLINE_POINTS = 15;
+    static final int KEYWORD_POINTS = 25;
+
+    private static final int KEYWORD_HITS_FOR_FULL_POINTS = 4;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^a-z0-9]+");
+
+    // Words too common in solicitations to indicate a capability match
+    private static final Set<String> STOP_WORDS = Set.of(
+            "and", "the", "for", "with", "from", "that", "this", "other", "including", "related",
+            "provide", "services", "service", "support", "experience", "government", "federal",
+            "contract", "contracting", "requirements");
+
+    private static final Set<String> UNRESTRICTED_SET_ASIDES = Set.of(
+            "", "none", "n/a", "no set aside used", "unrestricted");
+
+    static final Set<String> SOLICITATION_TYPES = Set.of(
+            "solicitation", "combined synopsis/solicitation");
+
+    static final Set<String> EARLY_NOTICE_TYPES = Set.of(
+            "presolicitation", "sources sought");
+
+    static final Set<String> CLOSED_NOTICE_TYPES = Set.of(
+            "award notice", "justification", "justification and approval (j&a)", "sale of surplus property");
+
+    private final Set<String> naicsCodes;
+    private final List<String> eligibleSetAsides;
+    private final Set<String> keywords;
+    private final Clock clock;
+
+    @Autowired
+    public RuleBasedHeuristicScorer(
+            @Value("${athena.scoring.heuristic.naics-codes:}") String naicsCodes,
+            @Value("${athena.scoring.heuristic.set-asides:}") String eligibleSetAsides,
+            @Value("${athena.scoring.heuristic.keywords:}") String keywords,
+            @Value("${athena.scoring.company-capabilities:Government contracting experience with cloud infrastructure, cybersecurity, and data analytics}") String companyCapabilities) {
+        this(naicsCodes, eligibleSetAsides, keywords.isBlank() ? companyCapabilities : keywords, Clock.systemUTC());
+    }
+
+    RuleBasedHeuristicScorer(String naicsCodes, String eligibleSetAsides, String keywords, Clock clock) {
+        this.naicsCodes = new LinkedHashSet<>(split(naicsCodes));
+        this.eligibleSetAsides = split(eligibleSetAsides.toLowerCase(Locale.ROOT));
+        this.keywords = new LinkedHashSet<>();
+        for (String word : NON_WORD.split(keywords.toLowerCase(Locale.ROOT))) {
+            if (word.length() >= 3 && !STOP_WORDS.contains(word) && !word.chars().allMatch(Character::isDigit)) {
+                this.keywords.add(word);
+            }
+        }
+        this.clock = clock;
+    }
+
+    @Override
+    public HeuristicScore score(Opportunity opportunity) {
+        Map<String, Integer> factors = new LinkedHashMap<>();
+        String disqualification = null;
+
+        factors.put("naics", naicsPoints(opportunity.getNaicsCode()));
+
+        String setAside = normalize(opportunity.getSetAside());
+        if (UNRESTRICTED_SET_ASIDES.contains(setAside)) {
+            factors.put("set_aside", SET_ASIDE_POINTS);
+        } else if (eligibleSetAsides.isEmpty()) {
+            factors.put("set_aside", SET_ASIDE_POINTS / 2);
+        } else if (eligibleSetAsides.stream().anyMatch(eligible -> setAside.equals(eligible) || setAside.contains(eligible))) {
+            factors.put("set_aside", SET_ASIDE_POINTS);
+        } else {
+            factors.put("set_aside", 0);
+            disqualification = "set-aside not eligible: " + opportunity.getSetAside();
+        }
+
+        String noticeType = normalize(opportunity.getNoticeType());
+        if (SOLICITATION_TYPES.contains(noticeType)) {
+            factors.put("notice_type", NOTICE_TYPE_POINTS);
+        } else if (EARLY_NOTICE_TYPES.contains(noticeType)) {
+            factors.put("notice_type", 10);
+        } else if (CLOSED_NOTICE_TYPES.contains(noticeType)) {
+            factors.put("notice_type", 0);
+            disqualification = "notice type: " + opportunity.getNoticeType();
+        } else {
+            factors.put("notice_type", 5);
+        }
+
+        if (opportunity.getResponseDeadline() == null) {
+            factors.put("deadline", 8);
+        } else {
+            Duration remaining = Duration.between(clock.instant(), opportunity.getResponseDeadline());
+            long days = remaining.toDays();
+            if (remaining.isNegative()) {
+                factors.put("deadline", 0);
+                disqualification = "response deadline passed";
+            } else if (days < 3) {
+                factors.put("deadline", 3);
+            } else if (days < 7) {
+                factors.put("deadline", 8);
+            } else if (days <= 60) {
+                factors.put("deadline", DEADLINE_POINTS);
+            } else {
+                factors.put("deadline", 10);
+            }
+        }
+
+        factors.put("keywords", keywordPoints(opportunity.getTitle(), opportunity.getDescription()));
+
+        int score = disqualification != null ? 0
+                : factors.values().stream().mapToInt(Integer::intValue).sum();
+        return new HeuristicScore(score, factors, disqualification);
+    }
+
+    private int naicsPoints(String naicsCode) {
+        if (naicsCodes.isEmpty()) {
+            return NAICS_POINTS / 2;
+        }
+        if (naicsCode == null || naicsCode.isBlank()) {
+            return 10;
+        }
+        String code = naicsCode.trim();
+        if (naicsCodes.contains(code)) {
+            return NAICS_POINTS;
+        }
+        if (code.length() >= 4 && naicsCodes.stream().anyMatch(company -> company.startsWith(code.substring(0, 4)))) {
+            return NAICS_POINTS / 2;
+        }
+        return 0;
+    }
+
+    private int keywordPoints(String title, String description) {
+        if (keywords.isEmpty()) {
+            return 0;
+        }
+        Set<String> words = new LinkedHashSet<>();
+        for (String text : new String[] {title, description}) {
+            if (text != null) {
+                words.addAll(Arrays.asList(NON_WORD.split(text.toLowerCase(Locale.ROOT))));
+            }
+        }
+        long hits = keywords.stream().filter(words::contains).count();
+        return (int) (KEYWORD_POINTS * Math.min(hits, KEYWORD_HITS_FOR_FULL_POINTS) / KEYWORD_HITS_FOR_FULL_POINTS);
+    }
+
+    static String normalize(String value) {
+        return value != null ? value.trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static List<String> split(String values) {
+        return Arrays.stream(values.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,85 @@
+package com.athena.core.scoring;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Priority of an opportunity in the AI scoring queue, from 0 to 100.
+ *
+ * Weighted sum of three factors, each from 0 to 1:
+ * - Deadline proximity: 1 / (1 + days left / 7), so 1.0 when due now, 0.5 at 7 days,
+ *   0.19 at 30 days; 0.2 without a deadline, 0 once the deadline has passed
+ * - Heuristic pre-score: HEURISTIC score / 100; 0.5 if not scored
+ * - Notice type: solicitation 1.0, presolicitation or sources sought 0.6, other 0.4,
+ *   award notices and justifications 0 (same groups as RuleBasedHeuristicScorer)
+ *
+ * Weights are relative (divided by their sum). Deadline proximity changes over time, so
+ * priorities are recomputed on every scoring run.
+ *
+ * @param deadlineWeight Weight of deadline proximity
+ * @param heuristicWeight Weight of the heuristic pre-score
+ * @param noticeTypeWeight Weight of the notice type
+ */
+public record ScoringPriority(double deadlineWeight, double heuristicWeight, double noticeTypeWeight) {
+
+    public static final ScoringPriority DEFAULT = new ScoringPriority(0.5, 0.3, 0.2);
+
+    static final double HALF_PRIORITY_DAYS = 7.0;
+    static final double NO_DEADLINE_PROXIMITY = 0.2;
+    static final double UNSCORED_HEURISTIC = 0.5;
+
+    public ScoringPriority {
+        if (deadlineWeight < 0 || heuristicWeight < 0 || noticeTypeWeight < 0
+                || deadlineWeight + heuristicWeight + noticeTypeWeight <= 0) {
+            throw new IllegalArgumentException("Priority weights must be non-negative with a positive sum");
+        }
+    }
+
+    /**
+     * Priority of an opportunity.
+     *
+     * @param responseDeadline Response deadline, or null
+     * @param heuristicScore HEURISTIC score (0-100), or null if not scored
+     * @param noticeType Notice type
+     * @param now Current time
+     * @return Priority from 0 to 100, two decimals
+     */
+    public BigDecimal priority(Instant responseDeadline, BigDecimal heuristicScore, String noticeType, Instant now) {
+        double heuristic = heuristicScore != null
+                ? Math.max(0.0, Math.min(1.0, heuristicScore.doubleValue() / 100.0))
+                : UNSCORED_HEURISTIC;
+        double weighted = deadlineWeight * deadlineProximity(responseDeadline, now)
+                + heuristicWeight * heuristic
+                + noticeTypeWeight * noticeTypeFactor(noticeType);
+        double total = deadlineWeight + heuristicWeight + noticeTypeWeight;
+        return BigDecimal.valueOf(100.0 * weighted / total).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    static double deadlineProximity(Instant responseDeadline, Instant now) {
+        if (responseDeadline == null) {
+            return NO_DEADLINE_PROXIMITY;
+        }
+        if (responseDeadline.isBefore(now)) {
+            // Responses are closed, nothing left to prepare
+            return 0.0;
+        }
+        double daysLeft = Duration.between(now, responseDeadline).toMinutes() / (24.0 * 60.0);
+        return 1.0 / (1.0 + daysLeft / HALF_PRIORITY_DAYS);
+    }
+
+    static double noticeTypeFactor(String noticeType) {
+        String normalized = RuleBasedHeuristicScorer.normalize(noticeType);
+        if (RuleBasedHeuristicScorer.SOLICITATION_TYPES.contains(normalized)) {
+            return 1.0;
+        }
+        if (RuleBasedHeuristicScorer.EARLY_NOTICE_TYPES.contains(normalized)) {
+            return 0.6;
+        }
+        if (RuleBasedHeuristicScorer.CLOSED_NOTICE_TYPES.contains(normalized)) {
+            return 0.0;
+        }
+        return 0.4;
+    }
+}
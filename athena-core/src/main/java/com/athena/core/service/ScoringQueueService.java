@@ -0,0 +1,28 @@
+package com.athena.core.service;
+
+import com.athena.core.dto.ScoringQueueEntryResponseDTO;
+import com.athena.core.dto.ScoringQueueStatusDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for the AI scoring queue.
+ * Reports the backlog waiting for Claude scoring and how long it will take to drain.
+ */
+public interface ScoringQueueService {
+
+    /**
+     * Get queue depth, deadlines at risk and the estimated drain time.
+     *
+     * @return current queue status
+     */
+    ScoringQueueStatusDTO getStatus();
+
+    /**
+     * Find the entries that will be scored next.
+     *
+     * @param limit maximum number of entries
+     * @return list of entries, highest priority first
+     */
+    List<ScoringQueueEntryResponseDTO> findNext(int limit);
+}
@@ -0,0 +1,86 @@
+package com.athena.core.service;
+
+import com.athena.core.dto.ScoringQueueEntryResponseDTO;
+import com.athena.core.dto.ScoringQueueStatusDTO;
+import com.athena.core.entity.ScoringQueueEntry;
+import com.athena.core.repository.OpportunityScoreRepository;
+import com.athena.core.repository.ScoringQueueRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of ScoringQueueService.
+ *
+ * The drain estimate divides the queue depth by the AI scoring rate of the last hour, or,
+ * if nothing was scored in that hour, by the configured Claude request rate
+ * (anthropic.api.rate-limit.requests-per-minute, one call per opportunity).
+ */
+@Service
+@Transactional(readOnly = true)
+public class ScoringQueueServiceImpl implements ScoringQueueService {
+
+    static final String SCORE_TYPE = "AI";
+    static final int MAX_LIMIT = 500;
+
+    private final ScoringQueueRepository scoringQueueRepository;
+    private final OpportunityScoreRepository opportunityScoreRepository;
+    private final int requestsPerMinute;
+
+    public ScoringQueueServiceImpl(
+            ScoringQueueRepository scoringQueueRepository,
+            OpportunityScoreRepository opportunityScoreRepository,
+            @Value("${anthropic.api.rate-limit.requests-per-minute:50}") int requestsPerMinute) {
+        this.scoringQueueRepository = scoringQueueRepository;
+        this.opportunityScoreRepository = opportunityScoreRepository;
+        this.requestsPerMinute = requestsPerMinute;
+    }
+
+    @Override
+    public ScoringQueueStatusDTO getStatus() {
+        Instant now = Instant.now();
+        long depth = scoringQueueRepository.count();
+        long dueWithinWeek = scoringQueueRepository.countByResponseDeadlineBefore(now.plus(Duration.ofDays(7)));
+        Instant oldestEnqueuedAt = scoringQueueRepository.findFirstByOrderByEnqueuedAtAsc()
+            .map(ScoringQueueEntry::getEnqueuedAt)
+            .orElse(null);
+
+        long scoredLastHour = opportunityScoreRepository.countByScoreTypeAndCreatedAtAfter(
+            SCORE_TYPE, now.minus(Duration.ofHours(1)));
+        double throughputPerHour;
+        String throughputSource;
+        if (scoredLastHour > 0) {
+            throughputPerHour = scoredLastHour;
+            throughputSource = "measured";
+        } else {
+            throughputPerHour = Math.max(0, requestsPerMinute) * 60.0;
+            throughputSource = "rate_limit";
+        }
+
+        Long drainSeconds = null;
+        Instant drainedAt = null;
+        if (throughputPerHour > 0) {
+            drainSeconds = (long) Math.ceil(depth * 3600.0 / throughputPerHour);
+            drainedAt = now.plusSeconds(drainSeconds);
+        }
+
+        return new ScoringQueueStatusDTO(depth, dueWithinWeek, oldestEnqueuedAt,
+            throughputPerHour, throughputSource, drainSeconds, drainedAt);
+    }
+
+    @Override
+    public List<ScoringQueueEntryResponseDTO> findNext(int limit) {
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_LIMIT)),
+            Sort.by(Sort.Direction.DESC, "priority", "opportunityId"));
+        return scoringQueueRepository.findAll(page).stream()
+            .map(ScoringQueueEntryResponseDTO::fromEntity)
+            .collect(Collectors.toList());
+    }
+}
@@ -1,5 +1,6 @@
 package com.athena.core.service;
 
+import com.athena.core.dto.ImportManifestEntryResponseDTO;
 import com.athena.core.dto.SyncLogCreateDTO;
 import com.athena.core.dto.SyncLogResponseDTO;
 import com.athena.core.dto.SyncLogUpdateDTO;
@@ -98,4 +99,21 @@ public interface SyncLogService {
      * @return list of sync logs with failed status
      */
     List<SyncLogResponseDTO> findFailedSyncs();
+
+    /**
+     * Find the import manifest of a source: every file fully processed by its imports.
+     *
+     * @param source the import source (e.g. SAM_GOV)
+     * @return list of manifest entries ordered by file path
+     */
+    List<ImportManifestEntryResponseDTO> findImportManifest(String source);
+
+    /**
+     * Find the files last imported by a sync run.
+     *
+     * @param syncLogId the sync log UUID of the run
+     * @return list of manifest entries ordered by file path
+     * @throws com.athena.core.exception.EntityNotFoundException if sync log not found
+     */
+    List<ImportManifestEntryResponseDTO> findImportManifestBySyncLog(UUID syncLogId);
 }
@@ -1,10 +1,12 @@
 package com.athena.core.service;
 
+import com.athena.core.dto.ImportManifestEntryResponseDTO;
 import com.athena.core.dto.SyncLogCreateDTO;
 import com.athena.core.dto.SyncLogResponseDTO;
 import com.athena.core.dto.SyncLogUpdateDTO;
 import com.athena.core.entity.SyncLog;
 import com.athena.core.exception.EntityNotFoundException;
+import com.athena.core.repository.ImportManifestEntryRepository;
 import com.athena.core.repository.SyncLogRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -27,9 +29,13 @@ import java.util.stream.Collectors;
 public class SyncLogServiceImpl implements SyncLogService {
 
     private final SyncLogRepository syncLogRepository;
+    private final ImportManifestEntryRepository importManifestEntryRepository;
 
-    public SyncLogServiceImpl(SyncLogRepository syncLogRepository) {
+    public SyncLogServiceImpl(
+            SyncLogRepository syncLogRepository,
+            ImportManifestEntryRepository importManifestEntryRepository) {
         this.syncLogRepository = syncLogRepository;
+        this.importManifestEntryRepository = importManifestEntryRepository;
     }
 
     @Override
@@ -113,6 +119,25 @@ public class SyncLogServiceImpl implements SyncLogService {
         return findByStatus("FAILED");
     }
 
+    @Override
+    public List<ImportManifestEntryResponseDTO> findImportManifest(String source) {
+        return importManifestEntryRepository.findBySourceOrderByFilePathAsc(source)
+            .stream()
+            .map(ImportManifestEntryResponseDTO::fromEntity)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ImportManifestEntryResponseDTO> findImportManifestBySyncLog(UUID syncLogId) {
+        if (!syncLogRepository.existsById(syncLogId)) {
+            throw new EntityNotFoundException("SyncLog", syncLogId);
+        }
+        return importManifestEntryRepository.findBySyncLogIdOrderByFilePathAsc(syncLogId)
+            .stream()
+            .map(ImportManifestEntryResponseDTO::fromEntity)
+            .collect(Collectors.toList());
+    }
+
     /**
      * Map create DTO fields to entity.
      */
@@ -0,0 +1,22 @@
+-- V10__add_scoring_queue.sql
+-- Creates scoring_queue: the AI scoring backlog in priority order (deadline proximity,
+-- heuristic pre-score, notice type), rebuilt by each opportunityScoringJob run and drained by
+-- its scoring step, so the most urgent notices get the limited Claude throughput first and the
+-- order survives restarts.
+
+CREATE TABLE scoring_queue (
+    opportunity_id UUID PRIMARY KEY REFERENCES opportunities(id) ON DELETE CASCADE,
+    priority NUMERIC(5, 2) NOT NULL,
+    response_deadline TIMESTAMP WITH TIME ZONE,
+    heuristic_score NUMERIC(5, 2),
+    notice_type VARCHAR(50),
+    enqueued_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    prioritized_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_scoring_queue_priority ON scoring_queue(priority DESC, opportunity_id DESC);
+CREATE INDEX idx_scoring_queue_response_deadline ON scoring_queue(response_deadline);
+
+COMMENT ON TABLE scoring_queue IS 'Opportunities waiting for AI scoring, highest priority first';
+COMMENT ON COLUMN scoring_queue.priority IS 'ScoringPriority (0-100) when last prioritized; recomputed every scoring run as deadlines approach';
+COMMENT ON COLUMN scoring_queue.enqueued_at IS 'When the opportunity first entered the queue (kept across reprioritization)';
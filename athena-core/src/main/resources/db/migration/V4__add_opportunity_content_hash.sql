@@ -0,0 +1,7 @@
+-- V4__add_opportunity_content_hash.sql
+-- Adds a content hash to opportunities so re-imported SAM.gov notices are only
+-- written when their content changed (amended deadline, description, etc.)
+
+ALTER TABLE opportunities ADD COLUMN content_hash VARCHAR(64);
+
+COMMENT ON COLUMN opportunities.content_hash IS 'SHA-256 of the source SAM.gov record, used for change detection on re-import';
@@ -0,0 +1,23 @@
+-- V5__add_import_manifest.sql
+-- Creates import_manifest: source files fully processed by incremental imports
+-- (SAM.gov JSON files), so unchanged files are not re-parsed on the next run
+
+CREATE TABLE import_manifest (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    source VARCHAR(100) NOT NULL,
+    file_path TEXT NOT NULL,
+    file_size BIGINT NOT NULL,
+    last_modified TIMESTAMP WITH TIME ZONE NOT NULL,
+    checksum VARCHAR(64) NOT NULL,
+    records_imported INTEGER,
+    last_imported_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    sync_log_id UUID REFERENCES sync_logs(id) ON DELETE SET NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_import_manifest_source_path UNIQUE (source, file_path)
+);
+
+CREATE INDEX idx_import_manifest_sync_log ON import_manifest(sync_log_id);
+
+COMMENT ON TABLE import_manifest IS 'Source files fully processed by incremental imports';
+COMMENT ON COLUMN import_manifest.checksum IS 'SHA-256 of the file contents when it was imported';
@@ -0,0 +1,5 @@
+-- V6__add_contacts_email_lower_index.sql
+-- Indexes contacts by lower-cased email so the SAM.gov import can deduplicate
+-- points of contact against the contact directory with one lookup per chunk
+
+CREATE INDEX idx_contacts_email_lower ON contacts(lower(email));
@@ -0,0 +1,10 @@
+-- V7__add_unscored_opportunity_indexes.sql
+-- Supports the scoring job's unscored-opportunity reader: a NOT EXISTS anti-join on
+-- opportunity_scores (opportunity_id, score_type) and keyset paging over active
+-- opportunities by (posted_date DESC, id DESC)
+
+CREATE INDEX idx_opportunity_scores_opportunity_type ON opportunity_scores(opportunity_id, score_type);
+
+CREATE INDEX idx_opportunities_active_posted_keyset
+    ON opportunities ((COALESCE(posted_date, DATE '0001-01-01')) DESC, id DESC)
+    WHERE is_active = true;
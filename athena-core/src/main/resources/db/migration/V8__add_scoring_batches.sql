@@ -0,0 +1,34 @@
+-- V8__add_scoring_batches.sql
+-- Creates scoring_batches: message batches submitted to the Claude Message Batches API by
+-- the scoring job in batch mode, polled until their results are written as opportunity scores.
+-- scoring_batch_opportunities lists the opportunities of each batch, so opportunities waiting
+-- in an unfinished batch are not submitted again.
+
+CREATE TABLE scoring_batches (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    provider_batch_id VARCHAR(100) NOT NULL,
+    score_type VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    request_count INTEGER NOT NULL,
+    succeeded_count INTEGER,
+    errored_count INTEGER,
+    submitted_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    ended_at TIMESTAMP WITH TIME ZONE,
+    completed_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_scoring_batches_provider_batch_id UNIQUE (provider_batch_id)
+);
+
+CREATE INDEX idx_scoring_batches_status ON scoring_batches(status);
+
+CREATE TABLE scoring_batch_opportunities (
+    scoring_batch_id UUID NOT NULL REFERENCES scoring_batches(id) ON DELETE CASCADE,
+    opportunity_id UUID NOT NULL,
+    PRIMARY KEY (scoring_batch_id, opportunity_id)
+);
+
+CREATE INDEX idx_scoring_batch_opportunities_opportunity ON scoring_batch_opportunities(opportunity_id);
+
+COMMENT ON TABLE scoring_batches IS 'Claude message batches submitted for bulk opportunity scoring';
+COMMENT ON COLUMN scoring_batches.status IS 'IN_PROGRESS until results are written, then COMPLETED (or FAILED)';
@@ -0,0 +1,21 @@
+-- V9__add_llm_response_cache.sql
+-- Creates llm_response_cache: Claude responses keyed by a SHA-256 of (model, system prompt,
+-- user message, max tokens), so identical requests (e.g. reposted solicitations) are answered
+-- from the database instead of a new API call
+
+CREATE TABLE llm_response_cache (
+    cache_key VARCHAR(64) PRIMARY KEY,
+    model VARCHAR(100) NOT NULL,
+    response_text TEXT NOT NULL,
+    input_tokens INTEGER,
+    output_tokens INTEGER,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_llm_response_cache_expires_at ON llm_response_cache(expires_at);
+
+COMMENT ON TABLE llm_response_cache IS 'Content-addressed cache of Claude API responses';
+COMMENT ON COLUMN llm_response_cache.cache_key IS 'SHA-256 (hex) of model, system prompt, user message and max tokens';
+COMMENT ON COLUMN llm_response_cache.input_tokens IS 'Input tokens of the original call (saved on every cache hit)';
@@ -0,0 +1,100 @@
+package com.athena.core.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AdaptiveConcurrencyLimiter.
+ * Uses a manual clock for the decrease cooldown.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private AtomicLong clock;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(0);
+        limiter = new AdaptiveConcurrencyLimiter(1, 8, Duration.ofSeconds(1), clock::get);
+    }
+
+    @Test
+    void testTryAcquire_admitsUpToLimit() {
+        for (int i = 0; i < 8; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        assertFalse(limiter.tryAcquire());
+        assertEquals(8, limiter.getInFlight());
+
+        limiter.onSuccess();
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void testOnThrottled_halvesLimitOncePerCooldown() {
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+        }
+
+        // A burst of rejections from the same round counts once
+        limiter.onThrottled();
+        limiter.onThrottled();
+        assertEquals(4, limiter.getLimit());
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        limiter.onThrottled();
+        assertEquals(2, limiter.getLimit());
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    void testOnThrottled_neverBelowMinimum() {
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.onThrottled();
+            clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        }
+
+        assertEquals(1, limiter.getLimit());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    void testOnSuccess_increasesLimitAdditively() {
+        limiter.tryAcquire();
+        limiter.onThrottled();
+        assertEquals(4, limiter.getLimit());
+
+        // About one step per round of limit successful calls
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+            limiter.onSuccess();
+        }
+        assertEquals(4, limiter.getLimit());
+        limiter.tryAcquire();
+        limiter.onSuccess();
+        assertEquals(5, limiter.getLimit());
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.onSuccess();
+        }
+        assertEquals(8, limiter.getLimit());
+    }
+
+    @Test
+    void testOnFailure_keepsLimit() {
+        limiter.tryAcquire();
+        limiter.onFailure();
+
+        assertEquals(8, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+}
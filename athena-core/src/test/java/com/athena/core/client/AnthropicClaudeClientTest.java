@@ -1,16 +1,31 @@
 package com.athena.core.client;
 
+import com.athena.core.entity.LlmResponseCacheEntry;
+import com.athena.core.repository.LlmResponseCacheRepository;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for AnthropicClaudeClient.
@@ -35,6 +50,9 @@ class AnthropicClaudeClientTest {
             "test-api-key",
             baseUrl,
             "claude-3-5-sonnet-20241022",
+            0,
+            0,
+            LlmResponseCache.disabled(),
             objectMapper
         );
     }
@@ -104,6 +122,226 @@ class AnthropicClaudeClientTest {
         assertEquals("Good fit", result.getRationale());
     }
 
+    @Test
+    void testScoreOpportunity_parsesDimensionsFromJson() {
+        String scoreJson = "{\\\"overall\\\": {\\\"score\\\": 78, \\\"rationale\\\": \\\"Pursue\\\"}, " +
+            "\\\"relevance\\\": {\\\"score\\\": 90, \\\"rationale\\\": \\\"Core capability\\\"}, " +
+            "\\\"win_probability\\\": {\\\"score\\\": 55, \\\"rationale\\\": \\\"Incumbent\\\"}, " +
+            "\\\"strategic_fit\\\": {\\\"score\\\": 80, \\\"rationale\\\": \\\"Target agency\\\"}}";
+        mockWebServer.enqueue(new MockResponse()
+            .setBody("{\"id\": \"msg_json\", \"type\": \"message\", \"role\": \"assistant\", " +
+                "\"content\": [{\"type\": \"text\", \"text\": \"" + scoreJson + "\"}], " +
+                "\"model\": \"claude-3-5-sonnet-20241022\", \"stop_reason\": \"end_turn\", " +
+                "\"usage\": {\"input_tokens\": 50, \"output_tokens\": 90}}")
+            .setHeader("Content-Type", "application/json"));
+
+        AnthropicClaudeClient.OpportunityScoreResult result = client.scoreOpportunity(
+            "Cloud Infrastructure Services",
+            "Provide AWS cloud infrastructure",
+            "Expert in AWS services"
+        );
+
+        assertEquals(78, result.getScore());
+        assertEquals("Pursue", result.getRationale());
+        assertEquals(List.copyOf(AnthropicClaudeClient.SCORE_DIMENSIONS), List.copyOf(result.getDimensions().keySet()));
+        assertEquals(new AnthropicClaudeClient.DimensionScore(90, "Core capability"), result.getDimensions().get("relevance"));
+        assertEquals(new AnthropicClaudeClient.DimensionScore(55, "Incumbent"), result.getDimensions().get("win_probability"));
+        assertEquals(new AnthropicClaudeClient.DimensionScore(80, "Target agency"), result.getDimensions().get("strategic_fit"));
+        assertEquals(90, result.getUsage().getOutputTokens());
+    }
+
+    @Test
+    void testScoreOpportunity_withTriageModel() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+            .setBody("{\"id\": \"msg_triage\", \"type\": \"message\", \"role\": \"assistant\", " +
+                "\"content\": [{\"type\": \"text\", \"text\": \"{\\\"overall\\\": {\\\"score\\\": 40}, \\\"confidence\\\": 35}\"}], " +
+                "\"model\": \"claude-3-5-haiku-20241022\", \"stop_reason\": \"end_turn\", " +
+                "\"usage\": {\"input_tokens\": 50, \"output_tokens\": 20}}")
+            .setHeader("Content-Type", "application/json"));
+
+        AnthropicClaudeClient.OpportunityScoreResult result = client.scoreOpportunity(
+            "Title", "Description", "Capabilities", "claude-3-5-haiku-20241022");
+
+        RecordedRequest request = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+        JsonNode body = objectMapper.readTree(request.getBody().readUtf8());
+        assertEquals("claude-3-5-haiku-20241022", body.get("model").asText());
+        assertEquals(40, result.getScore());
+        assertEquals(Integer.valueOf(35), result.getConfidence());
+        assertEquals("claude-3-5-haiku-20241022", result.getModel());
+    }
+
+    @Test
+    void testParseScoreResponse_jsonInCodeFenceWithoutOverall() {
+        AnthropicClaudeClient.OpportunityScoreResult result = client.parseScoreResponse(
+            "```json\n{\"relevance\": {\"score\": 120, \"rationale\": \"Exact match\"}, " +
+            "\"win_probability\": {\"score\": \"41\"}, \"strategic_fit\": {\"score\": \"high\"}}\n```");
+
+        // Average of the clamped dimensions; the unreadable dimension is left out
+        assertEquals(71, result.getScore());
+        assertEquals(2, result.getDimensions().size());
+        assertEquals(100, result.getDimensions().get("relevance").score());
+        assertEquals(41, result.getDimensions().get("win_probability").score());
+        assertNull(result.getDimensions().get("win_probability").rationale());
+    }
+
+    @Test
+    void testParseScoreResponse_lineFormatStillRead() {
+        AnthropicClaudeClient.OpportunityScoreResult result = client.parseScoreResponse("SCORE: 64\nRATIONALE: Partial fit");
+
+        assertEquals(64, result.getScore());
+        assertEquals("Partial fit", result.getRationale());
+        assertTrue(result.getDimensions().isEmpty());
+    }
+
+    @Test
+    void testParseScoreResponse_unreadableResponseThrows() {
+        // Neither scoring JSON nor the line format: no score rather than a score of 0
+        assertThrows(AnthropicClaudeClient.ClaudeApiException.class,
+            () -> client.parseScoreResponse("I cannot score this opportunity."));
+        assertThrows(AnthropicClaudeClient.ClaudeApiException.class,
+            () -> client.parseScoreResponse("{\"summary\": \"no scores\"}"));
+        assertThrows(AnthropicClaudeClient.ClaudeApiException.class,
+            () -> client.parseScoreResponse("SCORE: high"));
+    }
+
+    @Test
+    void testScoreOpportunity_cachesStaticPrefix() throws Exception {
+        // Mock response reading the prefix from the prompt cache
+        String mockResponse = "{\n" +
+            "  \"id\": \"msg_458\",\n" +
+            "  \"type\": \"message\",\n" +
+            "  \"role\": \"assistant\",\n" +
+            "  \"content\": [{\"type\": \"text\", \"text\": \"SCORE: 64\\nRATIONALE: Some fit\"}],\n" +
+            "  \"model\": \"claude-3-5-sonnet-20241022\",\n" +
+            "  \"stop_reason\": \"end_turn\",\n" +
+            "  \"usage\": {\"input_tokens\": 40, \"output_tokens\": 30, " +
+            "\"cache_creation_input_tokens\": 0, \"cache_read_input_tokens\": 1500}\n" +
+            "}";
+
+        mockWebServer.enqueue(new MockResponse()
+            .setBody(mockResponse)
+            .setHeader("Content-Type", "application/json"));
+
+        // Execute
+        AnthropicClaudeClient.OpportunityScoreResult result = client.scoreOpportunity(
+            "Cloud Infrastructure Services",
+            "Provide AWS cloud infrastructure",
+            "Expert in AWS services"
+        );
+
+        // Verify: instructions and capabilities form the cached system prefix
+        JsonNode body = objectMapper.readTree(mockWebServer.takeRequest().getBody().readUtf8());
+        JsonNode system = body.get("system");
+        assertEquals(1, system.size());
+        assertTrue(system.get(0).get("text").contains("Our Capabilities: Expert in AWS services"));
+        assertEquals("ephemeral", system.get(0).get("cache_control").get("type").asText());
+
+        JsonNode userContent = body.get("messages").get(0).get("content");
+        assertTrue(userContent.get(0).get("text").contains("Cloud Infrastructure Services"));
+        assertFalse(userContent.get(0).has("cache_control"));
+
+        // Verify: cache usage is reported per call and in the totals
+        assertEquals(64, result.getScore());
+        assertEquals(1500, result.getUsage().getCacheReadInputTokens());
+        assertEquals(1500, client.getUsageTotals().cacheReadInputTokens());
+        assertEquals(40, client.getUsageTotals().inputTokens());
+    }
+
+    @Test
+    void testSendMessage_identicalRequestServedFromCache() {
+        // Mock a single response: a second API call would hang and fail
+        String mockResponse = "{\n" +
+            "  \"id\": \"msg_459\",\n" +
+            "  \"type\": \"message\",\n" +
+            "  \"role\": \"assistant\",\n" +
+            "  \"content\": [{\"type\": \"text\", \"text\": \"Cached answer\"}],\n" +
+            "  \"model\": \"claude-3-5-sonnet-20241022\",\n" +
+            "  \"stop_reason\": \"end_turn\",\n" +
+            "  \"usage\": {\"input_tokens\": 10, \"output_tokens\": 20}\n" +
+            "}";
+
+        mockWebServer.enqueue(new MockResponse()
+            .setBody(mockResponse)
+            .setHeader("Content-Type", "application/json"));
+
+        LlmResponseCacheRepository repository = mock(LlmResponseCacheRepository.class);
+        when(repository.findByCacheKeyAndExpiresAtAfter(anyString(), any())).thenReturn(Optional.empty());
+        AnthropicClaudeClient cachingClient = new AnthropicClaudeClient(
+            "test-api-key",
+            mockWebServer.url("/").toString(),
+            "claude-3-5-sonnet-20241022",
+            0,
+            0,
+            new LlmResponseCache(repository, true, Duration.ofDays(1), 100),
+            objectMapper
+        );
+
+        // Execute the same request twice
+        assertEquals("Cached answer", cachingClient.sendMessage("System", "Message", 100));
+        assertEquals("Cached answer", cachingClient.sendMessage("System", "Message", 100));
+
+        // Verify: one API call, and the cached answer cost no tokens
+        assertEquals(1, mockWebServer.getRequestCount());
+        assertEquals(1, cachingClient.getUsageTotals().requests());
+        assertEquals(10, cachingClient.getUsageTotals().inputTokens());
+        verify(repository).save(any(LlmResponseCacheEntry.class));
+    }
+
+    @Test
+    void testScoreOpportunityAsync_success() throws Exception {
+        // Mock Claude response with score format
+        String mockResponse = "{\n" +
+            "  \"id\": \"msg_457\",\n" +
+            "  \"type\": \"message\",\n" +
+            "  \"role\": \"assistant\",\n" +
+            "  \"content\": [{\"type\": \"text\", \"text\": \"SCORE: 72\\nRATIONALE: Partial fit\"}],\n" +
+            "  \"model\": \"claude-3-5-sonnet-20241022\",\n" +
+            "  \"stop_reason\": \"end_turn\",\n" +
+            "  \"usage\": {\"input_tokens\": 50, \"output_tokens\": 30}\n" +
+            "}";
+
+        mockWebServer.enqueue(new MockResponse()
+            .setBody(mockResponse)
+            .setHeader("Content-Type", "application/json"));
+
+        // Execute: nothing is sent until subscribed
+        Mono<AnthropicClaudeClient.OpportunityScoreResult> pending = client.scoreOpportunityAsync(
+            "Cloud Infrastructure Services",
+            "Provide AWS cloud infrastructure",
+            "Expert in AWS services"
+        );
+        assertEquals(0, mockWebServer.getRequestCount());
+
+        AnthropicClaudeClient.OpportunityScoreResult result = pending.toFuture().get(10, TimeUnit.SECONDS);
+
+        // Verify
+        assertEquals(72, result.getScore());
+        assertEquals("Partial fit", result.getRationale());
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void testSendMessageAsync_emptyResponse() {
+        // Mock response with empty content
+        String mockResponse = "{\n" +
+            "  \"id\": \"msg_empty\",\n" +
+            "  \"type\": \"message\",\n" +
+            "  \"role\": \"assistant\",\n" +
+            "  \"content\": [],\n" +
+            "  \"model\": \"claude-3-5-sonnet-20241022\",\n" +
+            "  \"stop_reason\": \"end_turn\",\n" +
+            "  \"usage\": {\"input_tokens\": 10, \"output_tokens\": 0}\n" +
+            "}";
+
+        mockWebServer.enqueue(new MockResponse()
+            .setBody(mockResponse)
+            .setHeader("Content-Type", "application/json"));
+
+        // Execute and verify the error is signalled as ClaudeApiException
+        Mono<String> pending = client.sendMessageAsync("System", "Message", 100);
+        assertThrows(AnthropicClaudeClient.ClaudeApiException.class, pending::block);
+    }
+
     @Test
     void testGenerateCaptureStrategy_success() throws InterruptedException {
         // Mock strategy response
@@ -163,15 +401,88 @@ class AnthropicClaudeClientTest {
 
     @Test
     void testSendMessage_apiError() {
-        // Mock error response
-        mockWebServer.enqueue(new MockResponse()
-            .setResponseCode(429)
-            .setBody("{\"error\": \"rate_limit_exceeded\"}"));
+        // Mock error responses for the call and its 3 retries
+        for (int i = 0; i < 4; i++) {
+            mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(429)
+                .setHeader("retry-after", "0")
+                .setBody("{\"error\": \"rate_limit_exceeded\"}"));
+        }
 
         // Execute and verify exception
         assertThrows(AnthropicClaudeClient.ClaudeApiException.class, () -> {
             client.sendMessage("System prompt", "User message", 100);
         });
+        assertEquals(4, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void testSendMessage_retriesRateLimitedAfterRetryAfter() {
+        mockWebServer.enqueue(new MockResponse()
+            .setResponseCode(429)
+            .setHeader("retry-after", "0")
+            .setBody("{\"type\": \"error\", \"error\": {\"type\": \"rate_limit_error\"}}"));
+        mockWebServer.enqueue(new MockResponse()
+            .setBody("{\"id\": \"msg_1\", \"type\": \"message\", \"role\": \"assistant\", " +
+                "\"content\": [{\"type\": \"text\", \"text\": \"After retry\"}], " +
+                "\"usage\": {\"input_tokens\": 10, \"output_tokens\": 5}}")
+            .setHeader("Content-Type", "application/json"));
+
+        String response = client.sendMessage("System", "Message", 100);
+
+        assertEquals("After retry", response);
+        assertEquals(2, mockWebServer.getRequestCount());
+        assertEquals(1, client.getThrottledResponseCount());
+        assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitBreaker().getState());
+    }
+
+    @Test
+    void testSendMessage_badRequestNotRetried() {
+        mockWebServer.enqueue(new MockResponse()
+            .setResponseCode(400)
+            .setBody("{\"type\": \"error\", \"error\": {\"type\": \"invalid_request_error\"}}"));
+
+        assertThrows(AnthropicClaudeClient.ClaudeApiException.class, () -> {
+            client.sendMessage("System", "Message", 100);
+        });
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void testSendMessage_circuitOpensAfterConsecutiveOverloads() {
+        AnthropicClaudeClient guardedClient = new AnthropicClaudeClient(
+            "test-api-key",
+            mockWebServer.url("/").toString(),
+            "claude-3-5-sonnet-20241022",
+            0,
+            0,
+            1,
+            8,
+            2,
+            Duration.ofMinutes(1),
+            ClaudeCallMetrics.standalone(),
+            LlmResponseCache.disabled(),
+            objectMapper
+        );
+        for (int i = 0; i < 2; i++) {
+            mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(529)
+                .setHeader("retry-after", "0")
+                .setBody("{\"type\": \"error\", \"error\": {\"type\": \"overloaded_error\"}}"));
+        }
+
+        // The second overload opens the circuit; the retry fails fast instead of calling again
+        assertThrows(AnthropicClaudeClient.ClaudeCircuitOpenException.class, () -> {
+            guardedClient.sendMessage("System", "Message", 100);
+        });
+        assertThrows(AnthropicClaudeClient.ClaudeCircuitOpenException.class, () -> {
+            guardedClient.sendMessage("System", "Other message", 100);
+        });
+
+        assertEquals(2, mockWebServer.getRequestCount());
+        assertEquals(CircuitBreaker.State.OPEN, guardedClient.getCircuitBreaker().getState());
+        assertEquals(4, guardedClient.getConcurrencyLimiter().getLimit());
+        assertEquals(0, guardedClient.getConcurrencyLimiter().getInFlight());
     }
 
     @Test
@@ -196,4 +507,71 @@ class AnthropicClaudeClientTest {
             client.sendMessage("System", "Message", 100);
         });
     }
+
+    @Test
+    void testScoreOpportunity_recordsCallMetrics() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        AnthropicClaudeClient meteredClient = meteredClient(registry);
+        mockWebServer.enqueue(new MockResponse()
+            .setBody("{\"id\": \"msg_789\", \"type\": \"message\", \"role\": \"assistant\", " +
+                "\"content\": [{\"type\": \"text\", \"text\": \"SCORE: 70\\nRATIONALE: Fit\"}], " +
+                "\"model\": \"claude-3-5-sonnet-20241022\", \"stop_reason\": \"end_turn\", " +
+                "\"usage\": {\"input_tokens\": 50, \"output_tokens\": 30, \"cache_read_input_tokens\": 1000}}")
+            .setHeader("Content-Type", "application/json"));
+
+        meteredClient.scoreOpportunity("Title", "Description", "Capabilities");
+
+        String model = "claude-3-5-sonnet-20241022";
+        assertEquals(1, registry.get("athena.claude.call")
+            .tags("operation", "score", "model", model, "outcome", "success").timer().count());
+        assertEquals(50.0, registry.get("athena.claude.tokens")
+            .tags("operation", "score", "type", "input").counter().count());
+        assertEquals(30.0, registry.get("athena.claude.tokens")
+            .tags("operation", "score", "type", "output").counter().count());
+        assertEquals(1000.0, registry.get("athena.claude.tokens")
+            .tags("operation", "score", "type", "cache_read").counter().count());
+        // 50 x $3 + 30 x $15 + 1000 x $0.30 per million tokens
+        assertEquals(0.00105, registry.get("athena.claude.cost")
+            .tags("operation", "score", "model", model).counter().count(), 1e-9);
+    }
+
+    @Test
+    void testSendMessage_recordsRetriesAndFailure() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        AnthropicClaudeClient meteredClient = meteredClient(registry);
+        for (int i = 0; i < 4; i++) {
+            mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(429)
+                .setHeader("retry-after", "0")
+                .setBody("{\"error\": \"rate_limit_exceeded\"}"));
+        }
+
+        assertThrows(AnthropicClaudeClient.ClaudeApiException.class, () -> {
+            meteredClient.sendMessage("System prompt", "User message", 100);
+        });
+
+        assertEquals(3.0, registry.get("athena.claude.retries")
+            .tags("operation", "message").counter().count());
+        assertEquals(1.0, registry.get("athena.claude.failures")
+            .tags("operation", "message", "reason", "rate_limited").counter().count());
+        assertEquals(1, registry.get("athena.claude.call")
+            .tags("operation", "message", "outcome", "error").timer().count());
+    }
+
+    private AnthropicClaudeClient meteredClient(MeterRegistry registry) {
+        return new AnthropicClaudeClient(
+            "test-api-key",
+            mockWebServer.url("/").toString(),
+            "claude-3-5-sonnet-20241022",
+            0,
+            0,
+            1,
+            16,
+            5,
+            Duration.ofMinutes(1),
+            new ClaudeCallMetrics(registry),
+            LlmResponseCache.disabled(),
+            objectMapper
+        );
+    }
 }
@@ -0,0 +1,103 @@
+package com.athena.core.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CircuitBreaker.
+ * Uses a manual clock, so no test waits in real time.
+ */
+class CircuitBreakerTest {
+
+    private AtomicLong clock;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(0);
+        breaker = new CircuitBreaker(3, Duration.ofSeconds(60), clock::get);
+    }
+
+    @Test
+    void testOnThrottled_opensAfterThreshold() {
+        throttle(2);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.tryAcquire());
+
+        breaker.onThrottled(null);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(Duration.ofSeconds(60).toNanos(), breaker.tryAcquire());
+        assertEquals(1, breaker.getOpenedCount());
+    }
+
+    @Test
+    void testOnSuccess_resetsConsecutiveCount() {
+        throttle(2);
+        breaker.tryAcquire();
+        breaker.onSuccess();
+        throttle(2);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(2, breaker.getConsecutiveFailures());
+    }
+
+    @Test
+    void testOnFailure_doesNotCount() {
+        throttle(2);
+        breaker.tryAcquire();
+        breaker.onFailure();
+
+        assertEquals(2, breaker.getConsecutiveFailures());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void testOpen_usesLongerRetryAfter() {
+        throttle(2);
+        breaker.tryAcquire();
+        breaker.onThrottled(Duration.ofSeconds(90));
+
+        assertEquals(Duration.ofSeconds(90).toNanos(), breaker.tryAcquire());
+    }
+
+    @Test
+    void testHalfOpen_singleTrialClosesOnSuccess() {
+        throttle(3);
+        clock.addAndGet(Duration.ofSeconds(60).toNanos());
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertEquals(0, breaker.tryAcquire());
+        // Only one trial call at a time
+        assertTrue(breaker.tryAcquire() > 0);
+
+        breaker.onSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.tryAcquire());
+    }
+
+    @Test
+    void testHalfOpen_reopensOnThrottledTrial() {
+        throttle(3);
+        clock.addAndGet(Duration.ofSeconds(60).toNanos());
+        breaker.tryAcquire();
+
+        breaker.onThrottled(null);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(2, breaker.getOpenedCount());
+    }
+
+    private void throttle(int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.tryAcquire();
+            breaker.onThrottled(null);
+        }
+    }
+}
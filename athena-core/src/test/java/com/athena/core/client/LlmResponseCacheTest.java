@@ -0,0 +1,122 @@
+package com.athena.core.client;
+
+import com.athena.core.entity.LlmResponseCacheEntry;
+import com.athena.core.repository.LlmResponseCacheRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for LlmResponseCache.
+ * Verifies key computation and the memory and database tiers.
+ */
+class LlmResponseCacheTest {
+
+    private LlmResponseCacheRepository repository;
+    private LlmResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(LlmResponseCacheRepository.class);
+        when(repository.findByCacheKeyAndExpiresAtAfter(anyString(), any())).thenReturn(Optional.empty());
+        cache = new LlmResponseCache(repository, true, Duration.ofDays(30), 2);
+    }
+
+    @Test
+    void testKey_dependsOnEveryPart() {
+        String key = LlmResponseCache.key("model", "system", "user", 2048);
+
+        assertEquals(64, key.length());
+        assertEquals(key, LlmResponseCache.key("model", "system", "user", 2048));
+        assertNotEquals(key, LlmResponseCache.key("other-model", "system", "user", 2048));
+        assertNotEquals(key, LlmResponseCache.key("model", "system", "user", 1024));
+        assertNotEquals(key, LlmResponseCache.key("model", "system", "other user", 2048));
+        // Moving text between the prompts changes the key
+        assertNotEquals(LlmResponseCache.key("model", "ab", "c", 1), LlmResponseCache.key("model", "a", "bc", 1));
+    }
+
+    @Test
+    void testGet_missThenMemoryHit() {
+        String key = LlmResponseCache.key("model", "system", "user", 100);
+
+        assertTrue(cache.get(key).isEmpty());
+        cache.put(key, "model", "SCORE: 80", 1200, 50);
+        Optional<LlmResponseCache.CachedResponse> cached = cache.get(key);
+
+        assertTrue(cached.isPresent());
+        assertEquals("SCORE: 80", cached.get().responseText());
+        assertEquals(1200, cached.get().inputTokens());
+        verify(repository).save(any(LlmResponseCacheEntry.class));
+        verify(repository, times(1)).findByCacheKeyAndExpiresAtAfter(eq(key), any());
+        assertEquals(new LlmResponseCache.CacheStats(1, 0, 1), cache.getStats());
+    }
+
+    @Test
+    void testEvict_removesBothTiers() {
+        String key = LlmResponseCache.key("model", "system", "user", 100);
+        cache.put(key, "model", "unusable", 1200, 50);
+
+        cache.evict(key);
+
+        assertTrue(cache.get(key).isEmpty());
+        verify(repository).deleteById(key);
+    }
+
+    @Test
+    void testGet_databaseHitPopulatesMemory() {
+        String key = LlmResponseCache.key("model", "system", "user", 100);
+        LlmResponseCacheEntry entry = new LlmResponseCacheEntry(key, "model", "SCORE: 55", Instant.now().plusSeconds(60));
+        when(repository.findByCacheKeyAndExpiresAtAfter(eq(key), any())).thenReturn(Optional.of(entry));
+
+        assertEquals("SCORE: 55", cache.get(key).orElseThrow().responseText());
+        assertEquals("SCORE: 55", cache.get(key).orElseThrow().responseText());
+
+        verify(repository, times(1)).findByCacheKeyAndExpiresAtAfter(eq(key), any());
+        assertEquals(new LlmResponseCache.CacheStats(1, 1, 0), cache.getStats());
+        assertEquals(1.0, cache.getStats().hitRate());
+    }
+
+    @Test
+    void testGet_memoryTierIsBounded() {
+        cache.put("a", "model", "A", null, null);
+        cache.put("b", "model", "B", null, null);
+        cache.put("c", "model", "C", null, null);
+
+        // "a" was evicted from memory and is looked up in the database
+        assertTrue(cache.get("a").isEmpty());
+        assertTrue(cache.get("c").isPresent());
+        verify(repository).findByCacheKeyAndExpiresAtAfter(eq("a"), any());
+        verify(repository, never()).findByCacheKeyAndExpiresAtAfter(eq("c"), any());
+    }
+
+    @Test
+    void testGet_repositoryFailureIsMiss() {
+        when(repository.findByCacheKeyAndExpiresAtAfter(anyString(), any())).thenThrow(new IllegalStateException("down"));
+
+        assertTrue(cache.get("key").isEmpty());
+        assertEquals(1, cache.getStats().misses());
+    }
+
+    @Test
+    void testDisabled_neverHits() {
+        LlmResponseCache disabled = LlmResponseCache.disabled();
+
+        disabled.put("key", "model", "text", 1, 1);
+
+        assertFalse(disabled.isEnabled());
+        assertTrue(disabled.get("key").isEmpty());
+    }
+}
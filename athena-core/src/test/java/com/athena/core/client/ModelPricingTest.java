@@ -0,0 +1,41 @@
+package com.athena.core.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for ModelPricing.
+ */
+class ModelPricingTest {
+
+    @Test
+    void testForModel_matchesLongestPrefix() {
+        assertEquals(new ModelPricing(0.80, 4.00), ModelPricing.forModel("claude-3-5-haiku-20241022"));
+        assertEquals(new ModelPricing(0.25, 1.25), ModelPricing.forModel("claude-3-haiku-20240307"));
+        assertEquals(new ModelPricing(15.00, 75.00), ModelPricing.forModel("claude-opus-4-1"));
+    }
+
+    @Test
+    void testForModel_unknownModelPricedAsSonnet() {
+        assertEquals(new ModelPricing(3.00, 15.00), ModelPricing.forModel("claude-test"));
+        assertEquals(new ModelPricing(3.00, 15.00), ModelPricing.forModel(null));
+    }
+
+    @Test
+    void testCost_includesCacheWritesAndReads() {
+        AnthropicClaudeClient.Usage usage = new AnthropicClaudeClient.Usage();
+        usage.setInputTokens(1_000_000);
+        usage.setOutputTokens(100_000);
+        usage.setCacheCreationInputTokens(1_000_000);
+        usage.setCacheReadInputTokens(1_000_000);
+
+        // $3 input + $1.50 output + $3.75 cache writes + $0.30 cache reads
+        assertEquals(8.55, ModelPricing.forModel("claude-3-5-sonnet-20241022").cost(usage), 1e-9);
+    }
+
+    @Test
+    void testCost_nullUsageIsFree() {
+        assertEquals(0.0, ModelPricing.forModel("claude-3-5-sonnet-20241022").cost(null));
+    }
+}
@@ -0,0 +1,110 @@
+package com.athena.core.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TokenBucketRateLimiter.
+ * Uses a manual clock, so no test waits in real time.
+ */
+class TokenBucketRateLimiterTest {
+
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(0);
+    }
+
+    @Test
+    void testTryAcquire_withinLimits() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 1000, clock::get);
+
+        assertEquals(0, limiter.tryAcquire(400));
+        assertEquals(0, limiter.tryAcquire(400));
+    }
+
+    @Test
+    void testTryAcquire_requestLimitWaitsForRefill() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 0, clock::get);
+        limiter.tryAcquire(0);
+        limiter.tryAcquire(0);
+
+        long waitNanos = limiter.tryAcquire(0);
+
+        // One request refills every 30 seconds at 2 requests/minute
+        assertEquals(TimeUnit.SECONDS.toNanos(30), waitNanos);
+
+        clock.addAndGet(waitNanos);
+        assertEquals(0, limiter.tryAcquire(0));
+    }
+
+    @Test
+    void testTryAcquire_tokenLimitWaitsForRefill() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(0, 600, clock::get);
+        assertEquals(0, limiter.tryAcquire(500));
+
+        long waitNanos = limiter.tryAcquire(200);
+
+        // 100 tokens missing at 10 tokens/second
+        assertEquals(TimeUnit.SECONDS.toNanos(10), waitNanos);
+    }
+
+    @Test
+    void testTryAcquire_oversizedRequestAdmittedWhenFull() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(0, 600, clock::get);
+
+        assertEquals(0, limiter.tryAcquire(900));
+
+        // The bucket is 300 tokens in debt, so the next request waits for 300 + 60
+        assertEquals(TimeUnit.SECONDS.toNanos(36), limiter.tryAcquire(60));
+    }
+
+    @Test
+    void testAdjust_refundsOverestimate() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(0, 600, clock::get);
+        limiter.tryAcquire(600);
+        assertTrue(limiter.tryAcquire(100) > 0);
+
+        limiter.adjust(600, 450);
+
+        assertEquals(0, limiter.tryAcquire(100));
+    }
+
+    @Test
+    void testAdjust_chargesUnderestimate() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(0, 600, clock::get);
+        limiter.tryAcquire(100);
+
+        limiter.adjust(100, 400);
+
+        assertTrue(limiter.tryAcquire(300) > 0);
+        assertEquals(0, limiter.tryAcquire(200));
+    }
+
+    @Test
+    void testTryAcquire_refillCappedAtOneMinute() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 0, clock::get);
+        limiter.tryAcquire(0);
+
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(10));
+
+        assertEquals(0, limiter.tryAcquire(0));
+        assertTrue(limiter.tryAcquire(0) > 0);
+    }
+
+    @Test
+    void testAcquire_unlimitedNeverWaits() throws InterruptedException {
+        TokenBucketRateLimiter limiter = TokenBucketRateLimiter.unlimited();
+
+        for (int i = 0; i < 1000; i++) {
+            limiter.acquire(100_000);
+        }
+        assertEquals(0, limiter.tryAcquire(Integer.MAX_VALUE));
+    }
+}
@@ -0,0 +1,159 @@
+package com.athena.core.loader;
+
+import com.athena.core.entity.Agency;
+import com.athena.core.repository.AgencyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AgencyResolver.
+ * Verifies preloading, exact normalized matching and single creation under concurrency.
+ */
+class AgencyResolverTest {
+
+    private AgencyRepository agencyRepository;
+    private AgencyResolver agencyResolver;
+
+    @BeforeEach
+    void setUp() {
+        agencyRepository = mock(AgencyRepository.class);
+        agencyResolver = new AgencyResolver(agencyRepository, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void testResolve_matchesPreloadedAgencyByNormalizedName() {
+        Agency existing = agency("Department of Defense");
+        when(agencyRepository.findAll()).thenReturn(List.of(existing));
+        when(agencyRepository.getReferenceById(existing.getId())).thenReturn(existing);
+
+        Agency resolved = agencyResolver.resolve("  DEPARTMENT   of defense ", "Army");
+
+        assertSame(existing, resolved);
+        verify(agencyRepository, times(1)).findAll();
+        verify(agencyRepository, never()).save(any(Agency.class));
+    }
+
+    @Test
+    void testResolve_doesNotMatchBySubstring() {
+        Agency existing = agency("Department of Defense Education Activity");
+        when(agencyRepository.findAll()).thenReturn(List.of(existing));
+        stubSaveAndReference();
+
+        Agency resolved = agencyResolver.resolve("Department of Defense", "Army");
+
+        assertEquals("Department of Defense", resolved.getName());
+        assertEquals("Army", resolved.getTier());
+        assertEquals("DOD", resolved.getAbbreviation());
+        assertNotEquals(existing.getId(), resolved.getId());
+    }
+
+    @Test
+    void testResolve_createsAgencyOnceAndCachesIt() {
+        stubSaveAndReference();
+
+        Agency first = agencyResolver.resolve("General Services Administration", null);
+        Agency second = agencyResolver.resolve("general services administration", null);
+
+        assertSame(first, second);
+        verify(agencyRepository, times(1)).save(any(Agency.class));
+        verify(agencyRepository, times(2)).getReferenceById(first.getId());
+        verify(agencyRepository, times(1)).findFirstByNormalizedName(anyString());
+    }
+
+    @Test
+    void testResolve_reusesAgencyAddedAfterPreload() {
+        Agency existing = agency("Department of Energy");
+        when(agencyRepository.findFirstByNormalizedName("department of energy")).thenReturn(Optional.of(existing));
+
+        Agency resolved = agencyResolver.resolve(" Department  of\tEnergy", null);
+
+        assertSame(existing, resolved);
+        verify(agencyRepository, never()).save(any(Agency.class));
+    }
+
+    @Test
+    void testResolve_returnsNullForBlankName() {
+        assertNull(agencyResolver.resolve("   ", "Army"));
+        verifyNoInteractions(agencyRepository);
+    }
+
+    @Test
+    void testResolve_concurrentCallersCreateAgencyOnce() throws Exception {
+        CountDownLatch saving = new CountDownLatch(1);
+        when(agencyRepository.save(any(Agency.class))).thenAnswer(invocation -> {
+            saving.await(100, TimeUnit.MILLISECONDS);
+            return withId(invocation.getArgument(0));
+        });
+        when(agencyRepository.getReferenceById(any(UUID.class))).thenAnswer(invocation -> {
+            Agency reference = new Agency("Department of Commerce");
+            reference.setId(invocation.getArgument(0));
+            return reference;
+        });
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Agency>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> agencyResolver.resolve("Department of Commerce", null)));
+            }
+            saving.countDown();
+
+            UUID agencyId = results.get(0).get(5, TimeUnit.SECONDS).getId();
+            for (Future<Agency> result : results) {
+                assertEquals(agencyId, result.get(5, TimeUnit.SECONDS).getId());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(agencyRepository, times(1)).save(any(Agency.class));
+    }
+
+    @Test
+    void testNormalize() {
+        assertEquals("department of defense", AgencyResolver.normalize(" Department\tof  DEFENSE "));
+        assertNull(AgencyResolver.normalize(null));
+        assertNull(AgencyResolver.normalize(""));
+    }
+
+    private Agency agency(String name) {
+        Agency agency = new Agency(name);
+        agency.setId(UUID.randomUUID());
+        return agency;
+    }
+
+    private Agency withId(Agency agency) {
+        agency.setId(UUID.randomUUID());
+        return agency;
+    }
+
+    private void stubSaveAndReference() {
+        Map<UUID, Agency> saved = new ConcurrentHashMap<>();
+        when(agencyRepository.save(any(Agency.class))).thenAnswer(invocation -> {
+            Agency agency = withId(invocation.getArgument(0));
+            saved.put(agency.getId(), agency);
+            return agency;
+        });
+        when(agencyRepository.getReferenceById(any(UUID.class)))
+                .thenAnswer(invocation -> saved.get(invocation.getArgument(0)));
+    }
+}
@@ -0,0 +1,57 @@
+package com.athena.core.loader;
+
+import com.athena.core.dto.SamGovOpportunityDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OpportunityContentHasher.
+ * Verifies the hash is stable across field order and changes when notice content changes.
+ */
+class OpportunityContentHasherTest {
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    @Test
+    void testHash_sameContentInDifferentFieldOrderProducesSameHash() throws IOException {
+        SamGovOpportunityDto first = read("{\"noticeId\": \"N-1\", \"title\": \"Cloud\", \"responseDeadLine\": \"2025-02-15\"}");
+        SamGovOpportunityDto second = read("{\"responseDeadLine\": \"2025-02-15\", \"title\": \"Cloud\", \"noticeId\": \"N-1\"}");
+
+        String hash = OpportunityContentHasher.hash(first);
+
+        assertEquals(hash, OpportunityContentHasher.hash(second));
+        assertEquals(64, hash.length());
+    }
+
+    @Test
+    void testHash_amendedDeadlineProducesDifferentHash() throws IOException {
+        SamGovOpportunityDto original = read("{\"noticeId\": \"N-1\", \"title\": \"Cloud\", \"responseDeadLine\": \"2025-02-15\"}");
+        SamGovOpportunityDto amended = read("{\"noticeId\": \"N-1\", \"title\": \"Cloud\", \"responseDeadLine\": \"2025-03-01\"}");
+
+        assertNotEquals(OpportunityContentHasher.hash(original), OpportunityContentHasher.hash(amended));
+    }
+
+    @Test
+    void testHash_ignoresUnknownSourceFields() throws IOException {
+        SamGovOpportunityDto plain = read("{\"noticeId\": \"N-1\", \"title\": \"Cloud\"}");
+        SamGovOpportunityDto withExtra = read("{\"noticeId\": \"N-1\", \"title\": \"Cloud\", \"fetchedAt\": \"2025-01-01T00:00:00Z\"}");
+
+        assertEquals(OpportunityContentHasher.hash(plain), OpportunityContentHasher.hash(withExtra));
+    }
+
+    private SamGovOpportunityDto read(String json) throws IOException {
+        return objectMapper.readValue(json, SamGovOpportunityDto.class);
+    }
+}
@@ -1,14 +1,20 @@
 package com.athena.core.loader;
 
+import com.athena.core.dto.SamGovOpportunityDto;
 import com.athena.core.entity.Agency;
+import com.athena.core.entity.Contact;
 import com.athena.core.entity.Opportunity;
 import com.athena.core.repository.AgencyRepository;
+import com.athena.core.repository.ContactRepository;
 import com.athena.core.repository.OpportunityRepository;
+import com.athena.core.repository.OpportunityRepository.NoticeContentHash;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.io.File;
 import java.io.IOException;
@@ -18,6 +24,7 @@ import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,6 +40,7 @@ class SamGovDataLoaderTest {
     private SamGovDataLoader dataLoader;
     private OpportunityRepository opportunityRepository;
     private AgencyRepository agencyRepository;
+    private ContactRepository contactRepository;
 
     @TempDir
     Path tempDir;
@@ -41,7 +49,9 @@ class SamGovDataLoaderTest {
     void setUp() {
         opportunityRepository = mock(OpportunityRepository.class);
         agencyRepository = mock(AgencyRepository.class);
-        dataLoader = new SamGovDataLoader(opportunityRepository, agencyRepository);
+        contactRepository = mock(ContactRepository.class);
+        AgencyResolver agencyResolver = new AgencyResolver(agencyRepository, mock(PlatformTransactionManager.class));
+        dataLoader = new SamGovDataLoader(opportunityRepository, agencyResolver, contactRepository);
     }
 
     @Test
@@ -68,8 +78,7 @@ class SamGovDataLoaderTest {
         Files.writeString(jsonFile, jsonContent);
 
         // Mock repository behavior
-        when(opportunityRepository.existsByNoticeId(anyString())).thenReturn(false);
-        when(agencyRepository.findByNameContainingIgnoreCase(anyString())).thenReturn(Collections.emptyList());
+        when(opportunityRepository.findContentHashes(any())).thenReturn(Collections.emptyList());
         when(agencyRepository.save(any(Agency.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(opportunityRepository.save(any(Opportunity.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -85,25 +94,128 @@ class SamGovDataLoaderTest {
     @Test
     void testLoadOpportunitiesFromFile_skipsDuplicates() throws IOException {
         // Create test JSON file with 2 opportunities
+        String first = "{\"noticeId\": \"test-001\", \"title\": \"Opportunity 1\", \"type\": \"Presolicitation\"}";
+        String jsonContent = "[" + first + "," +
+            "{\"noticeId\": \"test-002\", \"title\": \"Opportunity 2\", \"type\": \"Presolicitation\"}" +
+            "]";
+
+        Path jsonFile = tempDir.resolve("opportunities.json");
+        Files.writeString(jsonFile, jsonContent);
+
+        // Mock: first exists unchanged, second doesn't
+        when(opportunityRepository.findContentHashes(any())).thenReturn(List.of(stored("test-001", hashOf(first))));
+        when(opportunityRepository.save(any(Opportunity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Execute
+        int count = dataLoader.loadOpportunitiesFromFile(jsonFile.toString());
+
+        // Verify - only 1 saved (the non-duplicate), duplicates resolved with a single query
+        assertEquals(1, count);
+        verify(opportunityRepository, times(1)).save(any(Opportunity.class));
+        verify(opportunityRepository, times(1)).findContentHashes(any());
+        verify(opportunityRepository, never()).existsByNoticeId(anyString());
+    }
+
+    @Test
+    void testLoadOpportunitiesFromFile_updatesAmendedNotice() throws IOException {
+        String jsonContent = "[{\"noticeId\": \"test-001\", \"title\": \"Opportunity 1 (amended)\"," +
+            " \"type\": \"Solicitation\", \"responseDeadLine\": \"2025-03-01\"}]";
+
+        Path jsonFile = tempDir.resolve("opportunities.json");
+        Files.writeString(jsonFile, jsonContent);
+
+        // Mock: stored with the hash of the original notice, which had an office and a place of performance
+        Opportunity stored = new Opportunity();
+        stored.setId(UUID.randomUUID());
+        stored.setNoticeId("test-001");
+        stored.setTitle("Opportunity 1");
+        stored.setOfficeName("CECOM");
+        stored.setPlaceOfPerformanceCity("Aberdeen");
+        stored.setPlaceOfPerformanceState("MD");
+        stored.setPlaceOfPerformanceCountry("US");
+        stored.setPlaceOfPerformanceZip("21005");
+        stored.setContentHash("original-hash");
+        when(opportunityRepository.findContentHashes(any())).thenReturn(List.of(stored("test-001", "original-hash")));
+        when(opportunityRepository.findAllByNoticeIdIn(any())).thenReturn(List.of(stored));
+        when(opportunityRepository.save(any(Opportunity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Execute
+        int count = dataLoader.loadOpportunitiesFromFile(jsonFile.toString());
+
+        // Verify - the stored entity is updated in place, fields the amendment drops are cleared
+        assertEquals(1, count);
+        ArgumentCaptor<Opportunity> saved = ArgumentCaptor.forClass(Opportunity.class);
+        verify(opportunityRepository, times(1)).save(saved.capture());
+        assertSame(stored, saved.getValue());
+        assertEquals("Opportunity 1 (amended)", stored.getTitle());
+        assertEquals("Solicitation", stored.getNoticeType());
+        assertNotNull(stored.getResponseDeadline());
+        assertNull(stored.getOfficeName());
+        assertNull(stored.getPlaceOfPerformanceCity());
+        assertNull(stored.getPlaceOfPerformanceState());
+        assertNull(stored.getPlaceOfPerformanceCountry());
+        assertNull(stored.getPlaceOfPerformanceZip());
+        assertNotEquals("original-hash", stored.getContentHash());
+        verify(opportunityRepository, never()).findByNoticeId(anyString());
+    }
+
+    @Test
+    void testLoadOpportunitiesFromFile_skipsDuplicatesWithinFile() throws IOException {
+        // Create test JSON file with the same notice ID twice
         String jsonContent = "[" +
             "{\"noticeId\": \"test-001\", \"title\": \"Opportunity 1\", \"type\": \"Presolicitation\"}," +
-            "{\"noticeId\": \"test-002\", \"title\": \"Opportunity 2\", \"type\": \"Presolicitation\"}" +
+            "{\"noticeId\": \"test-001\", \"title\": \"Opportunity 1 (repost)\", \"type\": \"Presolicitation\"}" +
             "]";
 
         Path jsonFile = tempDir.resolve("opportunities.json");
         Files.writeString(jsonFile, jsonContent);
 
-        // Mock: first exists, second doesn't
-        when(opportunityRepository.existsByNoticeId("test-001")).thenReturn(true);
-        when(opportunityRepository.existsByNoticeId("test-002")).thenReturn(false);
+        when(opportunityRepository.findContentHashes(any())).thenReturn(Collections.emptyList());
         when(opportunityRepository.save(any(Opportunity.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Execute
         int count = dataLoader.loadOpportunitiesFromFile(jsonFile.toString());
 
-        // Verify - only 1 saved (the non-duplicate)
+        // Verify - second occurrence skipped without another query
         assertEquals(1, count);
         verify(opportunityRepository, times(1)).save(any(Opportunity.class));
+        verify(opportunityRepository, times(1)).findContentHashes(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testLoadOpportunitiesFromFile_savesPointsOfContactDedupedByEmail() throws IOException {
+        // Same contact on both notices (different case), one contact already in the directory
+        String jsonContent = "[" +
+            "{\"noticeId\": \"test-001\", \"title\": \"Opportunity 1\", \"pointOfContact\": [" +
+            "{\"type\": \"primary\", \"fullName\": \"Jane Doe\", \"email\": \"Jane.Doe@agency.gov\"}," +
+            "{\"type\": \"secondary\", \"fullName\": \"John Roe\", \"email\": \"john.roe@agency.gov\"}," +
+            "{\"type\": \"secondary\", \"fullName\": \"No Email\"}]}," +
+            "{\"noticeId\": \"test-002\", \"title\": \"Opportunity 2\", \"pointOfContact\": [" +
+            "{\"type\": \"primary\", \"fullName\": \"Jane Doe\", \"email\": \"jane.doe@agency.gov\"}]}" +
+            "]";
+
+        Path jsonFile = tempDir.resolve("opportunities.json");
+        Files.writeString(jsonFile, jsonContent);
+
+        when(opportunityRepository.findContentHashes(any())).thenReturn(Collections.emptyList());
+        when(opportunityRepository.save(any(Opportunity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(contactRepository.findExistingEmails(any())).thenReturn(List.of("john.roe@agency.gov"));
+
+        // Execute
+        int count = dataLoader.loadOpportunitiesFromFile(jsonFile.toString());
+
+        // Verify - one batch insert with the single new contact, linked to the first notice
+        assertEquals(2, count);
+        ArgumentCaptor<List<Contact>> saved = ArgumentCaptor.forClass(List.class);
+        verify(contactRepository, times(1)).saveAll(saved.capture());
+        assertEquals(1, saved.getValue().size());
+        Contact contact = saved.getValue().get(0);
+        assertEquals("jane.doe@agency.gov", contact.getEmail());
+        assertEquals("Jane", contact.getFirstName());
+        assertEquals("Doe", contact.getLastName());
+        assertTrue(contact.getIsPrimary());
+        assertEquals("test-001", contact.getOpportunity().getNoticeId());
     }
 
     @Test
@@ -143,8 +255,7 @@ class SamGovDataLoaderTest {
         Files.writeString(jsonFile, jsonContent);
 
         // Mock: agency doesn't exist
-        when(opportunityRepository.existsByNoticeId(anyString())).thenReturn(false);
-        when(agencyRepository.findByNameContainingIgnoreCase(anyString())).thenReturn(Collections.emptyList());
+        when(opportunityRepository.findContentHashes(any())).thenReturn(Collections.emptyList());
         when(agencyRepository.save(any(Agency.class))).thenAnswer(invocation -> {
             Agency agency = invocation.getArgument(0);
             assertEquals("Department of Defense", agency.getName());
@@ -177,17 +288,38 @@ class SamGovDataLoaderTest {
 
         // Mock: agency exists
         Agency existingAgency = new Agency();
+        existingAgency.setId(UUID.randomUUID());
         existingAgency.setName("Department of Defense");
 
-        when(opportunityRepository.existsByNoticeId(anyString())).thenReturn(false);
-        when(agencyRepository.findByNameContainingIgnoreCase(anyString())).thenReturn(List.of(existingAgency));
+        when(opportunityRepository.findContentHashes(any())).thenReturn(Collections.emptyList());
+        when(agencyRepository.findAll()).thenReturn(List.of(existingAgency));
         when(opportunityRepository.save(any(Opportunity.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Execute
         int count = dataLoader.loadOpportunitiesFromFile(jsonFile.toString());
 
-        // Verify - agency not saved (reused)
+        // Verify - agency not saved (reused from the preloaded cache)
         assertEquals(1, count);
         verify(agencyRepository, never()).save(any(Agency.class));
+        verify(agencyRepository, never()).findFirstByNormalizedName(anyString());
+    }
+
+    private String hashOf(String json) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        return OpportunityContentHasher.hash(objectMapper.readValue(json, SamGovOpportunityDto.class));
+    }
+
+    private NoticeContentHash stored(String noticeId, String contentHash) {
+        return new NoticeContentHash() {
+            @Override
+            public String getNoticeId() {
+                return noticeId;
+            }
+
+            @Override
+            public String getContentHash() {
+                return contentHash;
+            }
+        };
     }
 }
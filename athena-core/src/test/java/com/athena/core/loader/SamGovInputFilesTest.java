@@ -0,0 +1,115 @@
+package com.athena.core.loader;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SamGovInputFiles and MappedFileInputStream.
+ * Verifies compressed extracts are decompressed on the fly and mapped reads match the file.
+ */
+class SamGovInputFilesTest {
+
+    private static final String JSON = "[{\"noticeId\": \"N-1\"}, {\"noticeId\": \"N-2\"}]";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testIsSupported_acceptsPlainAndCompressedExtracts() {
+        assertTrue(SamGovInputFiles.isSupported(Path.of("a.json")));
+        assertTrue(SamGovInputFiles.isSupported(Path.of("a.JSON.GZ")));
+        assertTrue(SamGovInputFiles.isSupported(Path.of("a.json.zst")));
+        assertTrue(SamGovInputFiles.isSupported(Path.of("a.zip")));
+        assertFalse(SamGovInputFiles.isSupported(Path.of("a.csv")));
+        assertFalse(SamGovInputFiles.isSupported(Path.of("a.gz")));
+    }
+
+    @Test
+    void testOpen_plainJson() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("extract.json"), JSON);
+
+        assertEquals(JSON, read(file));
+    }
+
+    @Test
+    void testOpen_gzip() throws IOException {
+        Path file = tempDir.resolve("extract.json.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            out.write(JSON.getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertEquals(JSON, read(file));
+    }
+
+    @Test
+    void testOpen_zstd() throws IOException {
+        Path file = tempDir.resolve("extract.json.zst");
+        try (OutputStream out = new ZstdOutputStream(Files.newOutputStream(file))) {
+            out.write(JSON.getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertEquals(JSON, read(file));
+    }
+
+    @Test
+    void testOpen_zipReadsJsonEntry() throws IOException {
+        Path file = tempDir.resolve("extract.zip");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(file))) {
+            out.putNextEntry(new ZipEntry("README.txt"));
+            out.write("not json".getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+            out.putNextEntry(new ZipEntry("opportunities.json"));
+            out.write(JSON.getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+
+        assertEquals(JSON, read(file));
+    }
+
+    @Test
+    void testOpen_zipWithoutJsonEntryFails() throws IOException {
+        Path file = tempDir.resolve("empty.zip");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(file))) {
+            out.putNextEntry(new ZipEntry("README.txt"));
+            out.closeEntry();
+        }
+
+        assertThrows(IOException.class, () -> SamGovInputFiles.open(file));
+    }
+
+    @Test
+    void testMappedFileInputStream_readsAcrossWindows() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            content.append("record-").append(i).append('\n');
+        }
+        Path file = Files.writeString(tempDir.resolve("large.json"), content);
+
+        try (InputStream in = new MappedFileInputStream(file, 1000)) {
+            assertEquals('r', in.read());
+            assertEquals(9, in.skip(9));
+            String rest = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertEquals(content.substring(10), rest);
+            assertEquals(-1, in.read());
+        }
+    }
+
+    private String read(Path file) throws IOException {
+        try (InputStream in = SamGovInputFiles.open(file)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.athena.core.scoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for DescriptionPreprocessor.
+ */
+class DescriptionPreprocessorTest {
+
+    @Test
+    void testPrepare_stripsMarkupAndDecodesEntities() {
+        DescriptionPreprocessor preprocessor = new DescriptionPreprocessor(0);
+
+        DescriptionPreprocessor.PreparedDescription prepared = preprocessor.prepare(
+                "<html><style>p { color: red; }</style><p>Cloud&nbsp;migration &amp; hosting</p>" +
+                "<ul><li>AWS&#39;s GovCloud</li><li>Zero&#x2D;trust</li></ul></html>");
+
+        assertEquals("Cloud migration & hosting\n\nAWS's GovCloud\n\nZero-trust", prepared.text());
+    }
+
+    @Test
+    void testPrepare_removesClausesBoilerplateAndRepeatedParagraphs() {
+        DescriptionPreprocessor preprocessor = new DescriptionPreprocessor(0);
+        String description =
+                "This is a combined synopsis/solicitation for commercial items prepared in accordance with FAR 12.6.\n\n" +
+                "The contractor shall provide help desk support for 500 users.\n\n" +
+                "The following clauses are incorporated by reference:\n" +
+                "52.212-4 Contract Terms and Conditions - Commercial Products (NOV 2023)\n" +
+                "DFARS 252.204-7012 Safeguarding Covered Defense Information\n\n" +
+                "Amendment 1: Questions are due March 1.\n\n" +
+                "The contractor   shall provide help desk support for 500 users.\n\n" +
+                "Amendment 2: Proposal due date extended to March 15.";
+
+        String text = preprocessor.prepare(description).text();
+
+        assertEquals("The contractor shall provide help desk support for 500 users.\n\n" +
+                "Amendment 1: Questions are due March 1.\n\n" +
+                "Amendment 2: Proposal due date extended to March 15.", text);
+    }
+
+    @Test
+    void testPrepare_collapsesWhitespace() {
+        DescriptionPreprocessor preprocessor = new DescriptionPreprocessor(0);
+
+        String text = preprocessor.prepare("  Network \t operations\r\n\r\n\r\n\r\n   and   monitoring  ").text();
+
+        assertEquals("Network operations\n\nand monitoring", text);
+    }
+
+    @Test
+    void testPrepare_trimsToTokenBudgetAtSentenceEnd() {
+        DescriptionPreprocessor preprocessor = new DescriptionPreprocessor(50);
+        String sentence = "The contractor shall maintain the agency's cloud platform. ";
+
+        DescriptionPreprocessor.PreparedDescription prepared = preprocessor.prepare(sentence.repeat(40));
+
+        assertTrue(prepared.tokens() <= 50);
+        assertTrue(prepared.text().endsWith("platform.\n\n" + DescriptionPreprocessor.TRUNCATION_MARKER));
+        assertEquals(DescriptionPreprocessor.estimateTokens(sentence.repeat(40)), prepared.originalTokens());
+        assertEquals(prepared.originalTokens() - prepared.tokens(), prepared.tokensSaved());
+    }
+
+    @Test
+    void testPrepare_shortDescriptionUnchanged() {
+        DescriptionPreprocessor preprocessor = new DescriptionPreprocessor(1500);
+
+        DescriptionPreprocessor.PreparedDescription prepared = preprocessor.prepare("Cybersecurity assessment.");
+
+        assertEquals("Cybersecurity assessment.", prepared.text());
+        assertEquals(0, prepared.tokensSaved());
+        assertFalse(prepared.text().contains(DescriptionPreprocessor.TRUNCATION_MARKER));
+    }
+
+    @Test
+    void testPrepare_nullDescriptionIsEmpty() {
+        DescriptionPreprocessor.PreparedDescription prepared = new DescriptionPreprocessor(1500).prepare(null);
+
+        assertEquals("", prepared.text());
+        assertEquals(0, prepared.tokens());
+    }
+
+    @Test
+    void testPrepare_recordsTokensSaved() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        DescriptionPreprocessor preprocessor = new DescriptionPreprocessor(0, registry);
+
+        DescriptionPreprocessor.PreparedDescription prepared = preprocessor.prepare("<p>Data   analytics</p>");
+
+        assertEquals(prepared.tokensSaved(), registry.get("athena.scoring.description.tokens_saved").counter().count());
+        assertEquals(1, registry.get("athena.scoring.description.tokens").summary().count());
+    }
+}
@@ -0,0 +1,122 @@
+package com.athena.core.scoring;
+
+import com.athena.core.entity.Opportunity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RuleBasedHeuristicScorer.
+ * Verifies the points of each factor and the disqualifying conditions.
+ */
+class RuleBasedHeuristicScorerTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T00:00:00Z");
+
+    private RuleBasedHeuristicScorer scorer;
+
+    @BeforeEach
+    void setUp() {
+        scorer = new RuleBasedHeuristicScorer(
+                "541512, 541519",
+                "SBA, Total Small Business",
+                "Cloud infrastructure, cybersecurity, and data analytics",
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void testScore_strongMatchScoresFullPoints() {
+        Opportunity opportunity = opportunity("541512", "Cloud migration and cybersecurity",
+                "Data analytics on cloud infrastructure", Duration.ofDays(30));
+        opportunity.setSetAside("SBA");
+
+        HeuristicScore score = scorer.score(opportunity);
+
+        assertEquals(100, score.score());
+        assertFalse(score.isDisqualified());
+        assertEquals(RuleBasedHeuristicScorer.NAICS_POINTS, score.factors().get("naics"));
+        assertEquals(RuleBasedHeuristicScorer.KEYWORD_POINTS, score.factors().get("keywords"));
+    }
+
+    @Test
+    void testScore_partialMatch() {
+        // Same industry group, early notice, short deadline, one keyword
+        Opportunity opportunity = opportunity("541511", "Cloud hosting", null, Duration.ofDays(5));
+        opportunity.setNoticeType("Sources Sought");
+
+        HeuristicScore score = scorer.score(opportunity);
+
+        assertEquals(15, score.factors().get("naics"));
+        assertEquals(15, score.factors().get("set_aside"));
+        assertEquals(10, score.factors().get("notice_type"));
+        assertEquals(8, score.factors().get("deadline"));
+        assertEquals(6, score.factors().get("keywords"));
+        assertEquals(54, score.score());
+    }
+
+    @Test
+    void testScore_unrelatedOpportunityScoresLow() {
+        Opportunity opportunity = opportunity("236220", "Building renovation", "Roof and HVAC replacement", null);
+
+        HeuristicScore score = scorer.score(opportunity);
+
+        assertEquals(0, score.factors().get("naics"));
+        assertEquals(0, score.factors().get("keywords"));
+        assertTrue(score.score() < 40);
+    }
+
+    @Test
+    void testScore_ineligibleSetAsideDisqualifies() {
+        Opportunity opportunity = opportunity("541512", "Cloud migration", null, Duration.ofDays(30));
+        opportunity.setSetAside("8(a) Sole Source");
+
+        HeuristicScore score = scorer.score(opportunity);
+
+        assertEquals(0, score.score());
+        assertTrue(score.isDisqualified());
+    }
+
+    @Test
+    void testScore_passedDeadlineDisqualifies() {
+        Opportunity opportunity = opportunity("541512", "Cloud migration", null, Duration.ofDays(-1));
+
+        assertEquals(0, scorer.score(opportunity).score());
+        assertEquals("response deadline passed", scorer.score(opportunity).disqualification());
+    }
+
+    @Test
+    void testScore_awardNoticeDisqualifies() {
+        Opportunity opportunity = opportunity("541512", "Cloud migration", null, null);
+        opportunity.setNoticeType("Award Notice");
+
+        assertTrue(scorer.score(opportunity).isDisqualified());
+    }
+
+    @Test
+    void testScore_noProfileConfiguredIsNeutral() {
+        RuleBasedHeuristicScorer unconfigured = new RuleBasedHeuristicScorer("", "", "", Clock.fixed(NOW, ZoneOffset.UTC));
+        Opportunity opportunity = opportunity("541512", "Cloud migration", null, Duration.ofDays(30));
+        opportunity.setSetAside("SBA");
+
+        HeuristicScore score = unconfigured.score(opportunity);
+
+        assertEquals(15, score.factors().get("naics"));
+        assertEquals(7, score.factors().get("set_aside"));
+        assertEquals(0, score.factors().get("keywords"));
+        assertFalse(score.isDisqualified());
+    }
+
+    private static Opportunity opportunity(String naicsCode, String title, String description, Duration deadlineIn) {
+        Opportunity opportunity = new Opportunity("N-1", title, "Solicitation");
+        opportunity.setNaicsCode(naicsCode);
+        opportunity.setDescription(description);
+        opportunity.setResponseDeadline(deadlineIn != null ? NOW.plus(deadlineIn) : null);
+        return opportunity;
+    }
+}
@@ -0,0 +1,79 @@
+package com.athena.core.scoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for ScoringPriority.
+ */
+class ScoringPriorityTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-02T12:00:00Z");
+
+    @Test
+    void testPriority_closerDeadlineFirst() {
+        BigDecimal dueSoon = ScoringPriority.DEFAULT.priority(days(2), BigDecimal.valueOf(60), "Solicitation", NOW);
+        BigDecimal dueNextQuarter = ScoringPriority.DEFAULT.priority(days(90), BigDecimal.valueOf(60), "Solicitation", NOW);
+
+        assertTrue(dueSoon.compareTo(dueNextQuarter) > 0);
+    }
+
+    @Test
+    void testPriority_urgentNoticeBeatsBetterScoredDistantOne() {
+        BigDecimal urgent = ScoringPriority.DEFAULT.priority(days(2), BigDecimal.valueOf(50), "Solicitation", NOW);
+        BigDecimal distant = ScoringPriority.DEFAULT.priority(days(90), BigDecimal.valueOf(80), "Solicitation", NOW);
+
+        assertTrue(urgent.compareTo(distant) > 0);
+    }
+
+    @Test
+    void testPriority_weightedFactors() {
+        // Due now (1.0), heuristic 80 (0.8), solicitation (1.0): 0.5 + 0.24 + 0.2
+        assertEquals(new BigDecimal("94.00"),
+                ScoringPriority.DEFAULT.priority(NOW, BigDecimal.valueOf(80), "Solicitation", NOW));
+        // No deadline (0.2), unscored (0.5), sources sought (0.6): 0.1 + 0.15 + 0.12
+        assertEquals(new BigDecimal("37.00"),
+                ScoringPriority.DEFAULT.priority(null, null, "Sources Sought", NOW));
+    }
+
+    @Test
+    void testPriority_deadlineProximityHalvesAtSevenDays() {
+        assertEquals(1.0, ScoringPriority.deadlineProximity(NOW, NOW), 1e-9);
+        assertEquals(0.5, ScoringPriority.deadlineProximity(days(7), NOW), 1e-9);
+        assertEquals(ScoringPriority.NO_DEADLINE_PROXIMITY, ScoringPriority.deadlineProximity(null, NOW), 1e-9);
+    }
+
+    @Test
+    void testPriority_pastDeadlineBehindUpcomingOne() {
+        BigDecimal expired = ScoringPriority.DEFAULT.priority(days(-3), BigDecimal.valueOf(60), "Solicitation", NOW);
+        BigDecimal dueSoon = ScoringPriority.DEFAULT.priority(days(2), BigDecimal.valueOf(60), "Solicitation", NOW);
+
+        assertEquals(0.0, ScoringPriority.deadlineProximity(days(-3), NOW), 1e-9);
+        assertTrue(dueSoon.compareTo(expired) > 0);
+    }
+
+    @Test
+    void testPriority_noticeTypes() {
+        assertEquals(1.0, ScoringPriority.noticeTypeFactor("Combined Synopsis/Solicitation"), 1e-9);
+        assertEquals(0.6, ScoringPriority.noticeTypeFactor("Presolicitation"), 1e-9);
+        assertEquals(0.0, ScoringPriority.noticeTypeFactor("Award Notice"), 1e-9);
+        assertEquals(0.4, ScoringPriority.noticeTypeFactor("Special Notice"), 1e-9);
+    }
+
+    @Test
+    void testPriority_rejectsInvalidWeights() {
+        assertThrows(IllegalArgumentException.class, () -> new ScoringPriority(0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ScoringPriority(-1, 1, 1));
+    }
+
+    private static Instant days(int days) {
+        return NOW.plus(days, ChronoUnit.DAYS);
+    }
+}
@@ -0,0 +1,62 @@
+package com.athena.core.service;
+
+import com.athena.core.dto.ScoringQueueStatusDTO;
+import com.athena.core.entity.ScoringQueueEntry;
+import com.athena.core.repository.OpportunityScoreRepository;
+import com.athena.core.repository.ScoringQueueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScoringQueueServiceImplTest {
+    @Mock private ScoringQueueRepository scoringQueueRepository;
+    @Mock private OpportunityScoreRepository opportunityScoreRepository;
+    private ScoringQueueServiceImpl scoringQueueService;
+
+    @BeforeEach
+    void setUp() {
+        scoringQueueService = new ScoringQueueServiceImpl(scoringQueueRepository, opportunityScoreRepository, 50);
+        when(scoringQueueRepository.count()).thenReturn(600L);
+        when(scoringQueueRepository.countByResponseDeadlineBefore(any(Instant.class))).thenReturn(25L);
+        ScoringQueueEntry oldest = new ScoringQueueEntry(UUID.randomUUID(), new BigDecimal("72.50"));
+        oldest.setEnqueuedAt(Instant.parse("2026-03-01T08:00:00Z"));
+        when(scoringQueueRepository.findFirstByOrderByEnqueuedAtAsc()).thenReturn(Optional.of(oldest));
+    }
+
+    @Test void getStatus_ShouldEstimateDrainFromMeasuredRate() {
+        when(opportunityScoreRepository.countByScoreTypeAndCreatedAtAfter(eq("AI"), any(Instant.class))).thenReturn(1200L);
+        ScoringQueueStatusDTO status = scoringQueueService.getStatus();
+        assertThat(status.depth()).isEqualTo(600L);
+        assertThat(status.dueWithinWeek()).isEqualTo(25L);
+        assertThat(status.oldestEnqueuedAt()).isEqualTo(Instant.parse("2026-03-01T08:00:00Z"));
+        assertThat(status.throughputSource()).isEqualTo("measured");
+        assertThat(status.estimatedDrainSeconds()).isEqualTo(1800L);
+        assertThat(status.estimatedDrainedAt()).isNotNull();
+    }
+
+    @Test void getStatus_ShouldFallBackToConfiguredRateWhenIdle() {
+        when(opportunityScoreRepository.countByScoreTypeAndCreatedAtAfter(eq("AI"), any(Instant.class))).thenReturn(0L);
+        ScoringQueueStatusDTO status = scoringQueueService.getStatus();
+        assertThat(status.throughputSource()).isEqualTo("rate_limit");
+        assertThat(status.throughputPerHour()).isEqualTo(3000.0);
+        assertThat(status.estimatedDrainSeconds()).isEqualTo(720L);
+    }
+
+    @Test void getStatus_ShouldLeaveDrainUnknownWithoutRate() {
+        scoringQueueService = new ScoringQueueServiceImpl(scoringQueueRepository, opportunityScoreRepository, 0);
+        when(opportunityScoreRepository.countByScoreTypeAndCreatedAtAfter(eq("AI"), any(Instant.class))).thenReturn(0L);
+        ScoringQueueStatusDTO status = scoringQueueService.getStatus();
+        assertThat(status.estimatedDrainSeconds()).isNull();
+        assertThat(status.estimatedDrainedAt()).isNull();
+    }
+}
@@ -1,10 +1,13 @@
 package com.athena.core.service;
 
+import com.athena.core.dto.ImportManifestEntryResponseDTO;
 import com.athena.core.dto.SyncLogCreateDTO;
 import com.athena.core.dto.SyncLogResponseDTO;
 import com.athena.core.dto.SyncLogUpdateDTO;
+import com.athena.core.entity.ImportManifestEntry;
 import com.athena.core.entity.SyncLog;
 import com.athena.core.exception.EntityNotFoundException;
+import com.athena.core.repository.ImportManifestEntryRepository;
 import com.athena.core.repository.SyncLogRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,6 +37,9 @@ class SyncLogServiceImplTest {
     @Mock
     private SyncLogRepository syncLogRepository;
 
+    @Mock
+    private ImportManifestEntryRepository importManifestEntryRepository;
+
     @InjectMocks
     private SyncLogServiceImpl syncLogService;
 
@@ -272,4 +278,37 @@ class SyncLogServiceImplTest {
         assertThat(result.get(0).status()).isEqualTo("FAILED");
         verify(syncLogRepository).findByStatus("FAILED");
     }
+
+    @Test
+    void findImportManifest_ShouldReturnEntriesForSource() {
+        // Given
+        ImportManifestEntry entry = new ImportManifestEntry("SAM_GOV", "/data/sam-gov/2025-01-15.json");
+        entry.setId(UUID.randomUUID());
+        entry.setFileSize(2048L);
+        entry.setChecksum("abc123");
+        entry.setRecordsImported(42);
+        entry.setSyncLog(testSyncLog);
+
+        when(importManifestEntryRepository.findBySourceOrderByFilePathAsc("SAM_GOV")).thenReturn(List.of(entry));
+
+        // When
+        List<ImportManifestEntryResponseDTO> result = syncLogService.findImportManifest("SAM_GOV");
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).filePath()).isEqualTo("/data/sam-gov/2025-01-15.json");
+        assertThat(result.get(0).recordsImported()).isEqualTo(42);
+        assertThat(result.get(0).syncLogId()).isEqualTo(testSyncLogId);
+    }
+
+    @Test
+    void findImportManifestBySyncLog_ShouldThrowException_WhenSyncLogNotFound() {
+        // Given
+        when(syncLogRepository.existsById(testSyncLogId)).thenReturn(false);
+
+        // When/Then
+        assertThatThrownBy(() -> syncLogService.findImportManifestBySyncLog(testSyncLogId))
+            .isInstanceOf(EntityNotFoundException.class);
+        verify(importManifestEntryRepository, never()).findBySyncLogIdOrderByFilePathAsc(any());
+    }
 }
@@ -8,6 +8,7 @@ dependencies {
 
     // Spring Boot - Batch
     implementation("org.springframework.boot:spring-boot-starter-batch:3.2.0")
+    implementation("org.springframework.batch:spring-batch-integration:5.1.0") // AsyncItemProcessor/Writer
 
     // Spring Boot - Core (for @Scheduled)
     implementation("org.springframework.boot:spring-boot-starter:3.2.0")
@@ -15,6 +16,9 @@ dependencies {
     // Spring Data JPA (for repository builders used in batch jobs)
     implementation("org.springframework.boot:spring-boot-starter-data-jpa:3.2.0")
 
+    // PostgreSQL driver (CopyManager for the COPY import writer)
+    implementation("org.postgresql:postgresql:42.7.1")
+
     // JSON processing (needed for SAM.gov data parsing)
     implementation("com.fasterxml.jackson.core:jackson-databind:2.15.3")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310:2.15.3")
@@ -25,4 +29,5 @@ dependencies {
     testImplementation("org.testcontainers:testcontainers:1.19.3")
     testImplementation("org.testcontainers:postgresql:1.19.3")
     testImplementation("org.testcontainers:junit-jupiter:1.19.3")
+    testImplementation("com.squareup.okhttp3:mockwebserver:4.12.0")
 }
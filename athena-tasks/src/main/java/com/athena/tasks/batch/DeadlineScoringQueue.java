@@ -0,0 +1,148 @@
+package com.athena.tasks.batch;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded queue of opportunities to score, closest response deadline first.
+ *
+ * - Order: response deadline ascending, notices without a deadline last, then arrival order
+ * - One entry per notice: an event for a notice already queued updates its entry (new
+ *   deadline; created if either event was) and keeps its place in arrival order
+ * - Bounded: when full, the notice with the latest deadline is dropped, which may be the
+ *   one offered. Dropped notices are left to the next opportunityScoringJob run
+ */
+public class DeadlineScoringQueue {
+
+    private static final Comparator<Instant> DEADLINE_ORDER = Comparator.nullsLast(Comparator.naturalOrder());
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparing((Entry entry) -> entry.event().responseDeadline(), DEADLINE_ORDER)
+            .thenComparingLong(Entry::sequence);
+
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final TreeSet<Entry> entries = new TreeSet<>(ORDER);
+    private final Map<String, Entry> byNoticeId = new HashMap<>();
+
+    private long sequence;
+    private long droppedCount;
+
+    public DeadlineScoringQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Queue a notice, or update its entry if already queued.
+     *
+     * @param event Import event of the notice
+     * @return False if the queue was full and the notice had the latest deadline (not queued)
+     */
+    public boolean offer(OpportunityChangedEvent event) {
+        lock.lock();
+        try {
+            Entry queued = byNoticeId.get(event.noticeId());
+            if (queued != null) {
+                entries.remove(queued);
+                OpportunityChangedEvent merged = new OpportunityChangedEvent(
+                        event.noticeId(), event.responseDeadline(), event.created() || queued.event().created());
+                add(new Entry(merged, queued.queuedAt(), queued.sequence()));
+                return true;
+            }
+
+            Entry entry = new Entry(event, Instant.now(), sequence++);
+            if (entries.size() >= capacity) {
+                droppedCount++;
+                Entry last = entries.last();
+                if (ORDER.compare(entry, last) >= 0) {
+                    return false;
+                }
+                entries.remove(last);
+                byNoticeId.remove(last.event().noticeId());
+            }
+            add(entry);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove the notice with the closest deadline, waiting up to the timeout for one.
+     *
+     * @param timeout Longest wait
+     * @param unit Unit of the timeout
+     * @return Queued entry, or null if the queue stayed empty
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Entry poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long remainingNanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (entries.isEmpty()) {
+                if (remainingNanos <= 0) {
+                    return null;
+                }
+                remainingNanos = notEmpty.awaitNanos(remainingNanos);
+            }
+            Entry entry = entries.pollFirst();
+            byNoticeId.remove(entry.event().noticeId());
+            return entry;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Notices dropped because the queue was full.
+     *
+     * @return dropped count since startup
+     */
+    public long getDroppedCount() {
+        lock.lock();
+        try {
+            return droppedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void add(Entry entry) {
+        entries.add(entry);
+        byNoticeId.put(entry.event().noticeId(), entry);
+    }
+
+    /**
+     * A queued notice.
+     *
+     * @param event Latest import event of the notice
+     * @param queuedAt When the notice was first queued
+     * @param sequence Arrival order
+     */
+    public record Entry(OpportunityChangedEvent event, Instant queuedAt, long sequence) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.athena.tasks.batch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Base class for restartable, keyset-paged readers over JPA repositories.
+ *
+ * Replaces RepositoryItemReader's OFFSET paging for large tables. Each page is fetched with
+ * a repository query that seeks past the (sort key, id) of the last item returned, e.g.
+ * {@code WHERE (sort_key, id) < (:sortKey, :id) ORDER BY sort_key DESC, id DESC LIMIT :limit}:
+ * - Page cost does not grow with the position in the table, so a run stays linear
+ * - Rows inserted or removed behind the cursor (e.g. scores written by earlier chunks) do not
+ *   shift later pages, so nothing is skipped or read twice
+ *
+ * Restart:
+ * - The key of the last returned item is saved in the step ExecutionContext after every
+ *   chunk; on restart the reader seeks past that key
+ *
+ * Subclasses supply the page query, the key of an item and the key that starts the first
+ * page (a sentinel beyond every real key in the query's sort direction, such as MAX_ID).
+ *
+ * @param <T> item type
+ * @param <S> sort key type
+ */
+public abstract class KeysetItemReader<T, S> extends ItemStreamSupport implements ItemStreamReader<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeysetItemReader.class);
+
+    public static final UUID MIN_ID = new UUID(0L, 0L);
+    public static final UUID MAX_ID = new UUID(-1L, -1L);
+
+    private static final String SORT_KEY = "last.sortKey";
+    private static final String ID_KEY = "last.id";
+
+    private final String name;
+    private final int pageSize;
+
+    private S lastSortKey;
+    private UUID lastId;
+    private Iterator<T> page;
+    private boolean exhausted;
+    private int pagesRead;
+
+    protected KeysetItemReader(String name, int pageSize) {
+        this.name = name;
+        this.pageSize = pageSize;
+        setName(name);
+    }
+
+    /**
+     * Fetch the next page: at most limit items after the given key, in key order.
+     */
+    protected abstract List<T> fetchPage(S afterSortKey, UUID afterId, int limit);
+
+    /**
+     * Sort key of an item, as compared by the page query (e.g. with nulls coalesced).
+     */
+    protected abstract S sortKeyOf(T item);
+
+    /**
+     * ID of an item, the tie-breaker of the keyset.
+     */
+    protected abstract UUID idOf(T item);
+
+    /**
+     * Sort key that starts the first page.
+     */
+    protected abstract S firstSortKey();
+
+    /**
+     * ID that starts the first page (MAX_ID for descending, MIN_ID for ascending order).
+     */
+    protected abstract UUID firstId();
+
+    /**
+     * Parse a sort key saved in the ExecutionContext by formatSortKey.
+     */
+    protected abstract S parseSortKey(String value);
+
+    /**
+     * Format a sort key for the ExecutionContext.
+     */
+    protected String formatSortKey(S sortKey) {
+        return sortKey.toString();
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        lastSortKey = firstSortKey();
+        lastId = firstId();
+        page = null;
+        exhausted = false;
+        pagesRead = 0;
+
+        if (executionContext.containsKey(getExecutionContextKey(ID_KEY))) {
+            lastSortKey = parseSortKey(executionContext.getString(getExecutionContextKey(SORT_KEY)));
+            lastId = UUID.fromString(executionContext.getString(getExecutionContextKey(ID_KEY)));
+            logger.info("Restarting {} after key ({}, {})", name, lastSortKey, lastId);
+        }
+    }
+
+    @Override
+    public T read() {
+        if (page == null || !page.hasNext()) {
+            if (exhausted) {
+                return null;
+            }
+            List<T> items = fetchPage(lastSortKey, lastId, pageSize);
+            pagesRead++;
+            exhausted = items.size() < pageSize;
+            page = items.iterator();
+            if (!page.hasNext()) {
+                logger.info("{} finished after {} pages", name, pagesRead);
+                return null;
+            }
+        }
+
+        T item = page.next();
+        lastSortKey = sortKeyOf(item);
+        lastId = idOf(item);
+        return item;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putString(getExecutionContextKey(SORT_KEY), formatSortKey(lastSortKey));
+        executionContext.putString(getExecutionContextKey(ID_KEY), lastId.toString());
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        page = null;
+    }
+}
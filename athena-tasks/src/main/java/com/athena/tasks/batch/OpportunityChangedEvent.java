@@ -0,0 +1,18 @@
+package com.athena.tasks.batch;
+
+import java.time.Instant;
+
+/**
+ * Published by the SAM.gov import writer for each opportunity it inserts or updates.
+ *
+ * Published inside the chunk transaction; OpportunityEventScoringWorker only receives it
+ * once that transaction has committed, so a rolled back chunk produces no events.
+ *
+ * The opportunity is identified by notice ID: the COPY writer does not assign entity IDs.
+ *
+ * @param noticeId SAM.gov notice ID
+ * @param responseDeadline Response deadline of the notice, or null if none
+ * @param created True for a new notice, false for an amended one
+ */
+public record OpportunityChangedEvent(String noticeId, Instant responseDeadline, boolean created) {
+}
@@ -0,0 +1,90 @@
+package com.athena.tasks.batch;
+
+import com.athena.core.entity.Contact;
+import com.athena.core.entity.Opportunity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Writes the points of contact of an import chunk to the contacts table.
+ *
+ * Runs after the opportunity writer on the connection bound to the chunk transaction, so
+ * contacts commit or roll back with their opportunities. All contacts of the chunk are sent
+ * as one JDBC batch of INSERT ... SELECT statements that:
+ * - link the contact to its opportunity by notice_id (works for both the jpa and copy
+ *   writers, which do not share generated IDs)
+ * - skip emails already in the contact directory, including contacts imported by earlier
+ *   chunks of the same run (lower(email) index)
+ *
+ * Within a chunk the first contact per email wins. Partitions importing the same new email
+ * at the same moment may both insert it, since neither sees the other's uncommitted row.
+ */
+public class OpportunityContactWriter implements ItemWriter<Opportunity> {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpportunityContactWriter.class);
+
+    static final String INSERT_SQL =
+            "INSERT INTO contacts (id, first_name, last_name, full_name, email, phone, title, "
+                    + "contact_type, is_primary, opportunity_id, created_at, updated_at) "
+                    + "SELECT ?, ?, ?, ?, ?, ?, ?, ?, ?, o.id, now(), now() "
+                    + "FROM opportunities o WHERE o.notice_id = ? "
+                    + "AND NOT EXISTS (SELECT 1 FROM contacts c WHERE lower(c.email) = ?)";
+
+    private final DataSource dataSource;
+
+    public OpportunityContactWriter(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void write(Chunk<? extends Opportunity> chunk) throws Exception {
+        Set<String> chunkEmails = new HashSet<>();
+        int batched = 0;
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            for (Opportunity opportunity : chunk) {
+                for (Contact contact : opportunity.getImportedContacts()) {
+                    if (!chunkEmails.add(contact.getEmail())) {
+                        continue;
+                    }
+                    statement.setObject(1, UUID.randomUUID());
+                    statement.setString(2, contact.getFirstName());
+                    statement.setString(3, contact.getLastName());
+                    statement.setString(4, contact.getFullName());
+                    statement.setString(5, contact.getEmail());
+                    statement.setString(6, contact.getPhone());
+                    statement.setString(7, contact.getTitle());
+                    statement.setString(8, contact.getContactType());
+                    statement.setBoolean(9, Boolean.TRUE.equals(contact.getIsPrimary()));
+                    statement.setString(10, opportunity.getNoticeId());
+                    statement.setString(11, contact.getEmail());
+                    statement.addBatch();
+                    batched++;
+                }
+            }
+            if (batched == 0) {
+                return;
+            }
+
+            int inserted = Arrays.stream(statement.executeBatch()).map(count -> Math.max(count, 0)).sum();
+            logger.info("Inserted {} contacts ({} already in the directory)", inserted, batched - inserted);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Insert of " + batched + " contacts failed", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.athena.tasks.batch;
+
+import com.athena.core.entity.Opportunity;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bulk writer for the SAM.gov import that loads opportunities with PostgreSQL COPY.
+ *
+ * Each chunk is:
+ * 1. Streamed as CSV through the pgjdbc CopyManager into a session-local temp table
+ * 2. Merged into opportunities with a single INSERT ... SELECT ... ON CONFLICT (notice_id) DO NOTHING
+ *
+ * The writer runs on the connection bound to the chunk transaction, so the merge commits
+ * or rolls back with the chunk and the temp table is emptied on commit. Rows are written
+ * with plain SQL and are not attached to the JPA persistence context.
+ *
+ * Only new opportunities (no ID yet) are copied. Amended notices arrive as stored entities
+ * loaded by the processor and are flushed by JPA when the chunk transaction commits.
+ *
+ * Selected with athena.data.loader.sam-gov.writer-mode=copy (default: jpa).
+ */
+public class OpportunityCopyWriter implements ItemWriter<Opportunity> {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpportunityCopyWriter.class);
+
+    static final String STAGING_TABLE = "opportunity_copy_staging";
+
+    /**
+     * Columns copied from the entity; created_at and updated_at are set by the merge.
+     */
+    static final List<String> COLUMNS = List.of(
+            "id", "notice_id", "title", "solicitation_number", "agency_id", "office_name",
+            "notice_type", "base_type", "archive_type", "archive_date", "naics_code",
+            "classification_code", "set_aside", "posted_date", "response_deadline", "description",
+            "additional_info_link", "ui_link", "point_of_contact", "place_of_performance_city",
+            "place_of_performance_state", "place_of_performance_zip", "place_of_performance_country",
+            "is_active", "content_hash");
+
+    private static final String COLUMN_LIST = String.join(", ", COLUMNS);
+
+    private static final String CREATE_STAGING_SQL =
+            "CREATE TEMP TABLE IF NOT EXISTS " + STAGING_TABLE + " ON COMMIT DELETE ROWS AS "
+                    + "SELECT " + COLUMN_LIST + " FROM opportunities WITH NO DATA";
+
+    private static final String COPY_SQL =
+            "COPY " + STAGING_TABLE + " (" + COLUMN_LIST + ") FROM STDIN WITH (FORMAT csv)";
+
+    private static final String MERGE_SQL =
+            "INSERT INTO opportunities (" + COLUMN_LIST + ", created_at, updated_at) "
+                    + "SELECT " + COLUMN_LIST + ", now(), now() FROM " + STAGING_TABLE + " "
+                    + "ON CONFLICT (notice_id) DO NOTHING";
+
+    private final DataSource dataSource;
+
+    public OpportunityCopyWriter(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void write(Chunk<? extends Opportunity> chunk) throws Exception {
+        List<Opportunity> newOpportunities = new ArrayList<>();
+        for (Opportunity opportunity : chunk) {
+            if (opportunity.getId() == null) {
+                newOpportunities.add(opportunity);
+            }
+        }
+        if (newOpportunities.size() < chunk.size()) {
+            logger.info("Updating {} amended opportunities", chunk.size() - newOpportunities.size());
+        }
+        if (newOpportunities.isEmpty()) {
+            return;
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING_SQL);
+                statement.execute("TRUNCATE " + STAGING_TABLE);
+            }
+
+            long copied = connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn(COPY_SQL, new StringReader(toCsv(newOpportunities)));
+
+            int inserted;
+            try (Statement statement = connection.createStatement()) {
+                inserted = statement.executeUpdate(MERGE_SQL);
+            }
+
+            logger.info("Copied {} opportunities, inserted {} ({} already existed)",
+                    copied, inserted, copied - inserted);
+        } catch (SQLException | IOException e) {
+            throw new IllegalStateException("COPY of " + newOpportunities.size() + " opportunities failed", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * Render the chunk as CSV rows in {@link #COLUMNS} order.
+     */
+    static String toCsv(List<? extends Opportunity> opportunities) {
+        StringBuilder csv = new StringBuilder(opportunities.size() * 512);
+        for (Opportunity opportunity : opportunities) {
+            UUID agencyId = opportunity.getAgency() != null ? opportunity.getAgency().getId() : null;
+
+            appendRow(csv,
+                    UUID.randomUUID(),
+                    opportunity.getNoticeId(),
+                    opportunity.getTitle(),
+                    opportunity.getSolicitationNumber(),
+                    agencyId,
+                    opportunity.getOfficeName(),
+                    opportunity.getNoticeType(),
+                    opportunity.getBaseType(),
+                    opportunity.getArchiveType(),
+                    opportunity.getArchiveDate(),
+                    opportunity.getNaicsCode(),
+                    opportunity.getClassificationCode(),
+                    opportunity.getSetAside(),
+                    opportunity.getPostedDate(),
+                    opportunity.getResponseDeadline(),
+                    opportunity.getDescription(),
+                    opportunity.getAdditionalInfoLink(),
+                    opportunity.getUiLink(),
+                    opportunity.getPointOfContact(),
+                    opportunity.getPlaceOfPerformanceCity(),
+                    opportunity.getPlaceOfPerformanceState(),
+                    opportunity.getPlaceOfPerformanceZip(),
+                    opportunity.getPlaceOfPerformanceCountry(),
+                    opportunity.getIsActive() != null ? opportunity.getIsActive() : Boolean.TRUE,
+                    opportunity.getContentHash());
+        }
+        return csv.toString();
+    }
+
+    /**
+     * Append one CSV row. Null values are written unquoted (read as NULL by COPY); all other
+     * values are quoted so empty strings, commas, quotes and newlines survive.
+     */
+    private static void appendRow(StringBuilder csv, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                csv.append(',');
+            }
+            Object value = values[i];
+            if (value != null) {
+                csv.append('"').append(value.toString().replace("\"", "\"\"")).append('"');
+            }
+        }
+        csv.append('\n');
+    }
+}
@@ -0,0 +1,200 @@
+package com.athena.tasks.batch;
+
+import com.athena.core.dto.SamGovOpportunityDto;
+import com.athena.core.entity.Opportunity;
+import com.athena.core.loader.OpportunityContentHasher;
+import com.athena.core.repository.OpportunityRepository;
+import com.athena.core.repository.OpportunityRepository.NoticeContentHash;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Chunk-level duplicate and change detection for the SAM.gov import step.
+ *
+ * Replaces the per-record existsByNoticeId check:
+ * - Notice IDs are collected as the chunk is read (Spring Batch reads a whole chunk
+ *   before processing it)
+ * - The first resolve call of the chunk loads the stored content hash of all of them
+ *   with one notice_id = ANY(?) query
+ * - Notice IDs written earlier in the run are remembered with their hash, so repeats
+ *   across files are resolved without a round trip
+ * - A notice ID repeated inside one chunk is claimed by its first occurrence
+ *
+ * Each record resolves to INSERT (new notice), UPDATE (stored hash differs, i.e. an
+ * amended notice or a row imported before hashing) or SKIP (unchanged or repeated).
+ * Skipped records are filtered by the processor, so unchanged notices cost no writes.
+ * The stored entities of the chunk's amended notices are loaded together with a second
+ * notice_id = ANY(?) query (storedOpportunity), only when the chunk has any.
+ * State is reset at the start of every step execution.
+ */
+public class OpportunityDuplicateFilter implements StepExecutionListener,
+        ItemReadListener<SamGovOpportunityDto>, ChunkListener, ItemWriteListener<Opportunity> {
+
+    /**
+     * What the import should do with a record.
+     */
+    public enum Action {
+        INSERT,
+        UPDATE,
+        SKIP
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(OpportunityDuplicateFilter.class);
+
+    private final OpportunityRepository opportunityRepository;
+
+    private final Set<String> pendingNoticeIds = new LinkedHashSet<>();
+    private final Map<String, String> existingHashes = new HashMap<>();
+    private final Map<String, String> importedHashes = new HashMap<>();
+    private final Map<String, SamGovOpportunityDto> chunkClaims = new HashMap<>();
+    private final Map<String, SamGovOpportunityDto> chunkItems = new LinkedHashMap<>();
+    private final Map<String, Opportunity> storedOpportunities = new HashMap<>();
+    private boolean chunkResolved;
+
+    public OpportunityDuplicateFilter(OpportunityRepository opportunityRepository) {
+        this.opportunityRepository = opportunityRepository;
+    }
+
+    /**
+     * Resolve the notice ID used to identify an opportunity (notice ID, falling back to
+     * solicitation number).
+     */
+    public static String noticeIdOf(SamGovOpportunityDto dto) {
+        return dto.getNoticeId() != null ? dto.getNoticeId() : dto.getSolicitationNumber();
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        pendingNoticeIds.clear();
+        existingHashes.clear();
+        importedHashes.clear();
+        chunkClaims.clear();
+        chunkItems.clear();
+        storedOpportunities.clear();
+        chunkResolved = false;
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        chunkClaims.clear();
+    }
+
+    @Override
+    public void afterRead(SamGovOpportunityDto item) {
+        if (chunkResolved) {
+            // First read of a new chunk: the previous chunk's lookup is no longer needed
+            existingHashes.clear();
+            chunkItems.clear();
+            storedOpportunities.clear();
+            chunkResolved = false;
+        }
+
+        String noticeId = noticeIdOf(item);
+        if (noticeId == null) {
+            return;
+        }
+        chunkItems.putIfAbsent(noticeId, item);
+        if (!importedHashes.containsKey(noticeId)) {
+            pendingNoticeIds.add(noticeId);
+        }
+    }
+
+    @Override
+    public void afterWrite(Chunk<? extends Opportunity> items) {
+        for (Opportunity opportunity : items) {
+            importedHashes.put(opportunity.getNoticeId(), opportunity.getContentHash());
+        }
+    }
+
+    /**
+     * Decide whether a record is new, an amendment of a stored notice, or a duplicate.
+     *
+     * @param noticeId the notice ID of the record
+     * @param contentHash the content hash of the record
+     * @param item the record being processed (re-processing the same record is not a duplicate)
+     * @return the action to take for the record
+     */
+    public Action resolve(String noticeId, String contentHash, SamGovOpportunityDto item) {
+        resolvePending();
+
+        SamGovOpportunityDto claimant = chunkClaims.putIfAbsent(noticeId, item);
+        if (claimant != null && claimant != item) {
+            return Action.SKIP;
+        }
+
+        Map<String, String> known = importedHashes.containsKey(noticeId) ? importedHashes : existingHashes;
+        if (!known.containsKey(noticeId)) {
+            return Action.INSERT;
+        }
+        return Objects.equals(known.get(noticeId), contentHash) ? Action.SKIP : Action.UPDATE;
+    }
+
+    /**
+     * The stored entity of a notice that resolved to UPDATE in the current chunk.
+     *
+     * @param noticeId the notice ID of the record
+     * @return the stored opportunity, or empty if it is not stored (any more)
+     */
+    public Optional<Opportunity> storedOpportunity(String noticeId) {
+        resolvePending();
+        return Optional.ofNullable(storedOpportunities.get(noticeId));
+    }
+
+    private void resolvePending() {
+        if (chunkResolved) {
+            return;
+        }
+
+        if (!pendingNoticeIds.isEmpty()) {
+            for (NoticeContentHash existing : opportunityRepository.findContentHashes(
+                    pendingNoticeIds.toArray(String[]::new))) {
+                existingHashes.put(existing.getNoticeId(), existing.getContentHash());
+            }
+            logger.debug("Checked {} notice IDs for changes, {} already exist",
+                    pendingNoticeIds.size(), existingHashes.size());
+            pendingNoticeIds.clear();
+        }
+        loadAmendedOpportunities();
+        chunkResolved = true;
+    }
+
+    /**
+     * Load the stored entities of the chunk's amended notices (stored hash differs from
+     * the record's) with one query.
+     */
+    private void loadAmendedOpportunities() {
+        List<String> amendedNoticeIds = chunkItems.entrySet().stream()
+                .filter(entry -> {
+                    Map<String, String> known = importedHashes.containsKey(entry.getKey())
+                            ? importedHashes : existingHashes;
+                    return known.containsKey(entry.getKey()) && !Objects.equals(
+                            known.get(entry.getKey()), OpportunityContentHasher.hash(entry.getValue()));
+                })
+                .map(Map.Entry::getKey)
+                .toList();
+        if (amendedNoticeIds.isEmpty()) {
+            return;
+        }
+
+        for (Opportunity stored : opportunityRepository.findAllByNoticeIdIn(amendedNoticeIds)) {
+            storedOpportunities.put(stored.getNoticeId(), stored);
+        }
+        logger.debug("Loaded {} stored opportunities of amended notices", storedOpportunities.size());
+    }
+}
@@ -0,0 +1,261 @@
+package com.athena.tasks.batch;
+
+import com.athena.core.entity.Opportunity;
+import com.athena.core.entity.OpportunityScore;
+import com.athena.core.repository.OpportunityRepository;
+import com.athena.core.repository.OpportunityScoreRepository;
+import com.athena.core.repository.ScoringQueueRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scores newly imported opportunities as they arrive, instead of waiting for the next
+ * opportunityScoringJob run.
+ *
+ * Flow:
+ * 1. The SAM.gov import writer publishes an OpportunityChangedEvent per written notice
+ * 2. Once the chunk transaction commits, the notice is queued (DeadlineScoringQueue:
+ *    bounded, closest response deadline first). Notices past their deadline are not queued
+ * 3. Worker threads take notices off the queue and score them like scoreOpportunitiesStep:
+ *    HEURISTIC score first, then Claude (scoreProcessor: description cleanup, model
+ *    cascade, dimensions) if it reaches athena.scoring.heuristic.threshold
+ *
+ * New notices that already have an AI score (e.g. scored by a job run in the meantime) are
+ * skipped. Amended notices get new scores; the latest score of each type is the current one.
+ * Scored notices are removed from the persisted scoring queue of opportunityScoringJob.
+ *
+ * Notices that fail to score, or are dropped from a full queue, keep no AI score and are
+ * picked up by the next opportunityScoringJob run.
+ *
+ * Metrics:
+ * - athena.scoring.events.queue.size (gauge): Notices waiting
+ * - athena.scoring.events.dropped (counter): Notices dropped from a full queue
+ * - athena.scoring.events.delay (timer): Time from queueing to scores saved
+ * - athena.scoring.events.failures (counter): Notices that failed to score
+ *
+ * Configuration:
+ * - athena.scoring.events.enabled: Score imported notices on arrival (default: true)
+ * - athena.scoring.events.queue-capacity: Notices held in the queue (default: 10000)
+ * - athena.scoring.events.threads: Worker threads (default: 2; the client's rate limiter
+ *   is shared with the scoring job)
+ * - athena.scoring.events.rescore-changed: Rescore amended notices (default: true)
+ */
+@Component
+public class OpportunityEventScoringWorker implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpportunityEventScoringWorker.class);
+
+    private static final long POLL_TIMEOUT_MS = 1000;
+
+    private final OpportunityRepository opportunityRepository;
+    private final OpportunityScoreRepository scoreRepository;
+    private final ScoringQueueRepository scoringQueueRepository;
+    private final ItemProcessor<Opportunity, OpportunityScore> heuristicScoreProcessor;
+    private final ItemProcessor<Opportunity, List<OpportunityScore>> scoreProcessor;
+    private final DeadlineScoringQueue queue;
+    private final Counter failures;
+    private final Timer delay;
+
+    @Value("${athena.scoring.events.enabled:true}")
+    private boolean enabled;
+
+    @Value("${athena.scoring.events.threads:2}")
+    private int threads;
+
+    @Value("${athena.scoring.events.rescore-changed:true}")
+    private boolean rescoreChanged;
+
+    @Value("${athena.scoring.heuristic.enabled:true}")
+    private boolean heuristicEnabled;
+
+    @Value("${athena.scoring.heuristic.threshold:40}")
+    private int heuristicThreshold;
+
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public OpportunityEventScoringWorker(
+            OpportunityRepository opportunityRepository,
+            OpportunityScoreRepository scoreRepository,
+            ScoringQueueRepository scoringQueueRepository,
+            @Qualifier("heuristicScoreProcessor") ItemProcessor<Opportunity, OpportunityScore> heuristicScoreProcessor,
+            @Qualifier("scoreProcessor") ItemProcessor<Opportunity, List<OpportunityScore>> scoreProcessor,
+            @Value("${athena.scoring.events.queue-capacity:10000}") int queueCapacity,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.opportunityRepository = opportunityRepository;
+        this.scoreRepository = scoreRepository;
+        this.scoringQueueRepository = scoringQueueRepository;
+        this.heuristicScoreProcessor = heuristicScoreProcessor;
+        this.scoreProcessor = scoreProcessor;
+        this.queue = new DeadlineScoringQueue(queueCapacity);
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        Gauge.builder("athena.scoring.events.queue.size", queue, DeadlineScoringQueue::size)
+                .description("Imported opportunities waiting to be scored")
+                .register(registry);
+        FunctionCounter.builder("athena.scoring.events.dropped", queue, DeadlineScoringQueue::getDroppedCount)
+                .description("Imported opportunities dropped from a full scoring queue")
+                .register(registry);
+        this.failures = Counter.builder("athena.scoring.events.failures")
+                .description("Imported opportunities that failed to score")
+                .register(registry);
+        this.delay = Timer.builder("athena.scoring.events.delay")
+                .description("Time from queueing an imported opportunity to saving its scores")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * Queue a written notice once its import chunk has committed.
+     *
+     * @param event Import event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOpportunityChanged(OpportunityChangedEvent event) {
+        if (!enabled || event.noticeId() == null) {
+            return;
+        }
+        if (event.responseDeadline() != null && event.responseDeadline().isBefore(Instant.now())) {
+            logger.debug("Not queueing opportunity {} for scoring: response deadline has passed", event.noticeId());
+            return;
+        }
+        if (!queue.offer(event)) {
+            logger.debug("Scoring queue full, opportunity {} left to the scoring job", event.noticeId());
+        }
+    }
+
+    /**
+     * Score one queued notice and save its scores.
+     *
+     * @param entry Queued notice
+     * @return Scores saved (empty if skipped)
+     */
+    List<OpportunityScore> score(DeadlineScoringQueue.Entry entry) throws Exception {
+        OpportunityChangedEvent event = entry.event();
+        Optional<Opportunity> found = opportunityRepository.findByNoticeId(event.noticeId());
+        if (found.isEmpty() || Boolean.FALSE.equals(found.get().getIsActive())) {
+            logger.debug("Opportunity {} not found or inactive, not scoring", event.noticeId());
+            return List.of();
+        }
+        Opportunity opportunity = found.get();
+
+        boolean rescore = !event.created() && rescoreChanged;
+        if (!rescore && scoreRepository.existsByOpportunityIdAndScoreType(
+                opportunity.getId(), OpportunityScoringJob.SCORE_TYPE)) {
+            logger.debug("Opportunity {} already scored", event.noticeId());
+            return List.of();
+        }
+
+        List<OpportunityScore> scores = new ArrayList<>();
+        if (heuristicEnabled) {
+            OpportunityScore heuristic = heuristicScoreProcessor.process(opportunity);
+            if (rescore || !scoreRepository.existsByOpportunityIdAndScoreType(
+                    opportunity.getId(), OpportunityScoringJob.HEURISTIC_SCORE_TYPE)) {
+                scores.add(heuristic);
+            }
+            if (heuristic.getScoreValue().compareTo(BigDecimal.valueOf(heuristicThreshold)) < 0) {
+                logger.debug("Opportunity {} below heuristic threshold, not sent to Claude", event.noticeId());
+                return scoreRepository.saveAll(scores);
+            }
+        }
+
+        List<OpportunityScore> aiScores = scoreProcessor.process(opportunity);
+        if (aiScores == null) {
+            // Deliberately skipped by the processor (e.g. no title); only exceptions count as failures
+            logger.debug("Skipping opportunity not scored by Claude: {}", event.noticeId());
+        } else {
+            scores.addAll(aiScores);
+        }
+        List<OpportunityScore> saved = scoreRepository.saveAll(scores);
+        if (aiScores != null) {
+            scoringQueueRepository.deleteAllByIdInBatch(List.of(opportunity.getId()));
+            Duration sinceQueued = Duration.between(entry.queuedAt(), Instant.now());
+            delay.record(sinceQueued);
+            logger.info("Scored imported opportunity {} {} ms after import", event.noticeId(), sinceQueued.toMillis());
+        }
+        return saved;
+    }
+
+    private void work() {
+        while (running) {
+            DeadlineScoringQueue.Entry entry;
+            try {
+                entry = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (entry == null) {
+                continue;
+            }
+            try {
+                score(entry);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                failures.increment();
+                logger.error("Failed to score imported opportunity {}", entry.event().noticeId(), e);
+            }
+        }
+    }
+
+    DeadlineScoringQueue getQueue() {
+        return queue;
+    }
+
+    Counter getFailures() {
+        return failures;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            logger.info("Event-driven scoring of imported opportunities disabled");
+            return;
+        }
+        running = true;
+        Thread.Builder builder = Thread.ofVirtual().name("event-scoring-", 0);
+        for (int i = 0; i < Math.max(1, threads); i++) {
+            workers.add(builder.start(this::work));
+        }
+        logger.info("Event-driven scoring started: {} workers, queue capacity {}", workers.size(), queue.getCapacity());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        workers.clear();
+        if (queue.size() > 0) {
+            logger.info("Event-driven scoring stopped with {} opportunities queued; left to the scoring job", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -3,93 +3,311 @@ package com.athena.tasks.batch;
 import com.athena.core.client.AnthropicClaudeClient;
 import com.athena.core.entity.Opportunity;
 import com.athena.core.entity.OpportunityScore;
+import com.athena.core.entity.ScoringQueueEntry;
 import com.athena.core.repository.OpportunityRepository;
 import com.athena.core.repository.OpportunityScoreRepository;
+import com.athena.core.repository.ScoringBatchRepository;
+import com.athena.core.repository.ScoringQueueRepository;
+import com.athena.core.scoring.DescriptionPreprocessor;
+import com.athena.core.scoring.HeuristicScore;
+import com.athena.core.scoring.HeuristicScorer;
+import com.athena.core.scoring.ScoringPriority;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-
-import java.math.BigDecimal;
-import java.util.Map;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.builder.SimpleJobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.data.RepositoryItemReader;
-import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder;
+import org.springframework.batch.integration.async.AsyncItemProcessor;
+import org.springframework.batch.integration.async.AsyncItemWriter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.domain.Sort;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Future;
 
 /**
  * Spring Batch job for AI scoring of opportunities using Claude API.
  *
  * Job: opportunityScoringJob
- * Step: scoreOpportunitiesStep
+ * Steps: heuristicScoringStep, then scoreOpportunitiesStep
  *
- * Processing flow:
- * 1. Reader: Find opportunities without AI scores (where no OpportunityScore exists with scoreType='AI')
- * 2. Processor: Call Claude API to score opportunity (via AnthropicClaudeClient)
+ * Two-stage scoring:
+ * 1. heuristicScoringStep scores every opportunity without a HEURISTIC score with the local
+ *    HeuristicScorer (NAICS, set-aside, notice type, deadline, capability keywords) and
+ *    saves it as a HEURISTIC OpportunityScore. No API calls.
+ * 2. scoreOpportunitiesStep sends only opportunities with a HEURISTIC score of at least
+ *    athena.scoring.heuristic.threshold to Claude
+ * With athena.scoring.heuristic.enabled=false, every opportunity goes to Claude.
+ *
+ * Processing flow (scoreOpportunitiesStep):
+ * 1. Reader: Find active opportunities without AI scores (NOT EXISTS anti-join, keyset paging),
+ *    in scoring queue order (see below)
+ * 2. Processor: Clean up the description (DescriptionPreprocessor: markup, boilerplate,
+ *    token budget), then call Claude API to score opportunity (via AnthropicClaudeClient)
  * 3. Writer: Save OpportunityScore entities
  *
+ * One call scores several dimensions (JSON response): each scored opportunity gets an AI
+ * score (overall) plus relevance, win_probability and strategic_fit scores, saved together.
+ *
+ * Model cascade (athena.scoring.cascade.enabled=true):
+ * - A cheaper triage model (athena.scoring.cascade.triage-model) scores every opportunity
+ * - Opportunities whose triage score reaches athena.scoring.cascade.threshold, or whose
+ *   triage confidence is below athena.scoring.cascade.min-confidence, are scored again by
+ *   the configured model (anthropic.api.model), whose scores are saved
+ * - The AI score's metadata names the model of the saved scores ("model") and holds the
+ *   triage result under "cascade"
+ * Batch mode scores with the configured model only.
+ *
+ * Scoring queue (athena.scoring.queue.enabled, default true; interactive mode):
+ * - prioritizeScoringQueueStep, after the heuristic stage, writes every opportunity the LLM
+ *   stage would read to the persisted scoring_queue with its ScoringPriority (deadline
+ *   proximity, heuristic pre-score, notice type). Priorities are recomputed every run as
+ *   deadlines approach; entries that left the backlog are removed
+ * - scoreOpportunitiesStep reads the queue highest priority first (ScoringQueueItemReader)
+ *   rather than newest first, so a notice due in two days is not stuck behind hundreds due
+ *   next quarter when the backlog exceeds the API rate limit
+ * - Scored opportunities leave the queue; a restarted run resumes in the same order.
+ *   GET /api/scoring-queue reports the depth and estimated drain time
+ *
+ * Concurrency:
+ * - Scoring is wrapped in an AsyncItemProcessor on virtual threads, so up to
+ *   athena.scoring.max-in-flight API calls of a chunk run at once; the AsyncItemWriter
+ *   waits for the chunk's results and saves them in the chunk transaction
+ * - The request and token rate across all threads is capped by the client's shared
+ *   rate limiter (anthropic.api.rate-limit.*)
+ *
  * Configuration:
- * - Chunk size: 10 (respects API rate limits, batch of 10 opportunities at a time)
+ * - athena.scoring.chunk-size: Opportunities per chunk (default: 50; keep at or above max-in-flight)
+ * - athena.scoring.max-in-flight: Concurrent API calls (default: 8)
+ * - athena.scoring.heuristic.threshold: Minimum HEURISTIC score for the LLM stage (default: 40)
+ * - athena.scoring.description.max-tokens: Token budget of a description (default: 1500)
+ * - athena.scoring.cascade.*: Model cascade (default: disabled; threshold 60, min-confidence 50)
+ * - athena.scoring.queue.*: Scoring queue (default: enabled) and ScoringPriority weights
+ *   (deadline 0.5, heuristic 0.3, notice-type 0.2)
  * - Skip policy: Skip individual API failures, continue processing
- * - Retry: 3 attempts per opportunity (handles transient API errors)
  *
  * Error Handling:
- * - API failures logged, opportunity skipped
+ * - API failures logged, opportunity skipped (the client retries transient errors with backoff)
  * - Malformed responses logged, opportunity skipped
- * - Max retries: 3 per opportunity
+ * - Processing is non-transactional: when a chunk rolls back, cached results are reused
+ *   instead of calling the API again
+ * - While the client's circuit breaker is open (sustained 429/529 responses), scoring
+ *   threads pause until it lets calls through again. After athena.scoring.max-pause
+ *   (default: PT30M) the step fails instead of skipping the rest of the backlog; the next
+ *   run picks it up
+ *
+ * Batch mode (athena.scoring.mode=batch):
+ * - For overnight backlogs. Step submitScoringBatchesStep submits each chunk of
+ *   athena.scoring.batch.size opportunities as one Claude message batch (cheaper per token,
+ *   outside the interactive rate limits) and records it as a ScoringBatch
+ * - ScoringBatchPollScheduler polls in-progress batches and ScoringBatchCollector writes
+ *   the scores once a batch has ended
+ * - Opportunities in an unfinished batch are not read again by either mode
+ * - The heuristic stage runs first and gates batch submission the same way
  */
 @Configuration
 public class OpportunityScoringJob {
 
     private static final Logger logger = LoggerFactory.getLogger(OpportunityScoringJob.class);
 
+    static final String SCORE_TYPE = "AI";
+    static final String HEURISTIC_SCORE_TYPE = "HEURISTIC";
+    static final String MODE_BATCH = "batch";
+
     private final OpportunityRepository opportunityRepository;
     private final OpportunityScoreRepository scoreRepository;
     private final AnthropicClaudeClient claudeClient;
+    private final ScoringBatchRepository scoringBatchRepository;
+    private final HeuristicScorer heuristicScorer;
+    private final DescriptionPreprocessor descriptionPreprocessor;
+    private final ScoringQueueRepository scoringQueueRepository;
 
     @Value("${athena.scoring.company-capabilities:Government contracting experience with cloud infrastructure, cybersecurity, and data analytics}")
     private String companyCapabilities;
 
+    @Value("${athena.scoring.chunk-size:50}")
+    private int chunkSize;
+
+    @Value("${athena.scoring.max-in-flight:8}")
+    private int maxInFlight;
+
+    @Value("${athena.scoring.mode:interactive}")
+    private String mode;
+
+    @Value("${athena.scoring.batch.size:1000}")
+    private int batchSize;
+
+    @Value("${athena.scoring.max-pause:PT30M}")
+    private Duration maxPause;
+
+    @Value("${athena.scoring.heuristic.enabled:true}")
+    private boolean heuristicEnabled;
+
+    @Value("${athena.scoring.heuristic.threshold:40}")
+    private int heuristicThreshold;
+
+    @Value("${athena.scoring.heuristic.chunk-size:500}")
+    private int heuristicChunkSize;
+
+    @Value("${athena.scoring.cascade.enabled:false}")
+    private boolean cascadeEnabled;
+
+    @Value("${athena.scoring.cascade.triage-model:claude-3-5-haiku-20241022}")
+    private String cascadeTriageModel;
+
+    @Value("${athena.scoring.cascade.threshold:60}")
+    private int cascadeThreshold;
+
+    @Value("${athena.scoring.cascade.min-confidence:50}")
+    private int cascadeMinConfidence;
+
+    @Value("${athena.scoring.queue.enabled:true}")
+    private boolean queueEnabled;
+
+    @Value("${athena.scoring.queue.weights.deadline:0.5}")
+    private double deadlineWeight;
+
+    @Value("${athena.scoring.queue.weights.heuristic:0.3}")
+    private double heuristicWeight;
+
+    @Value("${athena.scoring.queue.weights.notice-type:0.2}")
+    private double noticeTypeWeight;
+
     public OpportunityScoringJob(
             OpportunityRepository opportunityRepository,
             OpportunityScoreRepository scoreRepository,
-            AnthropicClaudeClient claudeClient) {
+            AnthropicClaudeClient claudeClient,
+            ScoringBatchRepository scoringBatchRepository,
+            HeuristicScorer heuristicScorer,
+            DescriptionPreprocessor descriptionPreprocessor,
+            ScoringQueueRepository scoringQueueRepository) {
         this.opportunityRepository = opportunityRepository;
         this.scoreRepository = scoreRepository;
         this.claudeClient = claudeClient;
+        this.scoringBatchRepository = scoringBatchRepository;
+        this.heuristicScorer = heuristicScorer;
+        this.descriptionPreprocessor = descriptionPreprocessor;
+        this.scoringQueueRepository = scoringQueueRepository;
     }
 
     /**
      * Define the opportunity scoring job.
      *
+     * Runs heuristicScoringStep (unless disabled), then prioritizeScoringQueueStep (unless
+     * the queue is disabled) and scoreOpportunitiesStep, or submitScoringBatchesStep when
+     * athena.scoring.mode is batch.
+     *
      * @param jobRepository Spring Batch job repository
+     * @param heuristicScoringStep Step for the local heuristic stage
+     * @param prioritizeScoringQueueStep Step for ordering the backlog in the scoring queue
      * @param scoreOpportunitiesStep Step for scoring opportunities
+     * @param submitScoringBatchesStep Step for submitting opportunities as message batches
      * @return Configured job
      */
     @Bean
     public Job opportunityScoringJob(
             JobRepository jobRepository,
-            Step scoreOpportunitiesStep) {
-        return new JobBuilder("opportunityScoringJob", jobRepository)
-                .start(scoreOpportunitiesStep)
+            Step heuristicScoringStep,
+            Step prioritizeScoringQueueStep,
+            Step scoreOpportunitiesStep,
+            Step submitScoringBatchesStep) {
+        boolean batchMode = MODE_BATCH.equalsIgnoreCase(mode);
+        boolean prioritize = queueEnabled && !batchMode;
+        logger.info("Opportunity scoring job in {} mode, heuristic prefilter {}, model cascade {}, scoring queue {}",
+                batchMode ? "batch" : "interactive",
+                heuristicEnabled ? "at " + heuristicThreshold : "disabled",
+                cascadeEnabled && !batchMode ? cascadeTriageModel + " then " + claudeClient.getModel() : "disabled",
+                prioritize ? "enabled" : "disabled");
+
+        List<Step> steps = new ArrayList<>();
+        if (heuristicEnabled) {
+            steps.add(heuristicScoringStep);
+        }
+        if (prioritize) {
+            steps.add(prioritizeScoringQueueStep);
+        }
+        steps.add(batchMode ? submitScoringBatchesStep : scoreOpportunitiesStep);
+
+        SimpleJobBuilder job = new JobBuilder("opportunityScoringJob", jobRepository).start(steps.get(0));
+        for (Step step : steps.subList(1, steps.size())) {
+            job.next(step);
+        }
+        return job.build();
+    }
+
+    /**
+     * Define the heuristic scoring step (first stage).
+     *
+     * Scores opportunities without a HEURISTIC score locally; cheap enough for large chunks.
+     *
+     * @param jobRepository Spring Batch job repository
+     * @param transactionManager Transaction manager
+     * @return Configured step
+     */
+    @Bean
+    public Step heuristicScoringStep(
+            JobRepository jobRepository,
+            PlatformTransactionManager transactionManager) {
+        return new StepBuilder("heuristicScoringStep", jobRepository)
+                .<Opportunity, OpportunityScore>chunk(heuristicChunkSize, transactionManager)
+                .reader(heuristicOpportunityReader())
+                .processor(heuristicScoreProcessor())
+                .writer(scoreWriter())
+                .build();
+    }
+
+    /**
+     * Define the prioritize scoring queue step (interactive mode, queue enabled).
+     *
+     * Writes every opportunity the LLM stage would read to the scoring queue with its
+     * current priority, then removes entries this run did not prioritize (opportunities
+     * scored, deactivated or screened out since the last run).
+     *
+     * @param jobRepository Spring Batch job repository
+     * @param transactionManager Transaction manager
+     * @return Configured step
+     */
+    @Bean
+    public Step prioritizeScoringQueueStep(
+            JobRepository jobRepository,
+            PlatformTransactionManager transactionManager) {
+        return new StepBuilder("prioritizeScoringQueueStep", jobRepository)
+                .<Opportunity, ScoringQueueEntry>chunk(heuristicChunkSize, transactionManager)
+                .reader(scoringBacklogReader())
+                .processor(scoringQueueProcessor())
+                .writer(scoringQueueWriter())
+                .listener(staleQueueEntryRemover())
                 .build();
     }
 
     /**
      * Define the score opportunities step.
      *
+     * Reads the scoring queue by priority, or unscored opportunities newest first when the
+     * queue is disabled.
+     *
      * @param jobRepository Spring Batch job repository
      * @param transactionManager Transaction manager
      * @return Configured step
@@ -98,97 +316,286 @@ public class OpportunityScoringJob {
     public Step scoreOpportunitiesStep(
             JobRepository jobRepository,
             PlatformTransactionManager transactionManager) {
+        ItemStreamReader<Opportunity> reader = queueEnabled ? scoringQueueReader() : unscoredOpportunityReader();
         return new StepBuilder("scoreOpportunitiesStep", jobRepository)
-                .<Opportunity, OpportunityScore>chunk(10, transactionManager)
-                .reader(unscoredOpportunityReader())
-                .processor(scoreProcessor())
-                .writer(scoreWriter())
+                .<Opportunity, Future<List<OpportunityScore>>>chunk(chunkSize, transactionManager)
+                .reader(reader)
+                .processor(asyncScoreProcessor())
+                .writer(asyncScoreWriter())
                 .faultTolerant()
+                .processorNonTransactional()
                 .skip(Exception.class)
+                .noSkip(AnthropicClaudeClient.ClaudeCircuitOpenException.class)
                 .skipLimit(Integer.MAX_VALUE)
-                .retryLimit(3)
-                .retry(AnthropicClaudeClient.ClaudeApiException.class)
                 .build();
     }
 
     /**
-     * Reader: Find opportunities without AI scores.
+     * Define the submit scoring batches step (batch mode).
      *
-     * Uses OpportunityRepository to find all active opportunities.
-     * Processor will check if score exists before calling API.
+     * Each chunk of athena.scoring.batch.size unscored opportunities is submitted as one
+     * message batch; ScoringBatchCollector writes the scores when the batch has ended.
      *
-     * @return Item reader
+     * @param jobRepository Spring Batch job repository
+     * @param transactionManager Transaction manager
+     * @return Configured step
      */
     @Bean
-    public ItemReader<Opportunity> unscoredOpportunityReader() {
-        return new RepositoryItemReaderBuilder<Opportunity>()
-                .name("unscoredOpportunityReader")
-                .repository(opportunityRepository)
-                .methodName("findAll")
-                .sorts(Map.of("postedDate", Sort.Direction.DESC))
-                .pageSize(50)
+    public Step submitScoringBatchesStep(
+            JobRepository jobRepository,
+            PlatformTransactionManager transactionManager) {
+        return new StepBuilder("submitScoringBatchesStep", jobRepository)
+                .<Opportunity, Opportunity>chunk(batchSize, transactionManager)
+                .reader(unscoredOpportunityReader())
+                .writer(scoringBatchSubmitWriter(transactionManager))
                 .build();
     }
 
     /**
-     * Processor: Score opportunity using Claude API.
+     * Writer: Submit a chunk of opportunities as one message batch and record it.
      *
-     * Checks if opportunity already has an AI score. If yes, skips it (returns null).
-     * If no, calls Claude API to score the opportunity and creates OpportunityScore entity.
+     * @param transactionManager Transaction manager (the batch is recorded in its own transaction)
+     * @return Item writer
+     */
+    @Bean
+    public ScoringBatchSubmitWriter scoringBatchSubmitWriter(PlatformTransactionManager transactionManager) {
+        return new ScoringBatchSubmitWriter(claudeClient, scoringBatchRepository, descriptionPreprocessor,
+                SCORE_TYPE, companyCapabilities, transactionManager);
+    }
+
+    /**
+     * Executor for scoring calls: one virtual thread per opportunity, at most max-in-flight at once.
+     *
+     * Submitting beyond the limit blocks the step thread, which bounds in-flight API calls.
+     *
+     * @return Task executor
+     */
+    @Bean
+    public TaskExecutor scoringTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("scoring-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(maxInFlight);
+        return executor;
+    }
+
+    /**
+     * Processor: Run scoreProcessor on the scoring executor and return its future.
+     *
+     * @return Async item processor
+     */
+    @Bean
+    public AsyncItemProcessor<Opportunity, List<OpportunityScore>> asyncScoreProcessor() {
+        AsyncItemProcessor<Opportunity, List<OpportunityScore>> processor = new AsyncItemProcessor<>();
+        processor.setDelegate(scoreProcessor());
+        processor.setTaskExecutor(scoringTaskExecutor());
+        return processor;
+    }
+
+    /**
+     * Writer: Wait for the chunk's scoring futures and pass the results to scoreListWriter.
+     *
+     * A failed future is rethrown here, so the step skips that opportunity.
+     *
+     * @return Async item writer
+     */
+    @Bean
+    public AsyncItemWriter<List<OpportunityScore>> asyncScoreWriter() {
+        AsyncItemWriter<List<OpportunityScore>> writer = new AsyncItemWriter<>();
+        writer.setDelegate(scoreListWriter());
+        return writer;
+    }
+
+    /**
+     * Reader: Find active opportunities without AI scores, newest first.
+     *
+     * The database returns only unscored opportunities (NOT EXISTS anti-join on
+     * opportunity_scores), paged by keyset, so a run reads the scoring backlog rather than
+     * the whole table. With the heuristic stage enabled, only opportunities whose HEURISTIC
+     * score reaches the threshold are returned. Pages match the chunk size of the step that
+     * reads them (athena.scoring.chunk-size, or athena.scoring.batch.size in batch mode).
+     *
+     * @return Item reader
+     */
+    @Bean
+    public UnscoredOpportunityItemReader unscoredOpportunityReader() {
+        return llmBacklogReader(MODE_BATCH.equalsIgnoreCase(mode) ? batchSize : chunkSize);
+    }
+
+    /**
+     * Reader: Same opportunities as unscoredOpportunityReader, in pages of the heuristic
+     * chunk size, for prioritizeScoringQueueStep.
+     *
+     * @return Item reader
+     */
+    @Bean
+    public UnscoredOpportunityItemReader scoringBacklogReader() {
+        return llmBacklogReader(heuristicChunkSize);
+    }
+
+    private UnscoredOpportunityItemReader llmBacklogReader(int pageSize) {
+        if (!heuristicEnabled) {
+            return new UnscoredOpportunityItemReader(opportunityRepository, SCORE_TYPE, pageSize);
+        }
+        return new UnscoredOpportunityItemReader(opportunityRepository, SCORE_TYPE,
+                HEURISTIC_SCORE_TYPE, BigDecimal.valueOf(heuristicThreshold), pageSize);
+    }
+
+    /**
+     * Reader: Queued opportunities without AI scores, highest priority first, in pages of
+     * the scoring chunk size.
+     *
+     * @return Item reader
+     */
+    @Bean
+    public ScoringQueueItemReader scoringQueueReader() {
+        return new ScoringQueueItemReader(scoringQueueRepository, opportunityRepository, SCORE_TYPE, chunkSize);
+    }
+
+    /**
+     * Processor: Compute the ScoringPriority of an opportunity as a scoring queue entry.
+     *
+     * The heuristic pre-score is recomputed locally (same value as the HEURISTIC score
+     * saved by heuristicScoringStep); without the heuristic stage it counts as unscored.
      *
      * @return Item processor
      */
     @Bean
-    public ItemProcessor<Opportunity, OpportunityScore> scoreProcessor() {
+    public ItemProcessor<Opportunity, ScoringQueueEntry> scoringQueueProcessor() {
+        ScoringPriority scoringPriority = new ScoringPriority(deadlineWeight, heuristicWeight, noticeTypeWeight);
         return opportunity -> {
-            try {
-                // Check if already scored
-                boolean hasScore = scoreRepository.existsByOpportunityIdAndScoreType(
-                        opportunity.getId(),
-                        "AI"
-                );
-
-                if (hasScore) {
-                    logger.debug("Opportunity already scored: {}", opportunity.getNoticeId());
-                    return null; // Skip this item
+            Instant now = Instant.now();
+            BigDecimal heuristicScore = heuristicEnabled
+                    ? BigDecimal.valueOf(heuristicScorer.score(opportunity).score())
+                    : null;
+            ScoringQueueEntry entry = new ScoringQueueEntry(opportunity.getId(), scoringPriority.priority(
+                    opportunity.getResponseDeadline(), heuristicScore, opportunity.getNoticeType(), now));
+            entry.setResponseDeadline(opportunity.getResponseDeadline());
+            entry.setHeuristicScore(heuristicScore);
+            entry.setNoticeType(opportunity.getNoticeType());
+            entry.setPrioritizedAt(now);
+            return entry;
+        };
+    }
+
+    /**
+     * Writer: Insert or reprioritize scoring queue entries (one upsert per entry, keeping
+     * the time each opportunity was first queued).
+     *
+     * @return Item writer
+     */
+    @Bean
+    public ItemWriter<ScoringQueueEntry> scoringQueueWriter() {
+        return chunk -> {
+            for (ScoringQueueEntry entry : chunk) {
+                scoringQueueRepository.upsert(entry.getOpportunityId(), entry.getPriority(),
+                        entry.getResponseDeadline(), entry.getHeuristicScore(), entry.getNoticeType(),
+                        entry.getPrioritizedAt());
+            }
+            logger.info("Prioritized {} opportunities in the scoring queue", chunk.size());
+        };
+    }
+
+    /**
+     * Listener removing queue entries not prioritized by a completed prioritization step.
+     */
+    private StepExecutionListener staleQueueEntryRemover() {
+        return new StepExecutionListener() {
+            private Instant startedAt;
+
+            @Override
+            public void beforeStep(StepExecution stepExecution) {
+                startedAt = Instant.now();
+            }
+
+            @Override
+            public ExitStatus afterStep(StepExecution stepExecution) {
+                if (stepExecution.getStatus() == BatchStatus.COMPLETED && startedAt != null) {
+                    int removed = scoringQueueRepository.deletePrioritizedBefore(startedAt);
+                    logger.info("Scoring queue holds {} opportunities ({} left the backlog)",
+                            stepExecution.getWriteCount(), removed);
                 }
+                return null;
+            }
+        };
+    }
 
+    /**
+     * Reader: Find active opportunities without HEURISTIC scores, newest first.
+     *
+     * @return Item reader
+     */
+    @Bean
+    public UnscoredOpportunityItemReader heuristicOpportunityReader() {
+        return new UnscoredOpportunityItemReader(opportunityRepository, HEURISTIC_SCORE_TYPE, heuristicChunkSize);
+    }
+
+    /**
+     * Processor: Score opportunity with the HeuristicScorer.
+     *
+     * The points of each factor and any disqualification are stored in metadata.
+     *
+     * @return Item processor
+     */
+    @Bean
+    public ItemProcessor<Opportunity, OpportunityScore> heuristicScoreProcessor() {
+        return opportunity -> createHeuristicScore(opportunity.getId(), heuristicScorer.score(opportunity));
+    }
+
+    /**
+     * Processor: Score opportunity using Claude API.
+     *
+     * Calls Claude API to score the opportunity and creates its OpportunityScore entities
+     * (overall and per dimension). The reader only returns opportunities without an AI
+     * score, so no per-item check is needed.
+     * Runs on scoring threads (see asyncScoreProcessor), so it only reads fields already
+     * loaded on the opportunity.
+     *
+     * @return Item processor
+     */
+    @Bean
+    public ItemProcessor<Opportunity, List<OpportunityScore>> scoreProcessor() {
+        return opportunity -> {
+            try {
                 // Validate opportunity has required fields
                 if (opportunity.getTitle() == null || opportunity.getTitle().isEmpty()) {
                     logger.warn("Opportunity missing title, skipping: {}", opportunity.getNoticeId());
                     return null;
                 }
 
-                String description = opportunity.getDescription() != null ?
-                        opportunity.getDescription() : "No description available";
+                DescriptionPreprocessor.PreparedDescription prepared =
+                        descriptionPreprocessor.prepare(opportunity.getDescription());
+                String description = !prepared.text().isEmpty() ?
+                        prepared.text() : "No description available";
 
                 logger.info("Scoring opportunity: {} ({})", opportunity.getTitle(), opportunity.getNoticeId());
 
-                // Call Claude API to score
-                AnthropicClaudeClient.OpportunityScoreResult result =
-                        claudeClient.scoreOpportunity(
-                                opportunity.getTitle(),
-                                description,
-                                companyCapabilities
-                        );
-
-                // Create OpportunityScore entity
-                OpportunityScore score = new OpportunityScore();
-                score.setOpportunityId(opportunity.getId());
-                score.setScoreValue(BigDecimal.valueOf(result.getScore()));
-                score.setScoreType("AI");
-                score.setConfidence(BigDecimal.valueOf(calculateConfidenceValue(result.getScore())));
+                // Call Claude API to score (triage model first when the cascade is enabled)
+                AnthropicClaudeClient.OpportunityScoreResult triage = null;
+                AnthropicClaudeClient.OpportunityScoreResult result;
+                if (cascadeEnabled) {
+                    triage = scoreWhenAvailable(opportunity.getTitle(), description, cascadeTriageModel);
+                    result = needsStrongModel(triage, cascadeThreshold, cascadeMinConfidence)
+                            ? scoreWhenAvailable(opportunity.getTitle(), description, null)
+                            : triage;
+                } else {
+                    result = scoreWhenAvailable(opportunity.getTitle(), description, null);
+                }
 
-                // Store rationale in metadata
-                score.setMetadata(Map.of("rationale", result.getRationale()));
+                // Create OpportunityScore entities (overall first)
+                List<OpportunityScore> scores = createScores(opportunity.getId(), SCORE_TYPE, result);
+                scores.get(0).getMetadata().put("description_tokens_saved", prepared.tokensSaved());
+                if (triage != null) {
+                    scores.get(0).getMetadata().put("cascade", cascadeMetadata(triage, result != triage));
+                }
 
-                logger.info("Scored opportunity {} with score: {}", opportunity.getNoticeId(), result.getScore());
+                logger.info("Scored opportunity {} with score: {} ({} dimensions)",
+                        opportunity.getNoticeId(), result.getScore(), result.getDimensions().size());
 
-                return score;
+                return scores;
 
             } catch (AnthropicClaudeClient.ClaudeApiException e) {
                 logger.error("Claude API error scoring opportunity {}: {}", opportunity.getNoticeId(), e.getMessage());
-                throw e; // Trigger retry
+                throw e; // Skipped by the step (the client has already retried); fails it if the circuit stays open
             } catch (Exception e) {
                 logger.error("Unexpected error scoring opportunity {}", opportunity.getNoticeId(), e);
                 return null; // Skip this item
@@ -196,6 +603,33 @@ public class OpportunityScoringJob {
         };
     }
 
+    /**
+     * Score an opportunity, pausing while the client's circuit breaker is open.
+     *
+     * Gives up with the ClaudeCircuitOpenException once the pause would exceed max-pause.
+     *
+     * @param model Model to score with, or null for the client's configured model
+     */
+    private AnthropicClaudeClient.OpportunityScoreResult scoreWhenAvailable(String title, String description, String model)
+            throws InterruptedException {
+        long pauseDeadline = System.nanoTime() + maxPause.toNanos();
+        while (true) {
+            try {
+                return model == null
+                        ? claudeClient.scoreOpportunity(title, description, companyCapabilities)
+                        : claudeClient.scoreOpportunity(title, description, companyCapabilities, model);
+            } catch (AnthropicClaudeClient.ClaudeCircuitOpenException e) {
+                long remainingNanos = pauseDeadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    throw e;
+                }
+                Duration pause = Duration.ofNanos(Math.min(e.getRetryAfter().toNanos(), remainingNanos));
+                logger.warn("Claude API circuit open, pausing scoring for {} ms", pause.toMillis());
+                Thread.sleep(pause);
+            }
+        }
+    }
+
     /**
      * Writer: Save OpportunityScore entities to database.
      *
@@ -219,6 +653,136 @@ public class OpportunityScoringJob {
         };
     }
 
+    /**
+     * Whether a triage result goes to the stronger model: a score at or above the threshold
+     * (worth a closer look), or a confidence below the minimum (the triage model was unsure).
+     */
+    static boolean needsStrongModel(AnthropicClaudeClient.OpportunityScoreResult triage, int threshold, int minConfidence) {
+        return triage.getScore() >= threshold
+                || (triage.getConfidence() != null && triage.getConfidence() < minConfidence);
+    }
+
+    /**
+     * Cascade metadata of an AI score: whether the stronger model rescored the opportunity,
+     * and the triage model's result.
+     */
+    static Map<String, Object> cascadeMetadata(AnthropicClaudeClient.OpportunityScoreResult triage, boolean escalated) {
+        Map<String, Object> triageResult = new LinkedHashMap<>();
+        triageResult.put("model", triage.getModel());
+        triageResult.put("score", triage.getScore());
+        triageResult.put("confidence", triage.getConfidence());
+        triageResult.put("rationale", triage.getRationale());
+        AnthropicClaudeClient.Usage usage = triage.getUsage();
+        if (usage != null) {
+            triageResult.put("input_tokens", usage.getInputTokens());
+            triageResult.put("output_tokens", usage.getOutputTokens());
+        }
+        Map<String, Object> cascade = new LinkedHashMap<>();
+        cascade.put("escalated", escalated);
+        cascade.put("triage", triageResult);
+        return cascade;
+    }
+
+    /**
+     * Writer: Save the scores of each scored opportunity (overall and dimensions) with one
+     * saveAll per chunk, and remove the scored opportunities from the scoring queue.
+     *
+     * @return Item writer
+     */
+    @Bean
+    public ItemWriter<List<OpportunityScore>> scoreListWriter() {
+        return chunk -> {
+            List<OpportunityScore> scores = chunk.getItems().stream()
+                    .filter(Objects::nonNull)
+                    .<OpportunityScore>flatMap(List::stream)
+                    .toList();
+
+            if (!scores.isEmpty()) {
+                scoreRepository.saveAll(scores);
+                scoringQueueRepository.deleteAllByIdInBatch(
+                        scores.stream().map(OpportunityScore::getOpportunityId).distinct().toList());
+                logger.info("Saved {} opportunity scores to database", scores.size());
+            }
+        };
+    }
+
+    /**
+     * Create the OpportunityScore entities for a Claude scoring result: the overall score
+     * (see createScore), then one score per dimension with the dimension name as score type
+     * and its rationale in metadata.
+     *
+     * Shared by interactive scoring and ScoringBatchCollector (batch mode). The token usage
+     * is stored on the overall score only, since one call produced them all.
+     */
+    static List<OpportunityScore> createScores(UUID opportunityId, String scoreType, AnthropicClaudeClient.OpportunityScoreResult result) {
+        List<OpportunityScore> scores = new ArrayList<>(1 + result.getDimensions().size());
+        scores.add(createScore(opportunityId, scoreType, result));
+        result.getDimensions().forEach((dimension, dimensionScore) -> {
+            OpportunityScore score = new OpportunityScore(opportunityId, dimension, BigDecimal.valueOf(dimensionScore.score()));
+            score.setConfidence(confidence(dimensionScore.score(), result.getConfidence()));
+            Map<String, Object> metadata = new LinkedHashMap<>();
+            metadata.put("rationale", dimensionScore.rationale());
+            if (result.getModel() != null) {
+                metadata.put("model", result.getModel());
+            }
+            score.setMetadata(metadata);
+            scores.add(score);
+        });
+        return scores;
+    }
+
+    /**
+     * Create the OpportunityScore entity for a Claude scoring result.
+     *
+     * The rationale and, when known, the model and the token usage of the call (including
+     * prompt cache reads and writes) are stored in metadata.
+     */
+    static OpportunityScore createScore(UUID opportunityId, String scoreType, AnthropicClaudeClient.OpportunityScoreResult result) {
+        OpportunityScore score = new OpportunityScore();
+        score.setOpportunityId(opportunityId);
+        score.setScoreValue(BigDecimal.valueOf(result.getScore()));
+        score.setScoreType(scoreType);
+        score.setConfidence(confidence(result.getScore(), result.getConfidence()));
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("rationale", result.getRationale());
+        if (result.getModel() != null) {
+            metadata.put("model", result.getModel());
+        }
+        AnthropicClaudeClient.Usage usage = result.getUsage();
+        if (usage != null) {
+            metadata.put("input_tokens", usage.getInputTokens());
+            metadata.put("output_tokens", usage.getOutputTokens());
+            metadata.put("cache_creation_input_tokens", usage.getCacheCreationInputTokens());
+            metadata.put("cache_read_input_tokens", usage.getCacheReadInputTokens());
+        }
+        score.setMetadata(metadata);
+        return score;
+    }
+
+    /**
+     * Create the HEURISTIC OpportunityScore entity for a heuristic result.
+     */
+    static OpportunityScore createHeuristicScore(UUID opportunityId, HeuristicScore result) {
+        OpportunityScore score = new OpportunityScore(opportunityId, HEURISTIC_SCORE_TYPE, BigDecimal.valueOf(result.score()));
+        Map<String, Object> metadata = new LinkedHashMap<>(result.factors());
+        if (result.isDisqualified()) {
+            metadata.put("disqualification", result.disqualification());
+        }
+        score.setMetadata(metadata);
+        return score;
+    }
+
+    /**
+     * Confidence of a score: the model's own confidence (0-100) as a fraction when it gave
+     * one, otherwise derived from the score.
+     */
+    private static BigDecimal confidence(int score, Integer modelConfidence) {
+        if (modelConfidence != null) {
+            return BigDecimal.valueOf(modelConfidence).movePointLeft(2);
+        }
+        return BigDecimal.valueOf(calculateConfidenceValue(score));
+    }
+
     /**
      * Calculate confidence value based on score.
      *
@@ -226,7 +790,7 @@ public class OpportunityScoringJob {
      * - Medium: score 50-79 → confidence 0.70
      * - Low: score < 50 → confidence 0.50
      */
-    private double calculateConfidenceValue(int score) {
+    private static double calculateConfidenceValue(int score) {
         if (score >= 80) {
             return 0.90;
         } else if (score >= 50) {
@@ -0,0 +1,100 @@
+package com.athena.tasks.batch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Partitioner for the parallel SAM.gov import.
+ *
+ * Splits the JSON files under the data directory (only new or modified ones when an import
+ * manifest is given) into at most gridSize partitions, each handled by its own worker step.
+ * Files are balanced by size: largest first, each into the partition with the fewest bytes
+ * so far. Each partition's ExecutionContext holds its file list under {@link #FILES_KEY};
+ * partitions that would be empty are not created.
+ *
+ * Partitions (and their file assignments) are stored with the step execution, so a restart
+ * resumes every worker on the same files from its own checkpoint.
+ */
+public class SamGovFilePartitioner implements Partitioner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SamGovFilePartitioner.class);
+
+    public static final String FILES_KEY = "files";
+
+    private final Path dataDirectory;
+    private final SamGovImportManifest manifest;
+
+    public SamGovFilePartitioner(Path dataDirectory) {
+        this(dataDirectory, null);
+    }
+
+    public SamGovFilePartitioner(Path dataDirectory, SamGovImportManifest manifest) {
+        this.dataDirectory = dataDirectory;
+        this.manifest = manifest;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        List<Path> files = SamGovOpportunityItemReader.listJsonFiles(dataDirectory);
+        if (manifest != null) {
+            files = manifest.selectFilesToImport(files);
+        }
+        int partitionCount = Math.max(1, Math.min(gridSize, files.size()));
+
+        List<ArrayList<String>> assignments = new ArrayList<>();
+        long[] assignedBytes = new long[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            assignments.add(new ArrayList<>());
+        }
+
+        List<Path> bySizeDescending = new ArrayList<>(files);
+        bySizeDescending.sort(Comparator.comparingLong(SamGovFilePartitioner::sizeOf).reversed());
+        for (Path file : bySizeDescending) {
+            int lightest = 0;
+            for (int i = 1; i < partitionCount; i++) {
+                if (assignedBytes[i] < assignedBytes[lightest]) {
+                    lightest = i;
+                }
+            }
+            assignments.get(lightest).add(file.toString());
+            assignedBytes[lightest] += sizeOf(file);
+        }
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        for (int i = 0; i < partitionCount; i++) {
+            ArrayList<String> assigned = assignments.get(i);
+            if (assigned.isEmpty()) {
+                continue;
+            }
+            assigned.sort(null);
+
+            ExecutionContext context = new ExecutionContext();
+            context.put(FILES_KEY, assigned);
+            partitions.put("partition" + i, context);
+        }
+
+        logger.info("Split {} SAM.gov files into {} partitions (grid size {})",
+                files.size(), partitions.size(), gridSize);
+        return partitions;
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read size of " + file, e);
+        }
+    }
+}
@@ -1,37 +1,41 @@
 package com.athena.tasks.batch;
 
 import com.athena.core.dto.SamGovOpportunityDto;
-import com.athena.core.entity.Agency;
 import com.athena.core.entity.Opportunity;
-import com.athena.core.repository.AgencyRepository;
+import com.athena.core.loader.AgencyResolver;
+import com.athena.core.loader.OpportunityContentHasher;
+import com.athena.core.loader.PointOfContactMapper;
+import com.athena.core.repository.ImportManifestEntryRepository;
 import com.athena.core.repository.OpportunityRepository;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.athena.core.repository.SyncLogRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.support.ListItemReader;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import javax.sql.DataSource;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Stream;
 
 /**
  * Spring Batch job for importing SAM.gov opportunity data from JSON files.
@@ -39,13 +43,29 @@ import java.util.stream.Stream;
  * Job: samGovImportJob
  * Step: importOpportunitiesStep
  *
+ * Job: samGovPartitionedImportJob (parallel variant)
+ * Step: importOpportunitiesPartitionedStep, splitting the files across
+ *       importOpportunitiesWorkerStep executions run on a bounded task executor
+ *
  * Processing flow:
- * 1. Reader: Read JSON files from configured data directory
- * 2. Processor: Convert DTO to entity, validate, check for duplicates
- * 3. Writer: Bulk insert to database via OpportunityRepository
+ * 1. Reader: Stream JSON files from configured data directory (restartable)
+ * 2. Processor: Convert DTO to entity, validate, skip unchanged notices and update amended
+ *    ones by content hash (one query per chunk)
+ * 3. Writer: Bulk insert to database via OpportunityRepository (jpa) or PostgreSQL COPY (copy),
+ *    then batch insert points of contact as contacts (deduplicated by email)
+ * 4. Events: an OpportunityChangedEvent per written notice, delivered after the chunk commits
+ *    (OpportunityEventScoringWorker scores new notices without a scoring job run)
+ *
+ * Both jobs record each run as a SyncLog (SAM_GOV_IMPORT) and keep an import manifest of
+ * fully processed files, so incremental runs only parse new or modified files.
  *
  * Configuration:
  * - athena.data.loader.sam-gov.data-directory: Directory containing JSON files
+ * - athena.data.loader.sam-gov.incremental: Skip files already in the import manifest (default true)
+ * - athena.data.loader.sam-gov.writer-mode: jpa (default) or copy for initial backfills
+ * - athena.data.loader.sam-gov.partitions: Number of file partitions for the parallel job
+ * - athena.data.loader.sam-gov.threads: Worker threads for the parallel job (each holds a
+ *   DB connection while writing, so keep below the connection pool size)
  * - Chunk size: 50 (batch inserts of 50 opportunities at a time)
  * - Skip policy: Skip individual failures, continue processing
  */
@@ -55,17 +75,41 @@ public class SamGovImportJob {
     private static final Logger logger = LoggerFactory.getLogger(SamGovImportJob.class);
 
     private final OpportunityRepository opportunityRepository;
-    private final AgencyRepository agencyRepository;
+    private final AgencyResolver agencyResolver;
+    private final DataSource dataSource;
+    private final ImportManifestEntryRepository importManifestEntryRepository;
+    private final SyncLogRepository syncLogRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${athena.data.loader.sam-gov.data-directory:./data/sam-gov}")
     private String dataDirectory;
 
+    @Value("${athena.data.loader.sam-gov.incremental:true}")
+    private boolean incremental;
+
+    @Value("${athena.data.loader.sam-gov.writer-mode:jpa}")
+    private String writerMode;
+
+    @Value("${athena.data.loader.sam-gov.partitions:8}")
+    private int partitions;
+
+    @Value("${athena.data.loader.sam-gov.threads:4}")
+    private int threads;
+
     public SamGovImportJob(
             OpportunityRepository opportunityRepository,
-            AgencyRepository agencyRepository) {
+            AgencyResolver agencyResolver,
+            DataSource dataSource,
+            ImportManifestEntryRepository importManifestEntryRepository,
+            SyncLogRepository syncLogRepository,
+            ApplicationEventPublisher eventPublisher) {
         this.opportunityRepository = opportunityRepository;
-        this.agencyRepository = agencyRepository;
+        this.agencyResolver = agencyResolver;
+        this.dataSource = dataSource;
+        this.importManifestEntryRepository = importManifestEntryRepository;
+        this.syncLogRepository = syncLogRepository;
+        this.eventPublisher = eventPublisher;
 
         // Configure ObjectMapper with Java 8 date/time support
         this.objectMapper = new ObjectMapper();
@@ -84,6 +128,7 @@ public class SamGovImportJob {
             JobRepository jobRepository,
             Step importOpportunitiesStep) {
         return new JobBuilder("samGovImportJob", jobRepository)
+                .listener(samGovImportSyncLogListener())
                 .start(importOpportunitiesStep)
                 .build();
     }
@@ -99,11 +144,125 @@ public class SamGovImportJob {
     public Step importOpportunitiesStep(
             JobRepository jobRepository,
             PlatformTransactionManager transactionManager) {
-        return new StepBuilder("importOpportunitiesStep", jobRepository)
+        return buildImportStep("importOpportunitiesStep", jobRepository, transactionManager,
+                opportunityReader(), opportunityProcessor(), opportunityDuplicateFilter());
+    }
+
+    /**
+     * Define the parallel SAM.gov import job.
+     *
+     * @param jobRepository Spring Batch job repository
+     * @param importOpportunitiesPartitionedStep Partitioned step for importing opportunities
+     * @return Configured job
+     */
+    @Bean
+    public Job samGovPartitionedImportJob(
+            JobRepository jobRepository,
+            Step importOpportunitiesPartitionedStep) {
+        return new JobBuilder("samGovPartitionedImportJob", jobRepository)
+                .listener(samGovImportSyncLogListener())
+                .start(importOpportunitiesPartitionedStep)
+                .build();
+    }
+
+    /**
+     * Define the partitioned import step.
+     *
+     * Splits the data directory into file partitions and runs one worker step per
+     * partition, at most {@code threads} at a time.
+     *
+     * @param jobRepository Spring Batch job repository
+     * @param importOpportunitiesWorkerStep Worker step run for each partition
+     * @return Configured step
+     */
+    @Bean
+    public Step importOpportunitiesPartitionedStep(
+            JobRepository jobRepository,
+            Step importOpportunitiesWorkerStep) {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("sam-gov-import-");
+        taskExecutor.setConcurrencyLimit(threads);
+
+        return new StepBuilder("importOpportunitiesPartitionedStep", jobRepository)
+                .partitioner("importOpportunitiesWorkerStep", samGovFilePartitioner())
+                .step(importOpportunitiesWorkerStep)
+                .gridSize(partitions)
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
+    /**
+     * Define the worker step of the partitioned import.
+     *
+     * Same processing as importOpportunitiesStep, reading only the files assigned to the
+     * partition. The reader and duplicate filter are step scoped, so every worker has its
+     * own file position and chunk state. Notices repeated across partitions are not seen by
+     * each other's duplicate filter; the notice_id unique constraint (or ON CONFLICT in copy
+     * mode) rejects the second insert, which is skipped.
+     *
+     * @param jobRepository Spring Batch job repository
+     * @param transactionManager Transaction manager
+     * @return Configured step
+     */
+    @Bean
+    public Step importOpportunitiesWorkerStep(
+            JobRepository jobRepository,
+            PlatformTransactionManager transactionManager) {
+        OpportunityDuplicateFilter duplicateFilter = partitionDuplicateFilter();
+        return buildImportStep("importOpportunitiesWorkerStep", jobRepository, transactionManager,
+                partitionOpportunityReader(null), createProcessor(duplicateFilter), duplicateFilter);
+    }
+
+    /**
+     * Partitioner: assigns the JSON files in the data directory to worker steps.
+     *
+     * @return File partitioner
+     */
+    @Bean
+    public SamGovFilePartitioner samGovFilePartitioner() {
+        return new SamGovFilePartitioner(Paths.get(dataDirectory), samGovImportManifest());
+    }
+
+    /**
+     * Reader for one partition: streams only the files assigned by the partitioner.
+     *
+     * @param files File paths from the partition's ExecutionContext
+     * @return Item reader
+     */
+    @Bean
+    @StepScope
+    public SamGovOpportunityItemReader partitionOpportunityReader(
+            @Value("#{stepExecutionContext['" + SamGovFilePartitioner.FILES_KEY + "']}") List<String> files) {
+        return new SamGovOpportunityItemReader(
+                files.stream().map(Paths::get).toList(), objectMapper, samGovImportManifest());
+    }
+
+    /**
+     * Duplicate filter for one partition (one instance per worker step execution).
+     *
+     * @return Duplicate filter (registered as a step listener)
+     */
+    @Bean
+    @StepScope
+    public OpportunityDuplicateFilter partitionDuplicateFilter() {
+        return new OpportunityDuplicateFilter(opportunityRepository);
+    }
+
+    private Step buildImportStep(
+            String name,
+            JobRepository jobRepository,
+            PlatformTransactionManager transactionManager,
+            ItemStreamReader<SamGovOpportunityDto> reader,
+            ItemProcessor<SamGovOpportunityDto, Opportunity> processor,
+            OpportunityDuplicateFilter duplicateFilter) {
+        return new StepBuilder(name, jobRepository)
                 .<SamGovOpportunityDto, Opportunity>chunk(50, transactionManager)
-                .reader(opportunityReader())
-                .processor(opportunityProcessor())
+                .reader(reader)
+                .processor(processor)
                 .writer(opportunityWriter())
+                .listener((StepExecutionListener) duplicateFilter)
+                .listener((ItemReadListener<SamGovOpportunityDto>) duplicateFilter)
+                .listener((ChunkListener) duplicateFilter)
+                .listener((ItemWriteListener<Opportunity>) duplicateFilter)
                 .faultTolerant()
                 .skip(Exception.class)
                 .skipLimit(Integer.MAX_VALUE)
@@ -111,75 +270,91 @@ public class SamGovImportJob {
     }
 
     /**
-     * Reader: Read SAM.gov opportunity DTOs from JSON files.
+     * Reader: Stream SAM.gov opportunity DTOs from JSON files.
      *
-     * Scans configured data directory for *.json files and parses them.
-     * Returns ListItemReader containing all opportunities from all files.
+     * Scans configured data directory for SAM.gov extracts (*.json, *.json.gz, *.json.zst,
+     * *.zip) and streams their records one at a time, decompressing archives on the fly.
+     * File and record position are checkpointed in the step ExecutionContext so a failed
+     * run resumes where it stopped.
      *
      * @return Item reader
      */
     @Bean
-    public ItemReader<SamGovOpportunityDto> opportunityReader() {
-        List<SamGovOpportunityDto> allOpportunities = new ArrayList<>();
-
-        Path dataPath = Paths.get(dataDirectory);
-        if (!Files.exists(dataPath)) {
-            logger.warn("Data directory does not exist: {}", dataDirectory);
-            return new ListItemReader<>(allOpportunities);
-        }
-
-        // Find all JSON files in data directory
-        try (Stream<Path> paths = Files.walk(dataPath)) {
-            List<Path> jsonFiles = paths
-                    .filter(Files::isRegularFile)
-                    .filter(path -> path.toString().endsWith(".json"))
-                    .toList();
-
-            logger.info("Found {} JSON files in {}", jsonFiles.size(), dataDirectory);
-
-            for (Path jsonFile : jsonFiles) {
-                try {
-                    List<SamGovOpportunityDto> opportunities = objectMapper.readValue(
-                            jsonFile.toFile(),
-                            new TypeReference<List<SamGovOpportunityDto>>() {}
-                    );
-                    allOpportunities.addAll(opportunities);
-                    logger.info("Loaded {} opportunities from {}", opportunities.size(), jsonFile.getFileName());
-                } catch (IOException e) {
-                    logger.error("Failed to parse JSON file: {}", jsonFile, e);
-                }
-            }
+    public SamGovOpportunityItemReader opportunityReader() {
+        return new SamGovOpportunityItemReader(Paths.get(dataDirectory), objectMapper, samGovImportManifest());
+    }
 
-            logger.info("Total opportunities to process: {}", allOpportunities.size());
+    /**
+     * Import manifest: selects new or modified files and records fully imported ones.
+     *
+     * @return Import manifest
+     */
+    @Bean
+    public SamGovImportManifest samGovImportManifest() {
+        return new SamGovImportManifest(importManifestEntryRepository, syncLogRepository, incremental);
+    }
 
-        } catch (IOException e) {
-            logger.error("Failed to scan data directory", e);
-        }
+    /**
+     * Job listener recording each import run as a SyncLog.
+     *
+     * @return SyncLog listener
+     */
+    @Bean
+    public SamGovImportSyncLogListener samGovImportSyncLogListener() {
+        return new SamGovImportSyncLogListener(syncLogRepository);
+    }
 
-        return new ListItemReader<>(allOpportunities);
+    /**
+     * Duplicate filter: resolves the notice IDs of each chunk with one query and remembers
+     * notice IDs imported earlier in the run.
+     *
+     * @return Duplicate filter (registered as a step listener)
+     */
+    @Bean
+    public OpportunityDuplicateFilter opportunityDuplicateFilter() {
+        return new OpportunityDuplicateFilter(opportunityRepository);
     }
 
     /**
      * Processor: Convert SamGovOpportunityDto to Opportunity entity.
      *
-     * Validates data, checks for duplicates (by notice ID), and creates related entities (Agency).
-     * Returns null for duplicates to skip them.
+     * Validates data, compares the record's content hash with the stored notice (one query
+     * per chunk, plus one for the stored entities of amended notices), and creates related
+     * entities (Agency). New notices become new entities, amended notices are applied to
+     * the stored entity, and unchanged or repeated notices return null so they are skipped
+     * without any write.
      *
      * @return Item processor
      */
     @Bean
     public ItemProcessor<SamGovOpportunityDto, Opportunity> opportunityProcessor() {
+        return createProcessor(opportunityDuplicateFilter());
+    }
+
+    private ItemProcessor<SamGovOpportunityDto, Opportunity> createProcessor(OpportunityDuplicateFilter duplicateFilter) {
         return dto -> {
             try {
-                // Check for duplicate by notice ID
-                String noticeId = dto.getNoticeId() != null ? dto.getNoticeId() : dto.getSolicitationNumber();
-                if (noticeId != null && opportunityRepository.existsByNoticeId(noticeId)) {
-                    logger.debug("Skipping duplicate opportunity: {}", noticeId);
+                String noticeId = OpportunityDuplicateFilter.noticeIdOf(dto);
+                String contentHash = OpportunityContentHasher.hash(dto);
+
+                OpportunityDuplicateFilter.Action action = noticeId != null
+                        ? duplicateFilter.resolve(noticeId, contentHash, dto)
+                        : OpportunityDuplicateFilter.Action.INSERT;
+
+                if (action == OpportunityDuplicateFilter.Action.SKIP) {
+                    logger.debug("Skipping unchanged or duplicate opportunity: {}", noticeId);
                     return null; // Skip this item
                 }
 
-                // Convert DTO to entity
-                Opportunity opportunity = convertToEntity(dto);
+                Opportunity opportunity = new Opportunity();
+                if (action == OpportunityDuplicateFilter.Action.UPDATE) {
+                    // Amended notice: update the stored entity in place
+                    logger.debug("Updating amended opportunity: {}", noticeId);
+                    opportunity = duplicateFilter.storedOpportunity(noticeId).orElse(opportunity);
+                }
+
+                applyToEntity(dto, opportunity);
+                opportunity.setContentHash(contentHash);
                 return opportunity;
 
             } catch (Exception e) {
@@ -190,14 +365,43 @@ public class SamGovImportJob {
     }
 
     /**
-     * Writer: Bulk insert opportunities to database.
+     * Writer: Bulk insert opportunities and their points of contact to database.
      *
-     * Uses OpportunityRepository.saveAll() for batch inserts.
+     * Uses OpportunityRepository.saveAll() for batch inserts, or PostgreSQL COPY into a
+     * staging table followed by one INSERT ... ON CONFLICT when writer-mode is copy. The
+     * chunk's points of contact are then inserted as one JDBC batch (OpportunityContactWriter)
+     * in the same chunk transaction. Finally an OpportunityChangedEvent is published per
+     * notice; listeners bound to the transaction only receive it once the chunk commits.
      *
      * @return Item writer
      */
     @Bean
     public ItemWriter<Opportunity> opportunityWriter() {
+        ItemWriter<Opportunity> opportunityWriter;
+        if ("copy".equalsIgnoreCase(writerMode)) {
+            logger.info("SAM.gov import using COPY writer");
+            opportunityWriter = new OpportunityCopyWriter(dataSource);
+        } else {
+            opportunityWriter = jpaOpportunityWriter();
+        }
+
+        OpportunityContactWriter contactWriter = new OpportunityContactWriter(dataSource);
+        return chunk -> {
+            // New notices have no ID until written
+            List<OpportunityChangedEvent> events = new ArrayList<>(chunk.size());
+            for (Opportunity opportunity : chunk) {
+                if (opportunity != null) {
+                    events.add(new OpportunityChangedEvent(
+                            opportunity.getNoticeId(), opportunity.getResponseDeadline(), opportunity.getId() == null));
+                }
+            }
+            opportunityWriter.write(chunk);
+            contactWriter.write(chunk);
+            events.forEach(eventPublisher::publishEvent);
+        };
+    }
+
+    private ItemWriter<Opportunity> jpaOpportunityWriter() {
         return chunk -> {
             // Filter out nulls (duplicates/errors from processor)
             List<Opportunity> opportunities = chunk.getItems().stream()
@@ -207,19 +411,19 @@ public class SamGovImportJob {
 
             if (!opportunities.isEmpty()) {
                 opportunityRepository.saveAll(opportunities);
+                // Flush so the contact writer's INSERT ... SELECT sees the new rows
+                opportunityRepository.flush();
                 logger.info("Saved {} opportunities to database", opportunities.size());
             }
         };
     }
 
     /**
-     * Convert SamGovOpportunityDto to Opportunity entity.
+     * Copy SamGovOpportunityDto fields onto a new or stored Opportunity entity.
      *
      * Handles lookups for related entities (Agency) and creates them if they don't exist.
      */
-    private Opportunity convertToEntity(SamGovOpportunityDto dto) {
-        Opportunity opportunity = new Opportunity();
-
+    private Opportunity applyToEntity(SamGovOpportunityDto dto, Opportunity opportunity) {
         // Required fields
         opportunity.setNoticeId(dto.getNoticeId() != null ? dto.getNoticeId() : dto.getSolicitationNumber());
         opportunity.setTitle(dto.getTitle());
@@ -231,10 +435,9 @@ public class SamGovImportJob {
         opportunity.setPostedDate(dto.getPostedDate());
 
         // Response deadline - DTO has LocalDate, entity expects Instant
-        if (dto.getResponseDeadline() != null) {
-            opportunity.setResponseDeadline(dto.getResponseDeadline().atStartOfDay()
-                    .atZone(java.time.ZoneId.of("UTC")).toInstant());
-        }
+        opportunity.setResponseDeadline(dto.getResponseDeadline() != null
+                ? dto.getResponseDeadline().atStartOfDay().atZone(java.time.ZoneId.of("UTC")).toInstant()
+                : null);
 
         // Place of performance
         if (dto.getPlaceOfPerformance() != null) {
@@ -245,18 +448,19 @@ public class SamGovImportJob {
                     pop.getCountry() != null ? pop.getCountry() : "US"
             );
             opportunity.setPlaceOfPerformanceZip(pop.getZip());
+        } else {
+            // Cleared on update when the amended notice has none
+            opportunity.setPlaceOfPerformanceCity(null);
+            opportunity.setPlaceOfPerformanceState(null);
+            opportunity.setPlaceOfPerformanceCountry(null);
+            opportunity.setPlaceOfPerformanceZip(null);
         }
 
-        // Related entities - Agency
-        if (dto.getDepartment() != null) {
-            Agency agency = findOrCreateAgency(dto.getDepartment(), dto.getSubTier());
-            opportunity.setAgency(agency);
-        }
+        // Related entities - Agency (cleared on update when the amended notice has none)
+        opportunity.setAgency(agencyResolver.resolve(dto.getDepartment(), dto.getSubTier()));
 
         // Office name
-        if (dto.getOffice() != null) {
-            opportunity.setOfficeName(dto.getOffice());
-        }
+        opportunity.setOfficeName(dto.getOffice());
 
         // Simple string fields
         opportunity.setNaicsCode(dto.getNaicsCode());
@@ -264,9 +468,7 @@ public class SamGovImportJob {
         opportunity.setClassificationCode(dto.getClassificationCode());
 
         // Archive metadata
-        if ("Yes".equalsIgnoreCase(dto.getArchive())) {
-            opportunity.setArchiveType("archived");
-        }
+        opportunity.setArchiveType("Yes".equalsIgnoreCase(dto.getArchive()) ? "archived" : null);
 
         // Links
         opportunity.setUiLink(dto.getUiLink());
@@ -275,43 +477,9 @@ public class SamGovImportJob {
         // Active status
         opportunity.setIsActive("Yes".equalsIgnoreCase(dto.getActive()));
 
-        return opportunity;
-    }
-
-    private Agency findOrCreateAgency(String departmentName, String subTier) {
-        // Try to find by name
-        List<Agency> matches = agencyRepository.findByNameContainingIgnoreCase(departmentName);
-
-        if (!matches.isEmpty()) {
-            return matches.get(0);
-        }
-
-        // Create new agency
-        Agency agency = new Agency();
-        agency.setName(departmentName);
-        agency.setAbbreviation(generateAbbreviation(departmentName));
-        agency.setDepartment(departmentName);
-        agency.setTier(subTier);
-        agency.setIsActive(true);
-
-        return agencyRepository.save(agency);
-    }
+        // Points of contact, written to contacts by OpportunityContactWriter
+        opportunity.setImportedContacts(List.copyOf(PointOfContactMapper.toContacts(dto.getPointOfContact()).values()));
 
-    private String generateAbbreviation(String name) {
-        if (name == null || name.isEmpty()) {
-            return "";
-        }
-
-        String[] words = name.split("\\s+");
-        StringBuilder abbrev = new StringBuilder();
-
-        for (String word : words) {
-            if (!word.isEmpty()) {
-                abbrev.append(word.charAt(0));
-            }
-        }
-
-        String result = abbrev.toString().toUpperCase();
-        return result.length() > 10 ? result.substring(0, 10) : result;
+        return opportunity;
     }
 }
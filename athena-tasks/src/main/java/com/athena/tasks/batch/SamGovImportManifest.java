@@ -0,0 +1,178 @@
+package com.athena.tasks.batch;
+
+import com.athena.core.entity.ImportManifestEntry;
+import com.athena.core.entity.SyncLog;
+import com.athena.core.repository.ImportManifestEntryRepository;
+import com.athena.core.repository.SyncLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Persisted manifest of SAM.gov files already imported (import_manifest table).
+ *
+ * Incremental runs only parse new or modified files:
+ * - A file whose size and modification time match its manifest entry is skipped
+ * - If size or modification time changed, the SHA-256 checksum decides; a file that was
+ *   only touched is skipped and its entry refreshed
+ * - A file is recorded only after all of its records were read, in the transaction of the
+ *   chunk that consumed its last record, so a failed run re-imports unfinished files
+ *
+ * Entries reference the SyncLog of the run that imported them (see
+ * SamGovImportSyncLogListener), which makes the manifest queryable through the SyncLog API.
+ */
+public class SamGovImportManifest {
+
+    private static final Logger logger = LoggerFactory.getLogger(SamGovImportManifest.class);
+
+    public static final String SOURCE = "SAM_GOV";
+
+    private final ImportManifestEntryRepository manifestRepository;
+    private final SyncLogRepository syncLogRepository;
+    private final boolean incremental;
+
+    public SamGovImportManifest(
+            ImportManifestEntryRepository manifestRepository,
+            SyncLogRepository syncLogRepository,
+            boolean incremental) {
+        this.manifestRepository = manifestRepository;
+        this.syncLogRepository = syncLogRepository;
+        this.incremental = incremental;
+    }
+
+    /**
+     * Select the files that still need to be imported.
+     *
+     * @param files all candidate files, in import order
+     * @return the new or modified files, in the same order (all files if not incremental)
+     */
+    public List<Path> selectFilesToImport(List<Path> files) {
+        if (!incremental) {
+            return files;
+        }
+
+        Map<String, ImportManifestEntry> entries = manifestRepository.findBySourceOrderByFilePathAsc(SOURCE)
+                .stream()
+                .collect(Collectors.toMap(ImportManifestEntry::getFilePath, Function.identity()));
+
+        List<Path> selected = new ArrayList<>();
+        for (Path file : files) {
+            ImportManifestEntry entry = entries.get(keyOf(file));
+            if (entry == null || isModified(file, entry)) {
+                selected.add(file);
+            }
+        }
+
+        logger.info("Import manifest: {} of {} SAM.gov files are new or modified", selected.size(), files.size());
+        return selected;
+    }
+
+    /**
+     * Record a file whose records have all been read. Called from the reader's update, i.e.
+     * inside the chunk transaction, so the entry commits together with the imported records.
+     *
+     * @param file the imported file
+     * @param recordsImported number of records read from the file
+     */
+    public void recordImported(Path file, int recordsImported) {
+        String key = keyOf(file);
+        ImportManifestEntry entry = manifestRepository.findBySourceAndFilePath(SOURCE, key)
+                .orElseGet(() -> new ImportManifestEntry(SOURCE, key));
+
+        entry.setFileSize(sizeOf(file));
+        entry.setLastModified(lastModifiedOf(file));
+        entry.setChecksum(checksumOf(file));
+        entry.setRecordsImported(recordsImported);
+        entry.setLastImportedAt(Instant.now());
+        entry.setSyncLog(currentSyncLog());
+
+        manifestRepository.save(entry);
+        logger.debug("Recorded {} in import manifest ({} records)", key, recordsImported);
+    }
+
+    private boolean isModified(Path file, ImportManifestEntry entry) {
+        long size = sizeOf(file);
+        Instant lastModified = lastModifiedOf(file);
+        if (entry.getFileSize() == size && lastModified.equals(entry.getLastModified())) {
+            return false;
+        }
+        if (size != entry.getFileSize() || !checksumOf(file).equals(entry.getChecksum())) {
+            return true;
+        }
+
+        // Touched but identical content: refresh the entry so the checksum is not recomputed next run
+        entry.setLastModified(lastModified);
+        manifestRepository.save(entry);
+        return false;
+    }
+
+    /**
+     * Resolve the SyncLog of the running import from the job ExecutionContext.
+     */
+    private SyncLog currentSyncLog() {
+        StepContext context = StepSynchronizationManager.getContext();
+        if (context == null) {
+            return null;
+        }
+        String syncLogId = context.getStepExecution().getJobExecution().getExecutionContext()
+                .getString(SamGovImportSyncLogListener.SYNC_LOG_ID_KEY, null);
+        return syncLogId != null ? syncLogRepository.getReferenceById(UUID.fromString(syncLogId)) : null;
+    }
+
+    static String keyOf(Path file) {
+        return file.toAbsolutePath().normalize().toString();
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read size of " + file, e);
+        }
+    }
+
+    /**
+     * Modification time truncated to microseconds, the precision stored by PostgreSQL.
+     */
+    private static Instant lastModifiedOf(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().truncatedTo(ChronoUnit.MICROS);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read modification time of " + file, e);
+        }
+    }
+
+    static String checksumOf(Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to checksum " + file, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
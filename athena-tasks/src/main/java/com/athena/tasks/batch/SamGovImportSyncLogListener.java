@@ -0,0 +1,88 @@
+package com.athena.tasks.batch;
+
+import com.athena.core.entity.SyncLog;
+import com.athena.core.repository.SyncLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Records each SAM.gov import run as a SyncLog (sync type SAM_GOV_IMPORT).
+ *
+ * - beforeJob: creates a RUNNING SyncLog and stores its ID in the job ExecutionContext,
+ *   where SamGovImportManifest picks it up for the files it records
+ * - afterJob: sets SUCCESS or FAILED, the number of records written (recordsProcessed)
+ *   and skipped (errorCount), and the failure messages if any
+ *
+ * Partition manager steps are excluded from the totals so worker counts are not doubled.
+ */
+public class SamGovImportSyncLogListener implements JobExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SamGovImportSyncLogListener.class);
+
+    public static final String SYNC_TYPE = "SAM_GOV_IMPORT";
+    public static final String SYNC_LOG_ID_KEY = "syncLogId";
+
+    private final SyncLogRepository syncLogRepository;
+
+    public SamGovImportSyncLogListener(SyncLogRepository syncLogRepository) {
+        this.syncLogRepository = syncLogRepository;
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        SyncLog syncLog = new SyncLog(SYNC_TYPE, "RUNNING");
+        syncLog.setStartedAt(Instant.now());
+        syncLog = syncLogRepository.save(syncLog);
+
+        jobExecution.getExecutionContext().putString(SYNC_LOG_ID_KEY, syncLog.getId().toString());
+        logger.info("Started SAM.gov import, sync log {}", syncLog.getId());
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        String syncLogId = jobExecution.getExecutionContext().getString(SYNC_LOG_ID_KEY, null);
+        if (syncLogId == null) {
+            return;
+        }
+
+        syncLogRepository.findById(UUID.fromString(syncLogId)).ifPresent(syncLog -> {
+            // Worker steps of a partitioned run are named "<step>:<partition>"
+            boolean partitioned = jobExecution.getStepExecutions().stream()
+                    .anyMatch(stepExecution -> stepExecution.getStepName().contains(":"));
+
+            long written = 0;
+            long skipped = 0;
+            for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+                if (partitioned && !stepExecution.getStepName().contains(":")) {
+                    continue; // partition manager step aggregates its workers' counts
+                }
+                written += stepExecution.getWriteCount();
+                skipped += stepExecution.getSkipCount();
+            }
+
+            boolean success = jobExecution.getStatus() == BatchStatus.COMPLETED;
+            syncLog.setStatus(success ? "SUCCESS" : "FAILED");
+            syncLog.setCompletedAt(Instant.now());
+            syncLog.setRecordsProcessed((int) written);
+            syncLog.setErrorCount((int) skipped);
+            if (!jobExecution.getAllFailureExceptions().isEmpty()) {
+                StringBuilder errors = new StringBuilder();
+                for (Throwable failure : jobExecution.getAllFailureExceptions()) {
+                    errors.append("Error: ").append(failure.getMessage()).append('\n');
+                }
+                syncLog.setErrorLog(errors.toString());
+            }
+            syncLogRepository.save(syncLog);
+
+            logger.info("SAM.gov import finished with status {}: {} written, {} skipped",
+                    jobExecution.getStatus(), written, skipped);
+        });
+    }
+}
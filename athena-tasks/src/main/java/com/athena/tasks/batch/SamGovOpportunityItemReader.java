@@ -0,0 +1,281 @@
+package com.athena.tasks.batch;
+
+import com.athena.core.dto.SamGovOpportunityDto;
+import com.athena.core.loader.SamGovInputFiles;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.ParseException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Restartable streaming reader for SAM.gov opportunity JSON files.
+ *
+ * Walks every SAM.gov extract under the data directory (or an explicit file list assigned
+ * by SamGovFilePartitioner) in path order and streams each top-level array element
+ * through a Jackson JsonParser, so only one DTO is held in memory at a time regardless
+ * of file size or file count.
+ *
+ * Plain *.json files and compressed extracts (*.json.gz, *.json.zst, *.zip) are read
+ * through SamGovInputFiles: archives are decompressed while parsing and large plain files
+ * are memory-mapped, so nothing is expanded to disk first.
+ *
+ * Restart:
+ * - The current file path and the number of records consumed from it are saved in the
+ *   step ExecutionContext after every chunk
+ * - On restart the reader reopens that file and skips the records already consumed
+ *
+ * Import manifest (optional):
+ * - Files already recorded in the SamGovImportManifest and unchanged since are not read
+ * - A file is recorded once all of its records have been read, from update() so the entry
+ *   commits with the chunk that consumed the file's last record
+ *
+ * Error handling:
+ * - A record that cannot be mapped to SamGovOpportunityDto raises a ParseException
+ *   (skippable, counted as a read skip); the reader continues with the next record
+ * - A file that is not a JSON array or is truncated is logged and the reader moves on
+ *   to the next file
+ */
+public class SamGovOpportunityItemReader extends ItemStreamSupport implements ItemStreamReader<SamGovOpportunityDto> {
+
+    private static final Logger logger = LoggerFactory.getLogger(SamGovOpportunityItemReader.class);
+
+    private static final String FILE_INDEX_KEY = "file.index";
+    private static final String FILE_PATH_KEY = "file.path";
+    private static final String RECORD_INDEX_KEY = "record.index";
+
+    private final Path dataDirectory;
+    private final List<Path> assignedFiles;
+    private final ObjectMapper objectMapper;
+    private final SamGovImportManifest manifest;
+
+    private List<Path> files = List.of();
+    private int fileIndex;
+    private int recordIndex;
+    private JsonParser parser;
+    private final Map<Path, Integer> completedFiles = new LinkedHashMap<>();
+
+    public SamGovOpportunityItemReader(Path dataDirectory, ObjectMapper objectMapper) {
+        this(dataDirectory, null, objectMapper, null);
+    }
+
+    /**
+     * Create a reader over the data directory that skips files recorded in the manifest.
+     *
+     * @param dataDirectory directory scanned for *.json files
+     * @param objectMapper mapper used to parse records
+     * @param manifest import manifest used to select and record files
+     */
+    public SamGovOpportunityItemReader(Path dataDirectory, ObjectMapper objectMapper, SamGovImportManifest manifest) {
+        this(dataDirectory, null, objectMapper, manifest);
+    }
+
+    /**
+     * Create a reader over an explicit list of files (one partition of a parallel import).
+     *
+     * @param files the JSON files to read, in the order given
+     * @param objectMapper mapper used to parse records
+     * @param manifest import manifest used to record completed files, or null
+     */
+    public SamGovOpportunityItemReader(List<Path> files, ObjectMapper objectMapper, SamGovImportManifest manifest) {
+        this(null, List.copyOf(files), objectMapper, manifest);
+    }
+
+    private SamGovOpportunityItemReader(
+            Path dataDirectory, List<Path> assignedFiles, ObjectMapper objectMapper, SamGovImportManifest manifest) {
+        this.dataDirectory = dataDirectory;
+        this.assignedFiles = assignedFiles;
+        this.objectMapper = objectMapper;
+        this.manifest = manifest;
+        setName("samGovOpportunityItemReader");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        if (assignedFiles != null) {
+            files = assignedFiles;
+        } else {
+            files = listJsonFiles(dataDirectory);
+            if (manifest != null) {
+                files = manifest.selectFilesToImport(files);
+            }
+        }
+        completedFiles.clear();
+        fileIndex = 0;
+        recordIndex = 0;
+
+        if (executionContext.containsKey(getExecutionContextKey(FILE_INDEX_KEY))) {
+            fileIndex = resolveRestartFileIndex(executionContext);
+            recordIndex = executionContext.getInt(getExecutionContextKey(RECORD_INDEX_KEY), 0);
+            logger.info("Restarting SAM.gov import at file {} of {}, record {}",
+                    fileIndex + 1, files.size(), recordIndex);
+        }
+
+        if (fileIndex < files.size() && recordIndex > 0) {
+            openCurrentFile(recordIndex);
+        }
+    }
+
+    @Override
+    public SamGovOpportunityDto read() {
+        while (fileIndex < files.size()) {
+            Path file = files.get(fileIndex);
+
+            if (parser == null && !openCurrentFile(0)) {
+                nextFile();
+                continue;
+            }
+
+            JsonNode node;
+            try {
+                JsonToken token = parser.nextToken();
+                if (token == null || token == JsonToken.END_ARRAY) {
+                    logger.info("Loaded {} opportunities from {}", recordIndex, file.getFileName());
+                    completedFiles.put(file, recordIndex);
+                    nextFile();
+                    continue;
+                }
+                node = objectMapper.readTree(parser);
+            } catch (IOException e) {
+                logger.error("Failed to parse JSON file: {} (after {} records)", file, recordIndex, e);
+                nextFile();
+                continue;
+            }
+
+            recordIndex++;
+            if (!node.isObject()) {
+                throw new ParseException("Invalid opportunity record " + recordIndex + " in "
+                        + file.getFileName() + ": expected a JSON object but found " + node.getNodeType());
+            }
+            try {
+                return objectMapper.treeToValue(node, SamGovOpportunityDto.class);
+            } catch (IOException e) {
+                throw new ParseException(
+                        "Invalid opportunity record " + recordIndex + " in " + file.getFileName() + ": " + e.getMessage(), e);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (manifest != null) {
+            completedFiles.forEach(manifest::recordImported);
+        }
+        completedFiles.clear();
+
+        executionContext.putInt(getExecutionContextKey(FILE_INDEX_KEY), fileIndex);
+        executionContext.putInt(getExecutionContextKey(RECORD_INDEX_KEY), recordIndex);
+        if (fileIndex < files.size()) {
+            executionContext.putString(getExecutionContextKey(FILE_PATH_KEY), files.get(fileIndex).toString());
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        closeParser();
+        files = List.of();
+    }
+
+    /**
+     * Find all SAM.gov extracts (plain or compressed JSON) under the data directory, sorted so that file indexes are
+     * stable between a failed run and its restart.
+     */
+    static List<Path> listJsonFiles(Path dataDirectory) {
+        if (!Files.exists(dataDirectory)) {
+            logger.warn("Data directory does not exist: {}", dataDirectory);
+            return List.of();
+        }
+
+        try (Stream<Path> paths = Files.walk(dataDirectory)) {
+            List<Path> jsonFiles = paths
+                    .filter(Files::isRegularFile)
+                    .filter(SamGovInputFiles::isSupported)
+                    .sorted()
+                    .toList();
+
+            logger.info("Found {} JSON files in {}", jsonFiles.size(), dataDirectory);
+            return jsonFiles;
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to scan data directory: " + dataDirectory, e);
+        }
+    }
+
+    /**
+     * Locate the checkpointed file in the current listing. Prefers the saved path so a
+     * file added to the directory between runs does not shift the restart position.
+     */
+    private int resolveRestartFileIndex(ExecutionContext executionContext) {
+        String savedPath = executionContext.getString(getExecutionContextKey(FILE_PATH_KEY), null);
+        if (savedPath != null) {
+            int index = files.indexOf(Path.of(savedPath));
+            if (index >= 0) {
+                return index;
+            }
+            logger.warn("Checkpointed file {} no longer exists, restarting from saved index", savedPath);
+        }
+        return executionContext.getInt(getExecutionContextKey(FILE_INDEX_KEY));
+    }
+
+    /**
+     * Open the current file and position the parser after {@code skipRecords} array elements.
+     *
+     * @return true if the file is a JSON array and is ready to read
+     */
+    private boolean openCurrentFile(int skipRecords) {
+        Path file = files.get(fileIndex);
+        try {
+            parser = objectMapper.getFactory().createParser(SamGovInputFiles.open(file));
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                logger.error("Failed to parse JSON file: {} (expected a JSON array)", file);
+                closeParser();
+                return false;
+            }
+
+            for (int i = 0; i < skipRecords; i++) {
+                JsonToken token = parser.nextToken();
+                if (token == null || token == JsonToken.END_ARRAY) {
+                    break;
+                }
+                parser.skipChildren();
+            }
+            recordIndex = skipRecords;
+            return true;
+        } catch (IOException e) {
+            logger.error("Failed to open JSON file: {}", file, e);
+            closeParser();
+            return false;
+        }
+    }
+
+    private void nextFile() {
+        closeParser();
+        fileIndex++;
+        recordIndex = 0;
+    }
+
+    private void closeParser() {
+        if (parser != null) {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close JSON parser", e);
+            }
+            parser = null;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.athena.tasks.batch;
+
+import com.athena.core.client.AnthropicClaudeClient;
+import com.athena.core.entity.OpportunityScore;
+import com.athena.core.entity.ScoringBatch;
+import com.athena.core.repository.OpportunityScoreRepository;
+import com.athena.core.repository.ScoringBatchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Collects the results of message batches submitted by ScoringBatchSubmitWriter.
+ *
+ * For each IN_PROGRESS ScoringBatch, asks the API for its status. Once a batch has ended,
+ * its results are downloaded and written in one transaction:
+ * - Succeeded results become AI and dimension OpportunityScore rows (same values as
+ *   interactive scoring), unless the opportunity was scored in the meantime
+ * - Errored, canceled and expired results are counted; those opportunities are picked up
+ *   again by the next scoring run, since their batch no longer holds them
+ * - The batch is marked COMPLETED with its counts
+ *
+ * A batch whose results cannot be downloaded stays IN_PROGRESS and is retried on the next poll.
+ */
+@Component
+public class ScoringBatchCollector {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoringBatchCollector.class);
+
+    private final ScoringBatchRepository scoringBatchRepository;
+    private final OpportunityScoreRepository scoreRepository;
+    private final AnthropicClaudeClient claudeClient;
+    private final TransactionTemplate transactionTemplate;
+
+    public ScoringBatchCollector(
+            ScoringBatchRepository scoringBatchRepository,
+            OpportunityScoreRepository scoreRepository,
+            AnthropicClaudeClient claudeClient,
+            PlatformTransactionManager transactionManager) {
+        this.scoringBatchRepository = scoringBatchRepository;
+        this.scoreRepository = scoreRepository;
+        this.claudeClient = claudeClient;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Poll all in-progress batches and write the results of those that have ended.
+     *
+     * @return Number of batches completed by this poll
+     */
+    public int collectEndedBatches() {
+        List<ScoringBatch> batches = scoringBatchRepository.findByStatusOrderBySubmittedAtAsc(ScoringBatch.STATUS_IN_PROGRESS);
+        if (batches.isEmpty()) {
+            return 0;
+        }
+
+        int completed = 0;
+        for (ScoringBatch batch : batches) {
+            try {
+                if (collect(batch)) {
+                    completed++;
+                }
+            } catch (Exception e) {
+                logger.error("Failed to collect message batch {}", batch.getProviderBatchId(), e);
+            }
+        }
+        logger.info("Polled {} scoring batches, {} completed", batches.size(), completed);
+        return completed;
+    }
+
+    /**
+     * Collect one batch if it has ended.
+     *
+     * @return true if the batch has ended and its results were written
+     */
+    boolean collect(ScoringBatch batch) {
+        AnthropicClaudeClient.MessageBatch status = claudeClient.getMessageBatch(batch.getProviderBatchId());
+        if (!status.isEnded()) {
+            logger.debug("Message batch {} still {}", batch.getProviderBatchId(), status.getProcessingStatus());
+            return false;
+        }
+
+        List<AnthropicClaudeClient.BatchResult> results = claudeClient.getMessageBatchResults(status);
+        transactionTemplate.executeWithoutResult(transaction -> writeResults(batch, status, results));
+        return true;
+    }
+
+    private void writeResults(
+            ScoringBatch batch,
+            AnthropicClaudeClient.MessageBatch status,
+            List<AnthropicClaudeClient.BatchResult> results) {
+        Map<UUID, AnthropicClaudeClient.OpportunityScoreResult> scored = new LinkedHashMap<>();
+        int errored = 0;
+
+        for (AnthropicClaudeClient.BatchResult result : results) {
+            UUID opportunityId = parseOpportunityId(result.getCustomId());
+            if (opportunityId == null || !result.isSucceeded()) {
+                errored++;
+                continue;
+            }
+            try {
+                scored.put(opportunityId, claudeClient.parseBatchScore(result));
+            } catch (AnthropicClaudeClient.ClaudeApiException e) {
+                logger.warn("Unusable result for opportunity {} in batch {}: {}",
+                        opportunityId, batch.getProviderBatchId(), e.getMessage());
+                errored++;
+            }
+        }
+
+        Set<UUID> alreadyScored = scored.isEmpty() ? Set.of()
+                : new HashSet<>(scoreRepository.findScoredOpportunityIds(batch.getScoreType(), scored.keySet()));
+        List<OpportunityScore> scores = new ArrayList<>(scored.size());
+        int written = 0;
+        for (Map.Entry<UUID, AnthropicClaudeClient.OpportunityScoreResult> entry : scored.entrySet()) {
+            if (!alreadyScored.contains(entry.getKey())) {
+                scores.addAll(OpportunityScoringJob.createScores(entry.getKey(), batch.getScoreType(), entry.getValue()));
+                written++;
+            }
+        }
+        scoreRepository.saveAll(scores);
+
+        batch.setSucceededCount(scored.size());
+        batch.setErroredCount(errored);
+        batch.setEndedAt(parseInstant(status.getEndedAt()));
+        batch.setCompletedAt(Instant.now());
+        batch.setStatus(ScoringBatch.STATUS_COMPLETED);
+        scoringBatchRepository.save(batch);
+
+        logger.info("Message batch {} completed: {} opportunities scored ({} scores saved), {} already scored, {} errored",
+                batch.getProviderBatchId(), written, scores.size(), scored.size() - written, errored);
+    }
+
+    private static UUID parseOpportunityId(String customId) {
+        try {
+            return customId != null ? UUID.fromString(customId) : null;
+        } catch (IllegalArgumentException e) {
+            logger.warn("Ignoring batch result with unexpected custom_id: {}", customId);
+            return null;
+        }
+    }
+
+    private static Instant parseInstant(String timestamp) {
+        try {
+            return timestamp != null ? Instant.parse(timestamp) : Instant.now();
+        } catch (DateTimeParseException e) {
+            return Instant.now();
+        }
+    }
+}
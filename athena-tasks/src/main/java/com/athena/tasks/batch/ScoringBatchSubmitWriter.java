@@ -0,0 +1,105 @@
+package com.athena.tasks.batch;
+
+import com.athena.core.client.AnthropicClaudeClient;
+import com.athena.core.entity.Opportunity;
+import com.athena.core.entity.ScoringBatch;
+import com.athena.core.repository.ScoringBatchRepository;
+import com.athena.core.scoring.DescriptionPreprocessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Submits each chunk of unscored opportunities as one Claude message batch.
+ *
+ * Used by the scoring job in batch mode (athena.scoring.mode=batch). Every opportunity
+ * becomes a scoring request whose custom_id is the opportunity ID. The provider's batch ID
+ * and the submitted opportunity IDs are saved as a ScoringBatch, which:
+ * - keeps those opportunities out of later runs until the batch completes
+ * - is polled by ScoringBatchCollector, which writes the scores once the batch has ended
+ *
+ * The ScoringBatch is saved in its own transaction as soon as the provider accepts the
+ * batch, so a later rollback of the chunk cannot leave a running (and billed) batch that
+ * nothing tracks. If even that save fails, the provider batch ID is logged at ERROR.
+ *
+ * Descriptions are cleaned up by the DescriptionPreprocessor and opportunities without a
+ * title are left out, as in interactive scoring.
+ */
+public class ScoringBatchSubmitWriter implements ItemWriter<Opportunity> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoringBatchSubmitWriter.class);
+
+    private final AnthropicClaudeClient claudeClient;
+    private final ScoringBatchRepository scoringBatchRepository;
+    private final DescriptionPreprocessor descriptionPreprocessor;
+    private final String scoreType;
+    private final String companyCapabilities;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public ScoringBatchSubmitWriter(
+            AnthropicClaudeClient claudeClient,
+            ScoringBatchRepository scoringBatchRepository,
+            DescriptionPreprocessor descriptionPreprocessor,
+            String scoreType,
+            String companyCapabilities,
+            PlatformTransactionManager transactionManager) {
+        this.claudeClient = claudeClient;
+        this.scoringBatchRepository = scoringBatchRepository;
+        this.descriptionPreprocessor = descriptionPreprocessor;
+        this.scoreType = scoreType;
+        this.companyCapabilities = companyCapabilities;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void write(Chunk<? extends Opportunity> chunk) {
+        List<AnthropicClaudeClient.BatchRequest> requests = new ArrayList<>(chunk.size());
+        Set<UUID> opportunityIds = new LinkedHashSet<>();
+
+        for (Opportunity opportunity : chunk) {
+            if (opportunity.getTitle() == null || opportunity.getTitle().isEmpty()) {
+                logger.warn("Opportunity missing title, skipping: {}", opportunity.getNoticeId());
+                continue;
+            }
+            if (!opportunityIds.add(opportunity.getId())) {
+                continue;
+            }
+
+            String description = descriptionPreprocessor.prepare(opportunity.getDescription()).text();
+            if (description.isEmpty()) {
+                description = "No description available";
+            }
+            requests.add(claudeClient.scoringBatchRequest(
+                    opportunity.getId().toString(),
+                    opportunity.getTitle(),
+                    description,
+                    companyCapabilities));
+        }
+
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        AnthropicClaudeClient.MessageBatch batch = claudeClient.createMessageBatch(requests);
+        try {
+            requiresNewTransaction.executeWithoutResult(status ->
+                    scoringBatchRepository.save(new ScoringBatch(batch.getId(), scoreType, opportunityIds)));
+        } catch (RuntimeException e) {
+            logger.error("Message batch {} was submitted but could not be recorded; it is not tracked and its {} "
+                    + "opportunities will be submitted again: {}", batch.getId(), requests.size(), e.getMessage());
+            throw e;
+        }
+        logger.info("Submitted message batch {} with {} opportunities", batch.getId(), requests.size());
+    }
+}
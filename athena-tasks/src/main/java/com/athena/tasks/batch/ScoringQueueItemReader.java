@@ -0,0 +1,107 @@
+package com.athena.tasks.batch;
+
+import com.athena.core.entity.Opportunity;
+import com.athena.core.entity.ScoringQueueEntry;
+import com.athena.core.repository.OpportunityRepository;
+import com.athena.core.repository.ScoringQueueRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keyset-paged reader for the scoring queue, highest priority first.
+ *
+ * Pages through ScoringQueueRepository.findUnscoredPage (priority DESC, opportunity ID DESC)
+ * and loads each page's opportunities with one findAllById. Entries whose opportunity was
+ * scored meanwhile (e.g. by OpportunityEventScoringWorker) are not returned. An entry whose
+ * opportunity was deleted between the two queries is dropped and the page is topped up from
+ * the queue, so only the end of the queue returns a short page (which KeysetItemReader takes
+ * as end of input). Paging and restart are handled by KeysetItemReader; priorities are fixed
+ * for the run, since they are only recomputed by the prioritization step before it.
+ */
+public class ScoringQueueItemReader extends KeysetItemReader<Opportunity, BigDecimal> {
+
+    // Above every priority (0-100)
+    private static final BigDecimal FIRST_PRIORITY = BigDecimal.valueOf(1000);
+
+    private final ScoringQueueRepository scoringQueueRepository;
+    private final OpportunityRepository opportunityRepository;
+    private final String scoreType;
+
+    // Priorities of the current page, the sort keys of its opportunities
+    private final Map<UUID, BigDecimal> priorities = new HashMap<>();
+
+    public ScoringQueueItemReader(ScoringQueueRepository scoringQueueRepository,
+            OpportunityRepository opportunityRepository, String scoreType, int pageSize) {
+        super("scoringQueueReader", pageSize);
+        this.scoringQueueRepository = scoringQueueRepository;
+        this.opportunityRepository = opportunityRepository;
+        this.scoreType = scoreType;
+    }
+
+    @Override
+    protected List<Opportunity> fetchPage(BigDecimal afterPriority, UUID afterId, int limit) {
+        priorities.clear();
+        List<Opportunity> page = new ArrayList<>(limit);
+        BigDecimal priority = afterPriority;
+        UUID id = afterId;
+
+        while (page.size() < limit) {
+            int wanted = limit - page.size();
+            List<ScoringQueueEntry> entries = scoringQueueRepository.findUnscoredPage(scoreType, priority, id, wanted);
+            if (entries.isEmpty()) {
+                break;
+            }
+            entries.forEach(entry -> priorities.put(entry.getOpportunityId(), entry.getPriority()));
+
+            Map<UUID, Opportunity> opportunities = opportunityRepository.findAllById(
+                            entries.stream().map(ScoringQueueEntry::getOpportunityId).toList()).stream()
+                    .collect(Collectors.toMap(Opportunity::getId, Function.identity()));
+            entries.stream()
+                    .map(entry -> opportunities.get(entry.getOpportunityId()))
+                    .filter(Objects::nonNull)
+                    .forEach(page::add);
+
+            if (entries.size() < wanted) {
+                break;
+            }
+            // Seek past the last entry, even if its opportunity was dropped
+            ScoringQueueEntry last = entries.get(entries.size() - 1);
+            priority = last.getPriority();
+            id = last.getOpportunityId();
+        }
+        return page;
+    }
+
+    @Override
+    protected BigDecimal sortKeyOf(Opportunity opportunity) {
+        return priorities.get(opportunity.getId());
+    }
+
+    @Override
+    protected UUID idOf(Opportunity opportunity) {
+        return opportunity.getId();
+    }
+
+    @Override
+    protected BigDecimal firstSortKey() {
+        return FIRST_PRIORITY;
+    }
+
+    @Override
+    protected UUID firstId() {
+        return MAX_ID;
+    }
+
+    @Override
+    protected BigDecimal parseSortKey(String value) {
+        return new BigDecimal(value);
+    }
+}
@@ -0,0 +1,82 @@
+package com.athena.tasks.batch;
+
+import com.athena.core.entity.Opportunity;
+import com.athena.core.repository.OpportunityRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keyset-paged reader for active opportunities that have no score of a given type.
+ *
+ * Pages through OpportunityRepository.findUnscoredPage, a NOT EXISTS anti-join against
+ * opportunity_scores ordered by (posted date DESC, id DESC), so only the scoring backlog
+ * is read and each page costs the same deep into the backlog. Paging and restart are
+ * handled by KeysetItemReader.
+ *
+ * With a gate (two-stage scoring), only opportunities whose gate score (e.g. HEURISTIC) is
+ * at least the minimum are read (findUnscoredPageWithMinimumScore).
+ */
+public class UnscoredOpportunityItemReader extends KeysetItemReader<Opportunity, LocalDate> {
+
+    /**
+     * Sort key used for opportunities without a posted date (matches the COALESCE in the query).
+     */
+    static final LocalDate NULL_POSTED_DATE = LocalDate.of(1, 1, 1);
+
+    private static final LocalDate FIRST_POSTED_DATE = LocalDate.of(9999, 12, 31);
+
+    private final OpportunityRepository opportunityRepository;
+    private final String scoreType;
+    private final String gateScoreType;
+    private final BigDecimal minGateScore;
+
+    public UnscoredOpportunityItemReader(OpportunityRepository opportunityRepository, String scoreType, int pageSize) {
+        this(opportunityRepository, scoreType, null, null, pageSize);
+    }
+
+    public UnscoredOpportunityItemReader(OpportunityRepository opportunityRepository, String scoreType,
+            String gateScoreType, BigDecimal minGateScore, int pageSize) {
+        super("unscoredOpportunityReader", pageSize);
+        this.opportunityRepository = opportunityRepository;
+        this.scoreType = scoreType;
+        this.gateScoreType = gateScoreType;
+        this.minGateScore = minGateScore;
+    }
+
+    @Override
+    protected List<Opportunity> fetchPage(LocalDate afterPostedDate, UUID afterId, int limit) {
+        if (gateScoreType != null) {
+            return opportunityRepository.findUnscoredPageWithMinimumScore(
+                    scoreType, gateScoreType, minGateScore, afterPostedDate, afterId, limit);
+        }
+        return opportunityRepository.findUnscoredPage(scoreType, afterPostedDate, afterId, limit);
+    }
+
+    @Override
+    protected LocalDate sortKeyOf(Opportunity opportunity) {
+        return opportunity.getPostedDate() != null ? opportunity.getPostedDate() : NULL_POSTED_DATE;
+    }
+
+    @Override
+    protected UUID idOf(Opportunity opportunity) {
+        return opportunity.getId();
+    }
+
+    @Override
+    protected LocalDate firstSortKey() {
+        return FIRST_POSTED_DATE;
+    }
+
+    @Override
+    protected UUID firstId() {
+        return MAX_ID;
+    }
+
+    @Override
+    protected LocalDate parseSortKey(String value) {
+        return LocalDate.parse(value);
+    }
+}
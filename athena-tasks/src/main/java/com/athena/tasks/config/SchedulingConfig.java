@@ -19,6 +19,7 @@ import java.util.concurrent.Executor;
  * Scheduled tasks:
  * - High-score alert job (8 AM weekdays)
  * - Weekly digest job (9 AM Mondays)
+ * - Scoring batch poll (every 5 minutes)
  */
 @Configuration
 @EnableScheduling
@@ -0,0 +1,58 @@
+package com.athena.tasks.scheduled;
+
+import com.athena.tasks.batch.ScoringBatchCollector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled poll of message batches submitted by the scoring job in batch mode.
+ *
+ * Schedule: Every 5 minutes (fixed delay, so polls never overlap)
+ *
+ * Logic:
+ * 1. Find IN_PROGRESS scoring batches
+ * 2. Ask the Message Batches API whether each has ended
+ * 3. Write the scores of ended batches (ScoringBatchCollector)
+ *
+ * Runs whatever the current scoring mode, so batches submitted before a switch back to
+ * interactive scoring are still collected.
+ *
+ * Configuration:
+ * - athena.scoring.batch.poll-interval-ms: Delay between polls (default: 300000)
+ * - athena.scoring.batch.poll-enabled: Enable polling (default: true)
+ */
+@Component
+public class ScoringBatchPollScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoringBatchPollScheduler.class);
+
+    private final ScoringBatchCollector collector;
+
+    @Value("${athena.scoring.batch.poll-enabled:true}")
+    private boolean pollEnabled;
+
+    public ScoringBatchPollScheduler(ScoringBatchCollector collector) {
+        this.collector = collector;
+    }
+
+    /**
+     * Poll in-progress scoring batches and collect those that have ended.
+     */
+    @Scheduled(
+            fixedDelayString = "${athena.scoring.batch.poll-interval-ms:300000}",
+            initialDelayString = "${athena.scoring.batch.poll-interval-ms:300000}")
+    public void pollScoringBatches() {
+        if (!pollEnabled) {
+            return;
+        }
+
+        try {
+            collector.collectEndedBatches();
+        } catch (Exception e) {
+            logger.error("Scoring batch poll failed", e);
+        }
+    }
+}
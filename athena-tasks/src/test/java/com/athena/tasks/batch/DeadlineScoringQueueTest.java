@@ -0,0 +1,69 @@
+package com.athena.tasks.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for DeadlineScoringQueue.
+ */
+class DeadlineScoringQueueTest {
+
+    private static final Instant NOW = Instant.now();
+
+    @Test
+    void shouldReturnClosestDeadlineFirstAndNoDeadlineLast() throws Exception {
+        DeadlineScoringQueue queue = new DeadlineScoringQueue(10);
+        queue.offer(event("NO-DEADLINE", null));
+        queue.offer(event("LATER", NOW.plus(30, ChronoUnit.DAYS)));
+        queue.offer(event("SOON", NOW.plus(2, ChronoUnit.DAYS)));
+        queue.offer(event("ALSO-LATER", NOW.plus(30, ChronoUnit.DAYS)));
+
+        assertThat(nextNoticeId(queue)).isEqualTo("SOON");
+        assertThat(nextNoticeId(queue)).isEqualTo("LATER");
+        assertThat(nextNoticeId(queue)).isEqualTo("ALSO-LATER");
+        assertThat(nextNoticeId(queue)).isEqualTo("NO-DEADLINE");
+        assertThat(queue.poll(0, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void shouldKeepOneEntryPerNoticeWithLatestDeadline() throws Exception {
+        DeadlineScoringQueue queue = new DeadlineScoringQueue(10);
+        queue.offer(new OpportunityChangedEvent("AMENDED", NOW.plus(30, ChronoUnit.DAYS), true));
+        queue.offer(event("OTHER", NOW.plus(10, ChronoUnit.DAYS)));
+        queue.offer(new OpportunityChangedEvent("AMENDED", NOW.plus(5, ChronoUnit.DAYS), false));
+
+        assertThat(queue.size()).isEqualTo(2);
+        DeadlineScoringQueue.Entry first = queue.poll(0, TimeUnit.MILLISECONDS);
+        assertThat(first.event().noticeId()).isEqualTo("AMENDED");
+        assertThat(first.event().responseDeadline()).isEqualTo(NOW.plus(5, ChronoUnit.DAYS));
+        assertThat(first.event().created()).isTrue();
+    }
+
+    @Test
+    void shouldDropLatestDeadlineWhenFull() throws Exception {
+        DeadlineScoringQueue queue = new DeadlineScoringQueue(2);
+        queue.offer(event("DAY-10", NOW.plus(10, ChronoUnit.DAYS)));
+        queue.offer(event("DAY-20", NOW.plus(20, ChronoUnit.DAYS)));
+
+        assertThat(queue.offer(event("DAY-30", NOW.plus(30, ChronoUnit.DAYS)))).isFalse();
+        assertThat(queue.offer(event("DAY-5", NOW.plus(5, ChronoUnit.DAYS)))).isTrue();
+
+        assertThat(queue.getDroppedCount()).isEqualTo(2);
+        assertThat(nextNoticeId(queue)).isEqualTo("DAY-5");
+        assertThat(nextNoticeId(queue)).isEqualTo("DAY-10");
+        assertThat(queue.size()).isZero();
+    }
+
+    private static OpportunityChangedEvent event(String noticeId, Instant deadline) {
+        return new OpportunityChangedEvent(noticeId, deadline, true);
+    }
+
+    private static String nextNoticeId(DeadlineScoringQueue queue) throws InterruptedException {
+        return queue.poll(0, TimeUnit.MILLISECONDS).event().noticeId();
+    }
+}
@@ -0,0 +1,114 @@
+package com.athena.tasks.batch;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for KeysetItemReader.
+ * Uses an in-memory "table" to verify rows removed behind the cursor do not shift later
+ * pages and that a restart resumes after the checkpointed key.
+ */
+class KeysetItemReaderTest {
+
+    record Row(int sortKey, UUID id) {
+    }
+
+    @Test
+    void shouldNotSkipRowsWhenEarlierRowsDisappear() {
+        List<Row> table = rows(7);
+        InMemoryReader reader = new InMemoryReader(table, 3);
+        reader.open(new ExecutionContext());
+
+        List<Row> read = new ArrayList<>();
+        Row row;
+        while ((row = reader.read()) != null) {
+            read.add(row);
+            table.remove(row); // e.g. the row got scored and no longer matches the query
+        }
+
+        assertThat(read).hasSize(7).isSortedAccordingTo(ORDER);
+    }
+
+    @Test
+    void shouldResumeAfterCheckpointedKey() {
+        List<Row> table = rows(5);
+        ExecutionContext executionContext = new ExecutionContext();
+
+        InMemoryReader firstRun = new InMemoryReader(table, 2);
+        firstRun.open(executionContext);
+        firstRun.read();
+        firstRun.read();
+        firstRun.update(executionContext);
+        firstRun.close();
+
+        InMemoryReader restarted = new InMemoryReader(table, 2);
+        restarted.open(executionContext);
+
+        assertThat(restarted.read()).isEqualTo(table.stream().sorted(ORDER).toList().get(2));
+    }
+
+    private static final Comparator<Row> ORDER = Comparator.comparingInt(Row::sortKey).thenComparing(Row::id);
+
+    private static List<Row> rows(int count) {
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(new Row(i / 2, UUID.randomUUID())); // duplicate sort keys exercise the id tie-breaker
+        }
+        return rows;
+    }
+
+    /**
+     * Ascending keyset over a list, standing in for a repository query.
+     */
+    static class InMemoryReader extends KeysetItemReader<Row, Integer> {
+
+        private final List<Row> table;
+
+        InMemoryReader(List<Row> table, int pageSize) {
+            super("inMemoryReader", pageSize);
+            this.table = table;
+        }
+
+        @Override
+        protected List<Row> fetchPage(Integer afterSortKey, UUID afterId, int limit) {
+            Row after = new Row(afterSortKey, afterId);
+            return table.stream()
+                    .filter(row -> ORDER.compare(row, after) > 0)
+                    .sorted(ORDER)
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        protected Integer sortKeyOf(Row row) {
+            return row.sortKey();
+        }
+
+        @Override
+        protected UUID idOf(Row row) {
+            return row.id();
+        }
+
+        @Override
+        protected Integer firstSortKey() {
+            return Integer.MIN_VALUE;
+        }
+
+        @Override
+        protected UUID firstId() {
+            return MIN_ID;
+        }
+
+        @Override
+        protected Integer parseSortKey(String value) {
+            return Integer.valueOf(value);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.athena.tasks.batch;
+
+import com.athena.core.client.AnthropicClaudeClient;
+import com.athena.core.client.LlmResponseCache;
+import com.athena.core.entity.Opportunity;
+import com.athena.core.entity.OpportunityScore;
+import com.athena.core.entity.ScoringBatch;
+import com.athena.core.repository.OpportunityScoreRepository;
+import com.athena.core.repository.ScoringBatchRepository;
+import com.athena.core.scoring.DescriptionPreprocessor;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * End-to-end tests for batch-mode scoring against a stub Message Batches API.
+ * Submits opportunities with ScoringBatchSubmitWriter and collects the results with
+ * ScoringBatchCollector through a real AnthropicClaudeClient.
+ */
+class MessageBatchScoringTest {
+
+    private MockWebServer server;
+    private StubMessageBatchApi api;
+    private AnthropicClaudeClient claudeClient;
+    private ScoringBatchRepository scoringBatchRepository;
+    private OpportunityScoreRepository scoreRepository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        api = new StubMessageBatchApi(server);
+        server.setDispatcher(api);
+        server.start();
+
+        claudeClient = new AnthropicClaudeClient(
+                "test-api-key", server.url("/").toString(), "claude-test", 0, 0,
+                LlmResponseCache.disabled(), new ObjectMapper());
+        scoringBatchRepository = mock(ScoringBatchRepository.class);
+        scoreRepository = mock(OpportunityScoreRepository.class);
+        when(scoringBatchRepository.save(any(ScoringBatch.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void shouldSubmitChunkAsOneMessageBatch() {
+        Opportunity first = opportunity("Cloud migration");
+        Opportunity second = opportunity("Cybersecurity support");
+        Opportunity untitled = opportunity(null);
+
+        submitWriter().write(new Chunk<>(first, second, untitled));
+
+        assertThat(api.submitted).hasSize(1);
+        JsonNode requests = api.submitted.get(0).get("requests");
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(0).get("custom_id").asText()).isEqualTo(first.getId().toString());
+        assertThat(requests.get(0).get("params").get("model").asText()).isEqualTo("claude-test");
+        assertThat(requests.get(0).get("params").get("max_tokens").asInt()).isEqualTo(2048);
+        assertThat(requests.get(1).get("custom_id").asText()).isEqualTo(second.getId().toString());
+
+        ScoringBatch saved = savedBatch();
+        assertThat(saved.getProviderBatchId()).isEqualTo("msgbatch_1");
+        assertThat(saved.getScoreType()).isEqualTo("AI");
+        assertThat(saved.getStatus()).isEqualTo(ScoringBatch.STATUS_IN_PROGRESS);
+        assertThat(saved.getRequestCount()).isEqualTo(2);
+        assertThat(saved.getOpportunityIds()).containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
+
+    @Test
+    void shouldRecordSubmittedBatchInItsOwnTransaction() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        ScoringBatchSubmitWriter writer = new ScoringBatchSubmitWriter(
+                claudeClient, scoringBatchRepository, new DescriptionPreprocessor(1500), "AI", "Cloud and cybersecurity",
+                transactionManager);
+
+        writer.write(new Chunk<>(opportunity("Cloud migration")));
+
+        // Committed independently of the chunk, so a chunk rollback keeps the batch tracked
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().getPropagationBehavior())
+                .isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        assertThat(savedBatch().getProviderBatchId()).isEqualTo("msgbatch_1");
+    }
+
+    @Test
+    void shouldWriteScoresOnceBatchHasEnded() throws InterruptedException {
+        Opportunity scored = opportunity("Cloud migration");
+        Opportunity failed = opportunity("Network modernization");
+        submitWriter().write(new Chunk<>(scored, failed));
+        ScoringBatch batch = savedBatch();
+        when(scoringBatchRepository.findByStatusOrderBySubmittedAtAsc(ScoringBatch.STATUS_IN_PROGRESS))
+                .thenReturn(List.of(batch));
+        when(scoreRepository.findScoredOpportunityIds(anyString(), any())).thenReturn(List.of());
+
+        // Still processing: nothing written
+        assertThat(collector().collectEndedBatches()).isZero();
+        verify(scoreRepository, never()).saveAll(any());
+
+        api.end("msgbatch_1", Set.of(failed.getId().toString()));
+        assertThat(collector().collectEndedBatches()).isEqualTo(1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OpportunityScore>> scores = ArgumentCaptor.forClass(List.class);
+        verify(scoreRepository).saveAll(scores.capture());
+        assertThat(scores.getValue()).hasSize(1);
+        OpportunityScore score = scores.getValue().get(0);
+        assertThat(score.getOpportunityId()).isEqualTo(scored.getId());
+        assertThat(score.getScoreType()).isEqualTo("AI");
+        assertThat(score.getScoreValue()).isEqualByComparingTo(BigDecimal.valueOf(77));
+        assertThat(score.getMetadata()).containsEntry("rationale", "Strong fit");
+
+        assertThat(batch.getStatus()).isEqualTo(ScoringBatch.STATUS_COMPLETED);
+        assertThat(batch.getSucceededCount()).isEqualTo(1);
+        assertThat(batch.getErroredCount()).isEqualTo(1);
+        assertThat(batch.getCompletedAt()).isNotNull();
+
+        RecordedRequest first = server.takeRequest();
+        assertThat(first.getHeader("x-api-key")).isEqualTo("test-api-key");
+    }
+
+    @Test
+    void shouldSkipOpportunitiesScoredWhileBatchWasRunning() {
+        Opportunity opportunity = opportunity("Cloud migration");
+        submitWriter().write(new Chunk<>(opportunity));
+        ScoringBatch batch = savedBatch();
+        when(scoringBatchRepository.findByStatusOrderBySubmittedAtAsc(ScoringBatch.STATUS_IN_PROGRESS))
+                .thenReturn(List.of(batch));
+        when(scoreRepository.findScoredOpportunityIds(anyString(), any())).thenReturn(List.of(opportunity.getId()));
+        api.end("msgbatch_1", Set.of());
+
+        collector().collectEndedBatches();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<OpportunityScore>> scores = ArgumentCaptor.forClass(Collection.class);
+        verify(scoreRepository).saveAll(scores.capture());
+        assertThat(scores.getValue()).isEmpty();
+        assertThat(batch.getStatus()).isEqualTo(ScoringBatch.STATUS_COMPLETED);
+    }
+
+    private ScoringBatchSubmitWriter submitWriter() {
+        return new ScoringBatchSubmitWriter(
+                claudeClient, scoringBatchRepository, new DescriptionPreprocessor(1500), "AI", "Cloud and cybersecurity",
+                new ResourcelessTransactionManager());
+    }
+
+    private ScoringBatchCollector collector() {
+        return new ScoringBatchCollector(scoringBatchRepository, scoreRepository, claudeClient,
+                new ResourcelessTransactionManager());
+    }
+
+    private ScoringBatch savedBatch() {
+        ArgumentCaptor<ScoringBatch> captor = ArgumentCaptor.forClass(ScoringBatch.class);
+        verify(scoringBatchRepository).save(captor.capture());
+        return captor.getValue();
+    }
+
+    private static Opportunity opportunity(String title) {
+        Opportunity opportunity = new Opportunity();
+        opportunity.setId(UUID.randomUUID());
+        opportunity.setNoticeId("N-" + opportunity.getId());
+        opportunity.setTitle(title);
+        opportunity.setDescription("Provide services");
+        return opportunity;
+    }
+
+    /**
+     * Stub of the Message Batches endpoints: create, retrieve and results (JSON Lines).
+     * Batches stay in_progress until end() is called.
+     */
+    private static class StubMessageBatchApi extends Dispatcher {
+
+        private final ObjectMapper objectMapper = new ObjectMapper();
+        private final MockWebServer server;
+        private final List<JsonNode> submitted = new CopyOnWriteArrayList<>();
+        private final Map<String, Set<String>> erroredByBatch = new ConcurrentHashMap<>();
+
+        StubMessageBatchApi(MockWebServer server) {
+            this.server = server;
+        }
+
+        void end(String batchId, Set<String> erroredCustomIds) {
+            erroredByBatch.put(batchId, erroredCustomIds);
+        }
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            try {
+                String path = request.getPath();
+                if ("POST".equals(request.getMethod()) && "/v1/messages/batches".equals(path)) {
+                    submitted.add(objectMapper.readTree(request.getBody().readUtf8()));
+                    return json(batch("msgbatch_" + submitted.size()));
+                }
+                if ("GET".equals(request.getMethod()) && path.startsWith("/v1/messages/batches/")) {
+                    String rest = path.substring("/v1/messages/batches/".length());
+                    if (rest.endsWith("/results")) {
+                        return results(rest.substring(0, rest.length() - "/results".length()));
+                    }
+                    return json(batch(rest));
+                }
+                return new MockResponse().setResponseCode(404);
+            } catch (IOException e) {
+                return new MockResponse().setResponseCode(500);
+            }
+        }
+
+        private Map<String, Object> batch(String batchId) {
+            boolean ended = erroredByBatch.containsKey(batchId);
+            Map<String, Object> batch = new LinkedHashMap<>();
+            batch.put("id", batchId);
+            batch.put("type", "message_batch");
+            batch.put("processing_status", ended ? "ended" : "in_progress");
+            batch.put("request_counts", Map.of("processing", ended ? 0 : requests(batchId).size()));
+            batch.put("created_at", "2025-06-01T00:00:00Z");
+            batch.put("ended_at", ended ? "2025-06-01T01:00:00Z" : null);
+            batch.put("results_url", ended ? server.url("/v1/messages/batches/" + batchId + "/results").toString() : null);
+            return batch;
+        }
+
+        private MockResponse results(String batchId) throws IOException {
+            Set<String> errored = erroredByBatch.get(batchId);
+            StringBuilder body = new StringBuilder();
+            for (String customId : requests(batchId)) {
+                Map<String, Object> result = errored.contains(customId)
+                        ? Map.of("type", "errored", "error", Map.of("type", "overloaded_error"))
+                        : Map.of("type", "succeeded", "message", Map.of(
+                                "id", "msg_" + customId,
+                                "type", "message",
+                                "role", "assistant",
+                                "content", List.of(Map.of("type", "text", "text", "SCORE: 77\nRATIONALE: Strong fit")),
+                                "model", "claude-test",
+                                "stop_reason", "end_turn",
+                                "usage", Map.of("input_tokens", 120, "output_tokens", 40)));
+                body.append(objectMapper.writeValueAsString(Map.of("custom_id", customId, "result", result))).append('\n');
+            }
+            return new MockResponse().setHeader("Content-Type", "application/binary").setBody(body.toString());
+        }
+
+        private List<String> requests(String batchId) {
+            int index = Integer.parseInt(batchId.substring("msgbatch_".length())) - 1;
+            List<String> customIds = new ArrayList<>();
+            submitted.get(index).get("requests").forEach(request -> customIds.add(request.get("custom_id").asText()));
+            return customIds;
+        }
+
+        private MockResponse json(Object body) throws IOException {
+            return new MockResponse()
+                    .setHeader("Content-Type", "application/json")
+                    .setBody(objectMapper.writeValueAsString(body));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.athena.tasks.batch;
+
+import com.athena.core.entity.Agency;
+import com.athena.core.entity.Opportunity;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for OpportunityCopyWriter CSV rendering.
+ * The COPY and merge themselves require PostgreSQL and are not exercised here.
+ */
+class OpportunityCopyWriterTest {
+
+    @Test
+    void shouldRenderOneQuotedRowPerOpportunityInColumnOrder() {
+        UUID agencyId = UUID.randomUUID();
+        Agency agency = new Agency("Department of Defense");
+        agency.setId(agencyId);
+
+        Opportunity opportunity = new Opportunity("N-1", "Cloud \"Migration\", Phase 2", "Solicitation");
+        opportunity.setAgency(agency);
+        opportunity.setPostedDate(LocalDate.of(2025, 1, 15));
+        opportunity.setResponseDeadline(Instant.parse("2025-02-15T00:00:00Z"));
+        opportunity.setDescription("Line one\nLine two");
+        opportunity.setContentHash("abc123");
+
+        String csv = OpportunityCopyWriter.toCsv(List.of(opportunity));
+        List<String> fields = splitCsvRow(csv);
+
+        assertThat(fields).hasSize(OpportunityCopyWriter.COLUMNS.size());
+        assertThat(field(fields, "notice_id")).isEqualTo("\"N-1\"");
+        assertThat(field(fields, "title")).isEqualTo("\"Cloud \"\"Migration\"\", Phase 2\"");
+        assertThat(field(fields, "agency_id")).isEqualTo("\"" + agencyId + "\"");
+        assertThat(field(fields, "posted_date")).isEqualTo("\"2025-01-15\"");
+        assertThat(field(fields, "response_deadline")).isEqualTo("\"2025-02-15T00:00:00Z\"");
+        assertThat(field(fields, "description")).isEqualTo("\"Line one\nLine two\"");
+        assertThat(field(fields, "place_of_performance_country")).isEqualTo("\"US\"");
+        assertThat(field(fields, "is_active")).isEqualTo("\"true\"");
+        assertThat(field(fields, "content_hash")).isEqualTo("\"abc123\"");
+        assertThat(field(fields, "id")).isNotEmpty();
+    }
+
+    @Test
+    void shouldWriteNullsUnquotedAndEmptyStringsQuoted() {
+        Opportunity opportunity = new Opportunity("N-2", "Title", "Presolicitation");
+        opportunity.setOfficeName("");
+
+        List<String> fields = splitCsvRow(OpportunityCopyWriter.toCsv(List.of(opportunity)));
+
+        assertThat(field(fields, "solicitation_number")).isEmpty();
+        assertThat(field(fields, "agency_id")).isEmpty();
+        assertThat(field(fields, "office_name")).isEqualTo("\"\"");
+    }
+
+    private String field(List<String> fields, String column) {
+        return fields.get(OpportunityCopyWriter.COLUMNS.indexOf(column));
+    }
+
+    /**
+     * Split a single CSV row into raw (still quoted) fields.
+     */
+    private List<String> splitCsvRow(String csv) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < csv.length(); i++) {
+            char c = csv.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            }
+            if (!quoted && (c == ',' || c == '\n')) {
+                fields.add(current.toString());
+                current.setLength(0);
+                if (c == '\n') {
+                    break;
+                }
+                continue;
+            }
+            current.append(c);
+        }
+        return fields;
+    }
+}
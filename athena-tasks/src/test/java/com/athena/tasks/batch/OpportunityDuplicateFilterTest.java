@@ -0,0 +1,172 @@
+package com.athena.tasks.batch;
+
+import com.athena.core.dto.SamGovOpportunityDto;
+import com.athena.core.entity.Opportunity;
+import com.athena.core.loader.OpportunityContentHasher;
+import com.athena.core.repository.OpportunityRepository;
+import com.athena.core.repository.OpportunityRepository.NoticeContentHash;
+import com.athena.tasks.batch.OpportunityDuplicateFilter.Action;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for OpportunityDuplicateFilter.
+ * Verifies one content hash query per chunk, change detection and in-run duplicate tracking.
+ */
+class OpportunityDuplicateFilterTest {
+
+    private OpportunityRepository opportunityRepository;
+    private OpportunityDuplicateFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        opportunityRepository = mock(OpportunityRepository.class);
+        filter = new OpportunityDuplicateFilter(opportunityRepository);
+        filter.beforeStep(null);
+    }
+
+    @Test
+    void shouldResolveWholeChunkWithSingleQuery() {
+        when(opportunityRepository.findContentHashes(any())).thenReturn(List.of(stored("N-2", "hash-2")));
+
+        SamGovOpportunityDto first = dto("N-1");
+        SamGovOpportunityDto second = dto("N-2");
+        SamGovOpportunityDto third = dto("N-3");
+
+        filter.beforeChunk(null);
+        filter.afterRead(first);
+        filter.afterRead(second);
+        filter.afterRead(third);
+
+        assertThat(filter.resolve("N-1", "hash-1", first)).isEqualTo(Action.INSERT);
+        assertThat(filter.resolve("N-2", "hash-2", second)).isEqualTo(Action.SKIP);
+        assertThat(filter.resolve("N-3", "hash-3", third)).isEqualTo(Action.INSERT);
+
+        verify(opportunityRepository, times(1)).findContentHashes(any());
+    }
+
+    @Test
+    void shouldUpdateStoredNoticeWhenContentHashChanged() {
+        when(opportunityRepository.findContentHashes(any())).thenReturn(List.of(
+                stored("N-1", "old-hash"),
+                stored("N-2", null)));
+
+        SamGovOpportunityDto amended = dto("N-1");
+        SamGovOpportunityDto unhashed = dto("N-2");
+
+        filter.beforeChunk(null);
+        filter.afterRead(amended);
+        filter.afterRead(unhashed);
+
+        assertThat(filter.resolve("N-1", "new-hash", amended)).isEqualTo(Action.UPDATE);
+        // Rows imported before content hashing are refreshed once
+        assertThat(filter.resolve("N-2", "hash-2", unhashed)).isEqualTo(Action.UPDATE);
+    }
+
+    @Test
+    void shouldLoadStoredEntitiesOfAmendedNoticesWithSingleQuery() {
+        SamGovOpportunityDto amended = dto("N-1");
+        SamGovOpportunityDto alsoAmended = dto("N-2");
+        SamGovOpportunityDto unchanged = dto("N-3");
+        when(opportunityRepository.findContentHashes(any())).thenReturn(List.of(
+                stored("N-1", "old-hash"),
+                stored("N-2", null),
+                stored("N-3", OpportunityContentHasher.hash(unchanged))));
+        Opportunity storedFirst = written("N-1", "old-hash");
+        Opportunity storedSecond = written("N-2", null);
+        when(opportunityRepository.findAllByNoticeIdIn(List.of("N-1", "N-2")))
+                .thenReturn(List.of(storedFirst, storedSecond));
+
+        filter.beforeChunk(null);
+        filter.afterRead(amended);
+        filter.afterRead(alsoAmended);
+        filter.afterRead(unchanged);
+
+        assertThat(filter.resolve("N-1", OpportunityContentHasher.hash(amended), amended)).isEqualTo(Action.UPDATE);
+        assertThat(filter.storedOpportunity("N-1")).containsSame(storedFirst);
+        assertThat(filter.storedOpportunity("N-2")).containsSame(storedSecond);
+        assertThat(filter.storedOpportunity("N-3")).isEmpty();
+
+        verify(opportunityRepository, times(1)).findAllByNoticeIdIn(any());
+        verify(opportunityRepository, never()).findByNoticeId(anyString());
+    }
+
+    @Test
+    void shouldSkipRepeatedNoticeIdWithinChunkButAllowReprocessing() {
+        when(opportunityRepository.findContentHashes(any())).thenReturn(List.of());
+
+        SamGovOpportunityDto original = dto("N-1");
+        SamGovOpportunityDto repost = dto("N-1");
+
+        filter.beforeChunk(null);
+        filter.afterRead(original);
+        filter.afterRead(repost);
+
+        assertThat(filter.resolve("N-1", "hash-1", original)).isEqualTo(Action.INSERT);
+        assertThat(filter.resolve("N-1", "hash-1", repost)).isEqualTo(Action.SKIP);
+        // Re-processing the same record after a rollback is not a duplicate
+        assertThat(filter.resolve("N-1", "hash-1", original)).isEqualTo(Action.INSERT);
+    }
+
+    @Test
+    void shouldResolveNoticeIdsWrittenEarlierInRunWithoutQuery() {
+        when(opportunityRepository.findContentHashes(any())).thenReturn(List.of());
+
+        SamGovOpportunityDto first = dto("N-1");
+        filter.beforeChunk(null);
+        filter.afterRead(first);
+        assertThat(filter.resolve("N-1", "hash-1", first)).isEqualTo(Action.INSERT);
+        filter.afterWrite(new Chunk<>(List.of(written("N-1", "hash-1"))));
+
+        SamGovOpportunityDto sameContent = dto("N-1");
+        SamGovOpportunityDto amended = dto("N-1");
+        filter.beforeChunk(null);
+        filter.afterRead(sameContent);
+        assertThat(filter.resolve("N-1", "hash-1", sameContent)).isEqualTo(Action.SKIP);
+
+        filter.beforeChunk(null);
+        filter.afterRead(amended);
+        assertThat(filter.resolve("N-1", "hash-1b", amended)).isEqualTo(Action.UPDATE);
+
+        verify(opportunityRepository, times(1)).findContentHashes(any());
+    }
+
+    private NoticeContentHash stored(String noticeId, String contentHash) {
+        return new NoticeContentHash() {
+            @Override
+            public String getNoticeId() {
+                return noticeId;
+            }
+
+            @Override
+            public String getContentHash() {
+                return contentHash;
+            }
+        };
+    }
+
+    private Opportunity written(String noticeId, String contentHash) {
+        Opportunity opportunity = new Opportunity(noticeId, "Title", "Solicitation");
+        opportunity.setContentHash(contentHash);
+        return opportunity;
+    }
+
+    private SamGovOpportunityDto dto(String noticeId) {
+        SamGovOpportunityDto dto = new SamGovOpportunityDto();
+        dto.setNoticeId(noticeId);
+        dto.setTitle("Title " + noticeId);
+        return dto;
+    }
+}
@@ -0,0 +1,143 @@
+package com.athena.tasks.batch;
+
+import com.athena.core.client.AnthropicClaudeClient;
+import com.athena.core.entity.Opportunity;
+import com.athena.core.entity.OpportunityScore;
+import com.athena.core.repository.OpportunityRepository;
+import com.athena.core.repository.OpportunityScoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Integration tests for OpportunityEventScoringWorker.
+ *
+ * <p>Test scenarios:
+ * <ul>
+ *   <li>Queued notices scored with their dimensions</li>
+ *   <li>New notices already scored are skipped, amended notices rescored</li>
+ *   <li>Notices skipped by the score processor not counted as failures</li>
+ *   <li>Events only queued once their transaction commits</li>
+ * </ul>
+ */
+@TestPropertySource(properties = {
+        "athena.scoring.heuristic.enabled=false", // Every queued notice goes to Claude
+        "athena.scoring.events.enabled=true"
+})
+class OpportunityEventScoringWorkerTest extends AbstractBatchJobTest {
+
+    @Autowired
+    private OpportunityEventScoringWorker worker;
+
+    @Autowired
+    private OpportunityRepository opportunityRepository;
+
+    @Autowired
+    private OpportunityScoreRepository opportunityScoreRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private AnthropicClaudeClient claudeClient;
+
+    @BeforeEach
+    void setUp() {
+        opportunityScoreRepository.deleteAll();
+        opportunityRepository.deleteAll();
+        when(claudeClient.scoreOpportunity(anyString(), anyString(), anyString()))
+                .thenReturn(new AnthropicClaudeClient.OpportunityScoreResult(
+                        82, "Strong fit", Map.of("relevance", new AnthropicClaudeClient.DimensionScore(90, "Core capability")),
+                        75, null, "claude-3-5-sonnet-20241022"));
+    }
+
+    @Test
+    void shouldScoreQueuedNoticeWithDimensions() throws Exception {
+        Opportunity opportunity = opportunityRepository.save(createTestOpportunity("EVT-001"));
+
+        List<OpportunityScore> scores = worker.score(entry("EVT-001", true));
+
+        assertThat(scores).extracting(OpportunityScore::getScoreType).containsExactly("AI", "relevance");
+        assertThat(opportunityScoreRepository.findByOpportunityIdAndScoreType(opportunity.getId(), "AI")).hasSize(1);
+    }
+
+    @Test
+    void shouldSkipNewNoticeAlreadyScoredButRescoreAmendedNotice() throws Exception {
+        Opportunity opportunity = opportunityRepository.save(createTestOpportunity("EVT-002"));
+        worker.score(entry("EVT-002", true));
+
+        assertThat(worker.score(entry("EVT-002", true))).isEmpty();
+        assertThat(worker.score(entry("EVT-002", false))).isNotEmpty();
+        assertThat(opportunityScoreRepository.findByOpportunityIdAndScoreType(opportunity.getId(), "AI")).hasSize(2);
+    }
+
+    @Test
+    void shouldNotCountSkippedNoticeAsFailure() throws Exception {
+        Opportunity opportunity = createTestOpportunity("EVT-005");
+        opportunity.setTitle("");
+        opportunityRepository.save(opportunity);
+        double failures = worker.getFailures().count();
+
+        assertThat(worker.score(entry("EVT-005", true))).isEmpty();
+        assertThat(worker.getFailures().count()).isEqualTo(failures);
+    }
+
+    @Test
+    void shouldQueueEventsOnlyAfterCommit() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        worker.stop(); // Keep queued events in the queue
+        try {
+            transaction.executeWithoutResult(status -> {
+                eventPublisher.publishEvent(event("EVT-003"));
+                assertThat(worker.getQueue().size()).isZero();
+            });
+            assertThat(worker.getQueue().size()).isEqualTo(1);
+
+            transaction.executeWithoutResult(status -> {
+                eventPublisher.publishEvent(event("EVT-004"));
+                status.setRollbackOnly();
+            });
+            assertThat(worker.getQueue().size()).isEqualTo(1);
+        } finally {
+            worker.start();
+        }
+    }
+
+    private static OpportunityChangedEvent event(String noticeId) {
+        return new OpportunityChangedEvent(noticeId, Instant.now().plus(7, ChronoUnit.DAYS), true);
+    }
+
+    private static DeadlineScoringQueue.Entry entry(String noticeId, boolean created) {
+        return new DeadlineScoringQueue.Entry(
+                new OpportunityChangedEvent(noticeId, Instant.now().plus(7, ChronoUnit.DAYS), created), Instant.now(), 0);
+    }
+
+    private Opportunity createTestOpportunity(String noticeId) {
+        Opportunity opp = new Opportunity();
+        opp.setNoticeId(noticeId);
+        opp.setTitle("Cloud migration support " + noticeId);
+        opp.setNoticeType("Solicitation");
+        opp.setDescription("The contractor shall migrate agency workloads to the cloud.");
+        opp.setResponseDeadline(Instant.now().plus(7, ChronoUnit.DAYS));
+        opp.setNaicsCode("541512");
+        opp.setIsActive(true);
+        return opp;
+    }
+}
@@ -18,6 +18,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -298,6 +299,42 @@ class OpportunityScoringJobTest extends AbstractBatchJobTest {
         assertThat(stepExecution.getCommitCount()).isGreaterThan(0);
     }
 
+    @Test
+    void shouldSendHighScoresAndUnsureTriageResultsToStrongModel() {
+        assertThat(OpportunityScoringJob.needsStrongModel(triageResult(75, 90), 60, 50)).isTrue();
+        assertThat(OpportunityScoringJob.needsStrongModel(triageResult(30, 40), 60, 50)).isTrue();
+        assertThat(OpportunityScoringJob.needsStrongModel(triageResult(30, 80), 60, 50)).isFalse();
+        assertThat(OpportunityScoringJob.needsStrongModel(triageResult(30, null), 60, 50)).isFalse();
+    }
+
+    @Test
+    void shouldKeepTriageAndFinalModelInScoreMetadata() {
+        AnthropicClaudeClient.OpportunityScoreResult triage = triageResult(75, 90);
+        AnthropicClaudeClient.OpportunityScoreResult strong = new AnthropicClaudeClient.OpportunityScoreResult(
+                68, "Incumbent advantage", Map.of("relevance", new AnthropicClaudeClient.DimensionScore(85, "Match")),
+                70, null, "claude-3-5-sonnet-20241022");
+
+        List<OpportunityScore> scores = OpportunityScoringJob.createScores(UUID.randomUUID(), "AI", strong);
+        scores.get(0).getMetadata().put("cascade", OpportunityScoringJob.cascadeMetadata(triage, true));
+
+        assertThat(scores).extracting(OpportunityScore::getScoreType).containsExactly("AI", "relevance");
+        assertThat(scores.get(0).getConfidence()).isEqualByComparingTo("0.70");
+        assertThat(scores.get(0).getMetadata()).containsEntry("model", "claude-3-5-sonnet-20241022");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> cascade = (Map<String, Object>) scores.get(0).getMetadata().get("cascade");
+        assertThat(cascade).containsEntry("escalated", true);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> triageMetadata = (Map<String, Object>) cascade.get("triage");
+        assertThat(triageMetadata)
+                .containsEntry("model", "claude-3-5-haiku-20241022")
+                .containsEntry("score", 75);
+    }
+
+    private static AnthropicClaudeClient.OpportunityScoreResult triageResult(int score, Integer confidence) {
+        return new AnthropicClaudeClient.OpportunityScoreResult(
+                score, "Triage", Map.of(), confidence, null, "claude-3-5-haiku-20241022");
+    }
+
     /**
      * Helper method to create test Opportunity entities.
      */
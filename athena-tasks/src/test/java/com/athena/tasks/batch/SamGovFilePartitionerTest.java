@@ -0,0 +1,70 @@
+package com.athena.tasks.batch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SamGovFilePartitioner.
+ * Verifies every file is assigned exactly once and partitions are balanced by size.
+ */
+class SamGovFilePartitionerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldAssignEveryFileToExactlyOnePartition() throws IOException {
+        for (int i = 0; i < 7; i++) {
+            writeFile("file-" + i + ".json", 100);
+        }
+
+        Map<String, ExecutionContext> partitions = new SamGovFilePartitioner(tempDir).partition(3);
+
+        assertThat(partitions).hasSize(3);
+        List<String> assigned = new ArrayList<>();
+        partitions.values().forEach(context -> assigned.addAll(files(context)));
+        assertThat(assigned).hasSize(7).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldBalancePartitionsBySize() throws IOException {
+        writeFile("large.json", 3000);
+        writeFile("medium-1.json", 1500);
+        writeFile("medium-2.json", 1500);
+
+        Map<String, ExecutionContext> partitions = new SamGovFilePartitioner(tempDir).partition(2);
+
+        assertThat(partitions.values())
+                .extracting(context -> files(context).size())
+                .containsExactlyInAnyOrder(1, 2);
+    }
+
+    @Test
+    void shouldNotCreateEmptyPartitions() throws IOException {
+        writeFile("only.json", 100);
+
+        Map<String, ExecutionContext> partitions = new SamGovFilePartitioner(tempDir).partition(8);
+
+        assertThat(partitions).hasSize(1);
+        assertThat(new SamGovFilePartitioner(tempDir.resolve("missing")).partition(8)).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> files(ExecutionContext context) {
+        return (List<String>) context.get(SamGovFilePartitioner.FILES_KEY);
+    }
+
+    private void writeFile(String name, int size) throws IOException {
+        Files.writeString(tempDir.resolve(name), "[" + " ".repeat(size) + "]");
+    }
+}
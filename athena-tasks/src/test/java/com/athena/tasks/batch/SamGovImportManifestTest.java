@@ -0,0 +1,116 @@
+package com.athena.tasks.batch;
+
+import com.athena.core.entity.ImportManifestEntry;
+import com.athena.core.repository.ImportManifestEntryRepository;
+import com.athena.core.repository.SyncLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for SamGovImportManifest.
+ * Verifies unchanged files are skipped and new, modified or touched files are detected.
+ */
+class SamGovImportManifestTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ImportManifestEntryRepository manifestRepository;
+    private SamGovImportManifest manifest;
+
+    @BeforeEach
+    void setUp() {
+        manifestRepository = mock(ImportManifestEntryRepository.class);
+        manifest = new SamGovImportManifest(manifestRepository, mock(SyncLogRepository.class), true);
+    }
+
+    @Test
+    void shouldSelectNewAndModifiedFilesOnly() throws IOException {
+        Path unchanged = writeFile("unchanged.json", "[{\"noticeId\":\"A\"}]");
+        Path modified = writeFile("modified.json", "[{\"noticeId\":\"B\"}]");
+        Path added = writeFile("added.json", "[{\"noticeId\":\"C\"}]");
+        ImportManifestEntry unchangedEntry = recordedEntry(unchanged);
+        ImportManifestEntry modifiedEntry = recordedEntry(modified);
+        Files.writeString(modified, "[{\"noticeId\":\"B\"},{\"noticeId\":\"D\"}]");
+        when(manifestRepository.findBySourceOrderByFilePathAsc(SamGovImportManifest.SOURCE))
+                .thenReturn(List.of(unchangedEntry, modifiedEntry));
+
+        List<Path> selected = manifest.selectFilesToImport(List.of(added, modified, unchanged));
+
+        assertThat(selected).containsExactly(added, modified);
+        verify(manifestRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldSkipTouchedFileWithIdenticalContentAndRefreshEntry() throws IOException {
+        Path touched = writeFile("touched.json", "[{\"noticeId\":\"A\"}]");
+        ImportManifestEntry entry = recordedEntry(touched);
+        Instant later = entry.getLastModified().plusSeconds(60);
+        Files.setLastModifiedTime(touched, FileTime.from(later));
+        when(manifestRepository.findBySourceOrderByFilePathAsc(SamGovImportManifest.SOURCE))
+                .thenReturn(List.of(entry));
+
+        List<Path> selected = manifest.selectFilesToImport(List.of(touched));
+
+        assertThat(selected).isEmpty();
+        assertThat(entry.getLastModified()).isEqualTo(later);
+        verify(manifestRepository).save(entry);
+    }
+
+    @Test
+    void shouldSelectAllFilesWhenNotIncremental() throws IOException {
+        Path file = writeFile("file.json", "[]");
+        SamGovImportManifest fullImport =
+                new SamGovImportManifest(manifestRepository, mock(SyncLogRepository.class), false);
+
+        assertThat(fullImport.selectFilesToImport(List.of(file))).containsExactly(file);
+        verify(manifestRepository, never()).findBySourceOrderByFilePathAsc(any());
+    }
+
+    @Test
+    void shouldRecordImportedFile() throws IOException {
+        Path file = writeFile("file.json", "[{\"noticeId\":\"A\"}]");
+        when(manifestRepository.findBySourceAndFilePath(SamGovImportManifest.SOURCE, SamGovImportManifest.keyOf(file)))
+                .thenReturn(Optional.empty());
+
+        manifest.recordImported(file, 1);
+
+        ArgumentCaptor<ImportManifestEntry> saved = ArgumentCaptor.forClass(ImportManifestEntry.class);
+        verify(manifestRepository).save(saved.capture());
+        assertThat(saved.getValue().getFilePath()).isEqualTo(SamGovImportManifest.keyOf(file));
+        assertThat(saved.getValue().getFileSize()).isEqualTo(Files.size(file));
+        assertThat(saved.getValue().getChecksum()).isEqualTo(SamGovImportManifest.checksumOf(file));
+        assertThat(saved.getValue().getRecordsImported()).isEqualTo(1);
+        assertThat(saved.getValue().getSyncLog()).isNull();
+    }
+
+    private ImportManifestEntry recordedEntry(Path file) throws IOException {
+        ImportManifestEntry entry = new ImportManifestEntry(SamGovImportManifest.SOURCE, SamGovImportManifest.keyOf(file));
+        entry.setFileSize(Files.size(file));
+        entry.setLastModified(Files.getLastModifiedTime(file).toInstant().truncatedTo(ChronoUnit.MICROS));
+        entry.setChecksum(SamGovImportManifest.checksumOf(file));
+        return entry;
+    }
+
+    private Path writeFile(String name, String content) throws IOException {
+        return Files.writeString(tempDir.resolve(name), content);
+    }
+}
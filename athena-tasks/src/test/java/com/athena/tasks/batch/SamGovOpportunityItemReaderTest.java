@@ -0,0 +1,127 @@
+package com.athena.tasks.batch;
+
+import com.athena.core.dto.SamGovOpportunityDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ParseException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SamGovOpportunityItemReader.
+ * Exercises streaming across files, per-record error handling and restart from a checkpoint.
+ */
+class SamGovOpportunityItemReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    @Test
+    void shouldStreamRecordsFromAllFilesInPathOrder() throws IOException {
+        writeOpportunities("a.json", "A-1", "A-2");
+        writeOpportunities("b.json", "B-1");
+
+        SamGovOpportunityItemReader reader = new SamGovOpportunityItemReader(tempDir, objectMapper);
+        reader.open(new ExecutionContext());
+
+        assertThat(readAll(reader)).containsExactly("A-1", "A-2", "B-1");
+        reader.close();
+    }
+
+    @Test
+    void shouldSkipMalformedFileAndContinueWithNextFile() throws IOException {
+        Files.writeString(tempDir.resolve("a.json"), "{not an array");
+        writeOpportunities("b.json", "B-1");
+
+        SamGovOpportunityItemReader reader = new SamGovOpportunityItemReader(tempDir, objectMapper);
+        reader.open(new ExecutionContext());
+
+        assertThat(readAll(reader)).containsExactly("B-1");
+        reader.close();
+    }
+
+    @Test
+    void shouldRaiseParseExceptionForInvalidRecordAndContinue() throws Exception {
+        Files.writeString(tempDir.resolve("a.json"), "[" +
+                "{\"noticeId\": \"A-1\", \"title\": \"One\"}," +
+                "{\"noticeId\": \"A-2\", \"postedDate\": \"not-a-date\"}," +
+                "{\"noticeId\": \"A-3\", \"title\": \"Three\"}" +
+                "]");
+
+        SamGovOpportunityItemReader reader = new SamGovOpportunityItemReader(tempDir, objectMapper);
+        reader.open(new ExecutionContext());
+
+        assertThat(reader.read().getNoticeId()).isEqualTo("A-1");
+        assertThatThrownBy(reader::read).isInstanceOf(ParseException.class);
+        assertThat(reader.read().getNoticeId()).isEqualTo("A-3");
+        assertThat(reader.read()).isNull();
+        reader.close();
+    }
+
+    @Test
+    void shouldResumeFromCheckpointedFileAndRecord() throws Exception {
+        writeOpportunities("a.json", "A-1", "A-2");
+        writeOpportunities("b.json", "B-1", "B-2", "B-3");
+
+        ExecutionContext executionContext = new ExecutionContext();
+        SamGovOpportunityItemReader firstRun = new SamGovOpportunityItemReader(tempDir, objectMapper);
+        firstRun.open(executionContext);
+        firstRun.read();
+        firstRun.read();
+        firstRun.read();
+        firstRun.update(executionContext);
+        firstRun.close();
+
+        SamGovOpportunityItemReader restarted = new SamGovOpportunityItemReader(tempDir, objectMapper);
+        restarted.open(executionContext);
+
+        assertThat(readAll(restarted)).containsExactly("B-2", "B-3");
+        restarted.close();
+    }
+
+    @Test
+    void shouldReturnNullWhenDataDirectoryDoesNotExist() throws Exception {
+        SamGovOpportunityItemReader reader =
+                new SamGovOpportunityItemReader(tempDir.resolve("missing"), objectMapper);
+        reader.open(new ExecutionContext());
+
+        assertThat(reader.read()).isNull();
+        reader.close();
+    }
+
+    private void writeOpportunities(String fileName, String... noticeIds) throws IOException {
+        List<String> records = new ArrayList<>();
+        for (String noticeId : noticeIds) {
+            records.add("{\"noticeId\": \"" + noticeId + "\", \"title\": \"Title " + noticeId + "\"}");
+        }
+        Files.writeString(tempDir.resolve(fileName), "[" + String.join(",", records) + "]");
+    }
+
+    private List<String> readAll(SamGovOpportunityItemReader reader) {
+        List<String> noticeIds = new ArrayList<>();
+        SamGovOpportunityDto dto;
+        while ((dto = reader.read()) != null) {
+            noticeIds.add(dto.getNoticeId());
+        }
+        return noticeIds;
+    }
+}
@@ -0,0 +1,128 @@
+package com.athena.tasks.batch;
+
+import com.athena.core.entity.Opportunity;
+import com.athena.core.entity.ScoringQueueEntry;
+import com.athena.core.repository.OpportunityRepository;
+import com.athena.core.repository.ScoringQueueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ScoringQueueItemReader.
+ * Verifies opportunities come back in queue priority order and paging seeks past the last priority.
+ */
+class ScoringQueueItemReaderTest {
+
+    private ScoringQueueRepository scoringQueueRepository;
+    private OpportunityRepository opportunityRepository;
+
+    @BeforeEach
+    void setUp() {
+        scoringQueueRepository = mock(ScoringQueueRepository.class);
+        opportunityRepository = mock(OpportunityRepository.class);
+    }
+
+    @Test
+    void shouldReadInPriorityOrderAndPageByLastPriority() {
+        Opportunity urgent = opportunity();
+        Opportunity soon = opportunity();
+        Opportunity later = opportunity();
+        ScoringQueueEntry urgentEntry = entry(urgent, "91.20");
+        ScoringQueueEntry soonEntry = entry(soon, "74.05");
+        when(scoringQueueRepository.findUnscoredPage(eq("AI"), any(), any(), eq(2)))
+                .thenReturn(List.of(urgentEntry, soonEntry))
+                .thenReturn(List.of(entry(later, "30.00")));
+        // Repository order differs from queue order
+        when(opportunityRepository.findAllById(any()))
+                .thenReturn(List.of(soon, urgent))
+                .thenReturn(List.of(later));
+
+        ScoringQueueItemReader reader = new ScoringQueueItemReader(scoringQueueRepository, opportunityRepository, "AI", 2);
+        reader.open(new ExecutionContext());
+
+        assertThat(readAll(reader)).containsExactly(urgent, soon, later);
+        verify(scoringQueueRepository).findUnscoredPage("AI", new BigDecimal("74.05"), soon.getId(), 2);
+        verify(scoringQueueRepository, times(2)).findUnscoredPage(eq("AI"), any(), any(), anyInt());
+    }
+
+    @Test
+    void shouldTopUpPageWhenOpportunityDisappeared() {
+        Opportunity first = opportunity();
+        Opportunity deleted = opportunity();
+        Opportunity second = opportunity();
+        Opportunity third = opportunity();
+        when(scoringQueueRepository.findUnscoredPage(eq("AI"), any(), any(), anyInt()))
+                .thenReturn(List.of(entry(first, "90.00"), entry(deleted, "80.00")))
+                .thenReturn(List.of(entry(second, "70.00")))
+                .thenReturn(List.of(entry(third, "60.00")));
+        // The deleted opportunity is gone by the time its page is loaded
+        when(opportunityRepository.findAllById(any()))
+                .thenReturn(List.of(first))
+                .thenReturn(List.of(second))
+                .thenReturn(List.of(third));
+
+        ScoringQueueItemReader reader = new ScoringQueueItemReader(scoringQueueRepository, opportunityRepository, "AI", 2);
+        reader.open(new ExecutionContext());
+
+        // A dropped entry does not end the step early
+        assertThat(readAll(reader)).containsExactly(first, second, third);
+        verify(scoringQueueRepository).findUnscoredPage("AI", new BigDecimal("80.00"), deleted.getId(), 1);
+        verify(scoringQueueRepository).findUnscoredPage("AI", new BigDecimal("70.00"), second.getId(), 2);
+    }
+
+    @Test
+    void shouldRestartAfterCheckpointedPriority() {
+        Opportunity first = opportunity();
+        when(scoringQueueRepository.findUnscoredPage(eq("AI"), any(), any(), eq(10)))
+                .thenReturn(List.of(entry(first, "88.50")))
+                .thenReturn(List.of());
+        when(opportunityRepository.findAllById(any())).thenReturn(List.of(first)).thenReturn(List.of());
+
+        ScoringQueueItemReader firstRun = new ScoringQueueItemReader(scoringQueueRepository, opportunityRepository, "AI", 10);
+        ExecutionContext executionContext = new ExecutionContext();
+        firstRun.open(executionContext);
+        firstRun.read();
+        firstRun.update(executionContext);
+        firstRun.close();
+
+        ScoringQueueItemReader restarted = new ScoringQueueItemReader(scoringQueueRepository, opportunityRepository, "AI", 10);
+        restarted.open(executionContext);
+
+        assertThat(restarted.read()).isNull();
+        verify(scoringQueueRepository).findUnscoredPage("AI", new BigDecimal("88.50"), first.getId(), 10);
+    }
+
+    private List<Opportunity> readAll(ScoringQueueItemReader reader) {
+        List<Opportunity> items = new ArrayList<>();
+        Opportunity item;
+        while ((item = reader.read()) != null) {
+            items.add(item);
+        }
+        return items;
+    }
+
+    private ScoringQueueEntry entry(Opportunity opportunity, String priority) {
+        return new ScoringQueueEntry(opportunity.getId(), new BigDecimal(priority));
+    }
+
+    private Opportunity opportunity() {
+        Opportunity opportunity = new Opportunity();
+        opportunity.setId(UUID.randomUUID());
+        return opportunity;
+    }
+}
@@ -0,0 +1,107 @@
+package com.athena.tasks.batch;
+
+import com.athena.core.entity.Opportunity;
+import com.athena.core.repository.OpportunityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for UnscoredOpportunityItemReader.
+ * Verifies keyset paging continues after the last returned row and survives a restart.
+ */
+class UnscoredOpportunityItemReaderTest {
+
+    private OpportunityRepository opportunityRepository;
+
+    @BeforeEach
+    void setUp() {
+        opportunityRepository = mock(OpportunityRepository.class);
+    }
+
+    @Test
+    void shouldPageByLastReturnedKey() {
+        Opportunity first = opportunity(LocalDate.of(2025, 3, 2));
+        Opportunity second = opportunity(null);
+        Opportunity third = opportunity(LocalDate.of(2025, 1, 1));
+        when(opportunityRepository.findUnscoredPage(eq("AI"), any(), any(), eq(2)))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third));
+
+        UnscoredOpportunityItemReader reader = new UnscoredOpportunityItemReader(opportunityRepository, "AI", 2);
+        reader.open(new ExecutionContext());
+
+        assertThat(readAll(reader)).containsExactly(first, second, third);
+        verify(opportunityRepository).findUnscoredPage("AI", UnscoredOpportunityItemReader.NULL_POSTED_DATE, second.getId(), 2);
+        // Short second page: no extra query
+        verify(opportunityRepository, times(2)).findUnscoredPage(eq("AI"), any(), any(), anyInt());
+    }
+
+    @Test
+    void shouldRestartAfterCheckpointedKey() {
+        Opportunity first = opportunity(LocalDate.of(2025, 3, 2));
+        when(opportunityRepository.findUnscoredPage(eq("AI"), any(), any(), eq(10)))
+                .thenReturn(List.of(first))
+                .thenReturn(List.of());
+
+        UnscoredOpportunityItemReader firstRun = new UnscoredOpportunityItemReader(opportunityRepository, "AI", 10);
+        ExecutionContext executionContext = new ExecutionContext();
+        firstRun.open(executionContext);
+        firstRun.read();
+        firstRun.update(executionContext);
+        firstRun.close();
+
+        UnscoredOpportunityItemReader restarted = new UnscoredOpportunityItemReader(opportunityRepository, "AI", 10);
+        restarted.open(executionContext);
+
+        assertThat(restarted.read()).isNull();
+        verify(opportunityRepository).findUnscoredPage("AI", first.getPostedDate(), first.getId(), 10);
+    }
+
+    @Test
+    void shouldReadOnlyOpportunitiesPassingGate() {
+        Opportunity first = opportunity(LocalDate.of(2025, 3, 2));
+        BigDecimal threshold = BigDecimal.valueOf(40);
+        when(opportunityRepository.findUnscoredPageWithMinimumScore(eq("AI"), eq("HEURISTIC"), eq(threshold), any(), any(), eq(10)))
+                .thenReturn(List.of(first));
+
+        UnscoredOpportunityItemReader reader =
+                new UnscoredOpportunityItemReader(opportunityRepository, "AI", "HEURISTIC", threshold, 10);
+        reader.open(new ExecutionContext());
+
+        assertThat(readAll(reader)).containsExactly(first);
+        verify(opportunityRepository, never()).findUnscoredPage(any(), any(), any(), anyInt());
+    }
+
+    private List<Opportunity> readAll(UnscoredOpportunityItemReader reader) {
+        List<Opportunity> items = new ArrayList<>();
+        Opportunity item;
+        while ((item = reader.read()) != null) {
+            items.add(item);
+        }
+        return items;
+    }
+
+    private Opportunity opportunity(LocalDate postedDate) {
+        Opportunity opportunity = new Opportunity();
+        opportunity.setId(UUID.randomUUID());
+        opportunity.setPostedDate(postedDate);
+        return opportunity;
+    }
+}
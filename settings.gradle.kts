@@ -4,5 +4,6 @@ include(
     "athena-api",
     "athena-core",
     "athena-tasks",
-    "athena-common"
+    "athena-common",
+    "athena-benchmarks"
 )